@@ -0,0 +1,98 @@
+package com.nexus.user_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a batch lookup response in JSON, CBOR and Smile.
+ * The encoded size is reported next to each timing as the payloadBytes secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int batchSize;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private ResponseEnvelope response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+        List<UserBatchResponseDTO> users = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String id = String.format("674c8b3d1234567890%06x", i);
+            if (i % 10 == 9) {
+                users.add(new UserBatchResponseDTO(id, null, null));
+            } else {
+                UserBatchResponseDTO user = new UserBatchResponseDTO(id, "supplier" + i + "@example.com",
+                        i % 3 == 0 ? List.of("SUPPLIER", "FUNDER") : List.of("SUPPLIER"));
+                user.setFound(true);
+                users.add(user);
+            }
+        }
+        response = ResponseEnvelope.success("Batch user lookup completed", users);
+        encoded = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(response);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public JsonNode decode(PayloadSize size) throws Exception {
+        size.payloadBytes = encoded.length;
+        return mapper.readTree(encoded);
+    }
+
+    /**
+     * Encoded size of the response, reported as a secondary result of each benchmark (JMH resets aux
+     * counters after every setup, so the benchmark methods set it)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
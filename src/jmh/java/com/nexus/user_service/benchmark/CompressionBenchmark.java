@@ -0,0 +1,112 @@
+package com.nexus.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU cost of compressing a batch lookup response per content coding and level.
+ * The uncompressed and compressed sizes are reported next to each timing as the jsonBytes and
+ * compressedBytes secondary results, to weigh CPU against bytes on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int batchSize;
+
+    @Param({"gzip", "deflate"})
+    private String coding;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        List<UserBatchResponseDTO> users = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String id = String.format("674c8b3d1234567890%06x", i);
+            if (i % 10 == 9) {
+                users.add(new UserBatchResponseDTO(id, null, null));
+            } else {
+                UserBatchResponseDTO user = new UserBatchResponseDTO(id, "supplier" + i + "@example.com",
+                        i % 3 == 0 ? List.of("SUPPLIER", "FUNDER") : List.of("SUPPLIER"));
+                user.setFound(true);
+                users.add(user);
+            }
+        }
+        json = mapper.writeValueAsBytes(ResponseEnvelope.success("Batch user lookup completed", users));
+    }
+
+    @Benchmark
+    public byte[] compress(PayloadSize size) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        Deflater deflater = null;
+        OutputStream out;
+        if (coding.equals("gzip")) {
+            out = new GZIPOutputStream(bytes, 8192) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        } else {
+            deflater = new Deflater(level);
+            out = new DeflaterOutputStream(bytes, deflater, 8192);
+        }
+        try {
+            out.write(json);
+            out.close();
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        byte[] compressed = bytes.toByteArray();
+        size.jsonBytes = json.length;
+        size.compressedBytes = compressed.length;
+        return compressed;
+    }
+
+    /**
+     * Uncompressed and compressed response sizes, reported as secondary results of the benchmark (JMH
+     * resets aux counters after every setup, so the benchmark method sets them)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long jsonBytes;
+        public long compressedBytes;
+    }
+}
@@ -0,0 +1,113 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.dto.request.UserCreateRequestDTO;
+import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
+import com.nexus.user_service.dto.response.UserListResponseDTO;
+import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.utils.MapperUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping on the create, detail, list, update and sparse-fieldset paths.
+ * Funding request IDs in the update request are linked by UserServiceImpl, not the mapper, so they cost nothing here.
+ * The clock variants read the time once from a Clock as UserServiceImpl does; newUser is the empty entity
+ * the mapping converter instantiates for every loaded document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperUtilsBenchmark {
+
+    private UserCreateRequestDTO createRequest;
+    private UserUpdateRequestDTO updateRequest;
+    private User user;
+    private List<User> page;
+    private Set<String> fields;
+    private Clock clock;
+
+    @Setup
+    public void setUp() {
+        createRequest = new UserCreateRequestDTO("John Doe", "John.Doe@Example.com ", "Sup3r-Secret!Pass",
+                List.of("SUPPLIER", "FUNDER"), new BigDecimal("1000.00"));
+        user = newUser("674c8b3d1234567890abcdef");
+        updateRequest = new UserUpdateRequestDTO("John  Doe", "john.doe@example.com", null, List.of("fund-001", "fund-003"));
+        page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(newUser(String.format("674c8b3d1234567890%06x", i)));
+        }
+        fields = new LinkedHashSet<>(List.of("id", "name", "walletBalance"));
+        clock = Clock.systemDefaultZone();
+    }
+
+    private static User newUser(String id) {
+        User user = new User("John Doe", "john.doe@example.com", "hash", new ArrayList<>(List.of("SUPPLIER", "FUNDER")));
+        user.setId(id);
+        user.setWalletBalance(new BigDecimal("1000.00"));
+        return user;
+    }
+
+    @Benchmark
+    public User toUser() {
+        return MapperUtils.toUser(createRequest);
+    }
+
+    @Benchmark
+    public User toUserWithClock() {
+        return MapperUtils.toUser(createRequest, LocalDateTime.now(clock));
+    }
+
+    @Benchmark
+    public User newUser() {
+        return new User();
+    }
+
+    @Benchmark
+    public UserResponseDTO toUserDetailResponseDTO() {
+        return MapperUtils.toUserDetailResponseDTO(user);
+    }
+
+    @Benchmark
+    public List<UserListResponseDTO> toUserListResponseDTOs() {
+        return MapperUtils.toUserListResponseDTOs(page);
+    }
+
+    @Benchmark
+    public User updateUserFromDTO() {
+        MapperUtils.updateUserFromDTO(user, updateRequest);
+        return user;
+    }
+
+    @Benchmark
+    public User updateUserFromDTOWithClock() {
+        MapperUtils.updateUserFromDTO(user, updateRequest, LocalDateTime.now(clock));
+        return user;
+    }
+
+    @Benchmark
+    public Map<String, Object> toUserFieldMap() {
+        return MapperUtils.toUserFieldMap(user, fields);
+    }
+}
@@ -0,0 +1,58 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.utils.PasswordUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing on the create and authenticate paths, plus the strength check on create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordUtilsBenchmark {
+
+    private String password;
+    private String storedHash;
+    private String wrongPassword;
+
+    @Setup
+    public void setUp() {
+        password = "Sup3r-Secret!Pass";
+        storedHash = PasswordUtils.hashPassword(password);
+        wrongPassword = "Sup3r-Secret!Pasz";
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtils.hashPassword(password);
+    }
+
+    @Benchmark
+    public boolean verifyPasswordMatch() {
+        return PasswordUtils.verifyPassword(password, storedHash);
+    }
+
+    @Benchmark
+    public boolean verifyPasswordMismatch() {
+        return PasswordUtils.verifyPassword(wrongPassword, storedHash);
+    }
+
+    @Benchmark
+    public boolean isValidPassword() {
+        return PasswordUtils.isValidPassword(password);
+    }
+}
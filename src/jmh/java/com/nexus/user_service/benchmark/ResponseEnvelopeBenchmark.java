@@ -0,0 +1,65 @@
+package com.nexus.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.utils.ResponseUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building and serialising the legacy map response against the typed envelope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseEnvelopeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserResponseDTO user;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        user = new UserResponseDTO("674c8b3d1234567890abcdef", "John Doe", "john.doe@example.com",
+                List.of("SUPPLIER", "FUNDER"), new BigDecimal("1000.00"),
+                LocalDateTime.now().minusDays(3), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] mapSuccess() throws Exception {
+        return objectMapper.writeValueAsBytes(ResponseUtils.success("User retrieved successfully", user));
+    }
+
+    @Benchmark
+    public byte[] envelopeSuccess() throws Exception {
+        return objectMapper.writeValueAsBytes(ResponseEnvelope.success("User retrieved successfully", user));
+    }
+
+    @Benchmark
+    public byte[] mapNotFound() throws Exception {
+        return objectMapper.writeValueAsBytes(ResponseUtils.notFound("User"));
+    }
+
+    @Benchmark
+    public byte[] envelopeNotFound() throws Exception {
+        return objectMapper.writeValueAsBytes(ResponseEnvelope.notFound("User"));
+    }
+}
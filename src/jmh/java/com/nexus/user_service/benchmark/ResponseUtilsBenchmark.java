@@ -0,0 +1,71 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.utils.ResponseUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the map-based responses (without serialisation; see ResponseEnvelopeBenchmark for the
+ * serialised comparison with the typed envelope).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseUtilsBenchmark {
+
+    private UserResponseDTO user;
+    private List<UserResponseDTO> page;
+    private Map<String, String> validationErrors;
+
+    @Setup
+    public void setUp() {
+        user = new UserResponseDTO("674c8b3d1234567890abcdef", "John Doe", "john.doe@example.com",
+                List.of("SUPPLIER", "FUNDER"), new BigDecimal("1000.00"),
+                LocalDateTime.now().minusDays(3), LocalDateTime.now());
+        page = List.of(user, user, user, user, user, user, user, user, user, user);
+        validationErrors = Map.of("email", "Invalid email format", "name", "Name is required");
+    }
+
+    @Benchmark
+    public Map<String, Object> success() {
+        return ResponseUtils.success("User retrieved successfully", user);
+    }
+
+    @Benchmark
+    public Map<String, Object> error() {
+        return ResponseUtils.error("Invalid user ID format");
+    }
+
+    @Benchmark
+    public Map<String, Object> notFound() {
+        return ResponseUtils.notFound("User");
+    }
+
+    @Benchmark
+    public Map<String, Object> validationError() {
+        return ResponseUtils.validationError(validationErrors);
+    }
+
+    @Benchmark
+    public Map<String, Object> paginated() {
+        return ResponseUtils.paginated(page, 0, 10, 250);
+    }
+}
@@ -0,0 +1,109 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.config.MongoConversionsConfig;
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.repository.UserCodec;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode throughput of a stored user: BSON to Document to entity through Spring Data's MappingMongoConverter
+ * (what the repository does by default) against UserCodec decoding the same bytes straight into the entity.
+ * "full" is a whole user document, "sparse" the id/email/roles projection used by the batch lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserCodecBenchmark {
+
+    @Param({"full", "sparse"})
+    private String shape;
+
+    private MappingMongoConverter converter;
+    private DocumentCodec documentCodec;
+    private UserCodec userCodec;
+    private byte[] bson;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoConversionsConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        documentCodec = new DocumentCodec();
+        userCodec = new UserCodec();
+
+        User user = new User("Supplier One", "supplier1@example.com", "$2a$10$abcdefghijklmnopqrstuvwxyz0123456789ABCDEFGHIJKLMNOPQ",
+            List.of("SUPPLIER", "FUNDER"));
+        user.setId("674c8b3d1234567890abcdef");
+        user.setWalletBalance(new BigDecimal("1250.75"));
+        List<String> fundingRequestIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fundingRequestIds.add(String.format("674c8b3d12345678900000%02x", i));
+        }
+        user.setFundingRequestIds(fundingRequestIds);
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        user.setUpdatedAt(LocalDateTime.of(2025, 1, 16, 8, 0));
+
+        // Written by the converter, so both paths read the layout that is actually stored
+        Document document = new Document();
+        converter.write(user, document);
+        if (shape.equals("sparse")) {
+            Document projected = new Document("_id", document.get("_id"));
+            projected.put("email", document.get("email"));
+            projected.put("roles", document.get("roles"));
+            document = projected;
+        }
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        bson = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public User converter() {
+        Document document = documentCodec.decode(reader(), DecoderContext.builder().build());
+        return converter.read(User.class, document);
+    }
+
+    @Benchmark
+    public User codec() {
+        return userCodec.decode(reader(), DecoderContext.builder().build());
+    }
+
+    private BsonBinaryReader reader() {
+        return new BsonBinaryReader(ByteBuffer.wrap(bson));
+    }
+}
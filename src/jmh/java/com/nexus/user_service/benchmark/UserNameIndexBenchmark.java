@@ -0,0 +1,83 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.repository.InMemoryUserRepository;
+import com.nexus.user_service.service.UserNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one name search page as the user base grows: UserNameIndex against a substring scan over every
+ * name (what the unanchored regex of findByNameContainingIgnoreCase costs Mongo, here on the in-memory
+ * repository). "rare" matches a fixed 20 users whatever the size, so the index stays flat while the scan
+ * grows linearly; "common" matches a share of all users, so both grow, the index far more slowly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserNameIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"james", "mary", "john", "patricia", "robert", "jennifer",
+        "michael", "linda", "william", "elizabeth", "david", "barbara", "richard", "susan", "joseph", "jessica"};
+    private static final String[] LAST_NAMES = {"smith", "johnson", "williams", "brown", "jones", "garcia",
+        "miller", "davis", "rodriguez", "martinez", "hernandez", "lopez", "gonzalez", "wilson", "anderson"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int users;
+
+    @Param({"rare", "common"})
+    private String query;
+
+    private InMemoryUserRepository repository;
+    private UserNameIndex index;
+    private String text;
+
+    @Setup
+    @SuppressWarnings("deprecation")
+    public void setUp() {
+        repository = new InMemoryUserRepository();
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < users; i++) {
+            String name = i < 20
+                ? "Quintessa Marlowe " + i
+                : FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                    + " " + Integer.toString(random.nextInt(1 << 20), 36);
+            User user = new User(name, "user" + i + "@example.com", "hash", List.of("USER"));
+            user.setUpdatedAt(now);
+            repository.save(user);
+        }
+        index = new UserNameIndex(repository, Clock.systemUTC(), TimeUnit.HOURS.toMillis(1), 0);
+        text = query.equals("rare") ? "marlowe" : "smith";
+        index.search(text, 20, null);
+    }
+
+    @Benchmark
+    public List<UserNameIndex.Key> trigramIndex() {
+        return index.search(text, 20, null);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<User> substringScan() {
+        return repository.findByNameContainingIgnoreCase(text);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nexus.user_service.benchmark;
+
+import com.nexus.user_service.dto.request.UserCreateRequestDTO;
+import com.nexus.user_service.utils.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex email/name checks, input sanitising and the full create-request validation.
+ * Valid and invalid inputs are measured separately since a rejected regex match can backtrack further.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationUtilsBenchmark {
+
+    private String validEmail;
+    private String invalidEmail;
+    private String validName;
+    private String invalidName;
+    private String cleanInput;
+    private String dirtyInput;
+    private String userId;
+    private UserCreateRequestDTO createRequest;
+
+    @Setup
+    public void setUp() {
+        validEmail = "john.doe+invest@mail.example.com";
+        invalidEmail = "john.doe.investor.account.primary@mail";
+        validName = "Mary-Jane O'Connor";
+        invalidName = "Mary-Jane O'Connor 3rd";
+        cleanInput = "Mary-Jane O'Connor";
+        dirtyInput = "  <b>Mary-Jane</b>   \"O'Connor\" & co  ";
+        userId = "674c8b3d1234567890abcdef";
+        createRequest = new UserCreateRequestDTO("John Doe", "john.doe@example.com", "Sup3r-Secret!Pass",
+                List.of("SUPPLIER", "FUNDER"), new BigDecimal("1000.00"));
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return ValidationUtils.isValidEmail(validEmail);
+    }
+
+    @Benchmark
+    public boolean isValidEmailRejected() {
+        return ValidationUtils.isValidEmail(invalidEmail);
+    }
+
+    @Benchmark
+    public boolean isValidName() {
+        return ValidationUtils.isValidName(validName);
+    }
+
+    @Benchmark
+    public boolean isValidNameRejected() {
+        return ValidationUtils.isValidName(invalidName);
+    }
+
+    @Benchmark
+    public String sanitizeCleanInput() {
+        return ValidationUtils.sanitizeInput(cleanInput);
+    }
+
+    @Benchmark
+    public String sanitizeDirtyInput() {
+        return ValidationUtils.sanitizeInput(dirtyInput);
+    }
+
+    @Benchmark
+    public boolean isValidId() {
+        return ValidationUtils.isValidId(userId);
+    }
+
+    @Benchmark
+    public String validateUserCreateRequest() {
+        return ValidationUtils.validateUserCreateRequest(createRequest);
+    }
+}
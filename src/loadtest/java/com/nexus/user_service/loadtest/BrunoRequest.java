@@ -0,0 +1,90 @@
+package com.nexus.user_service.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Request template read from a Bruno (.bru) file: method, URL, headers and JSON body.
+ *
+ * Only the blocks the load generator needs are read (meta, the HTTP method block, headers, body:json);
+ * asserts, docs and settings are ignored. Blocks open with "name {" and close with "}" in column 0.
+ */
+public record BrunoRequest(String name, String method, String url, Map<String, String> headers, String body) {
+
+    private static final Pattern BLOCK_START = Pattern.compile("^([\\w:-]+) \\{$");
+    private static final List<String> METHODS = List.of("get", "post", "put", "patch", "delete");
+
+    /**
+     * Parse a .bru file
+     * @param file path of the .bru file
+     * @return request template
+     * @throws IOException if the file cannot be read
+     */
+    public static BrunoRequest parse(Path file) throws IOException {
+        Map<String, List<String>> blocks = new LinkedHashMap<>();
+        String current = null;
+        List<String> content = null;
+        for (String line : Files.readAllLines(file)) {
+            if (current == null) {
+                Matcher matcher = BLOCK_START.matcher(line);
+                if (matcher.matches()) {
+                    current = matcher.group(1);
+                    content = new ArrayList<>();
+                }
+            } else if (line.equals("}")) {
+                blocks.put(current, content);
+                current = null;
+            } else {
+                content.add(line);
+            }
+        }
+
+        String method = METHODS.stream()
+            .filter(blocks::containsKey)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No HTTP method block in " + file));
+        String name = keyValues(blocks.get("meta")).getOrDefault("name", file.getFileName().toString());
+        String url = keyValues(blocks.get(method)).get("url");
+        if (url == null) {
+            throw new IllegalArgumentException("No url in " + file);
+        }
+        List<String> bodyLines = blocks.get("body:json");
+        String body = bodyLines != null ? String.join("\n", bodyLines).trim() : null;
+        return new BrunoRequest(name, method.toUpperCase(Locale.ROOT), url, keyValues(blocks.get("headers")), body);
+    }
+
+    /**
+     * Scenario key of the request, the lower camel case of its name ("Get User by ID" becomes getUserById)
+     * @return scenario key
+     */
+    public String key() {
+        StringBuilder key = new StringBuilder();
+        for (String word : name.trim().split("\\s+")) {
+            String lower = word.toLowerCase(Locale.ROOT);
+            key.append(key.isEmpty() ? lower : Character.toUpperCase(lower.charAt(0)) + lower.substring(1));
+        }
+        return key.toString();
+    }
+
+    private static Map<String, String> keyValues(List<String> lines) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (lines == null) {
+            return values;
+        }
+        for (String line : lines) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                values.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        return values;
+    }
+}
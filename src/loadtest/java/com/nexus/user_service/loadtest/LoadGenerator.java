@@ -0,0 +1,362 @@
+package com.nexus.user_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Open-model load generator replaying the Bruno collection against a running service.
+ *
+ * Requests are issued at a fixed arrival rate regardless of how fast the service answers, and each
+ * latency is measured from the request's intended start time, so a stalled service shows up as queueing
+ * delay instead of a silently lower request rate (no coordinated omission). Each request picks a scenario
+ * from the weighted mix; scenarios are the .bru files (keyed by their lower camel case name, e.g.
+ * getUserById) plus batchLookup, which the collection does not contain.
+ *
+ * Requests intended during the warmup are sent but not recorded.
+ *
+ * Before the run, seed users are created through the API; hard-coded user IDs, emails and passwords in
+ * the templates are replaced with seed users so every request hits real data. Latencies are recorded per
+ * scenario in HdrHistograms, printed as a summary and written to out/scenario.hgrm (milliseconds).
+ *
+ * Options (--name=value): base-url, collection, rate (requests/s), duration, warmup (e.g. 60s, 2m),
+ * mix (key:weight,...), seed-users, max-in-flight, out.
+ */
+public class LoadGenerator {
+
+    private static final String DEFAULT_MIX = "getUserById:40,userValidation:15,getAllUsers:10,updateUser:10,"
+        + "batchLookup:10,createUser:5,walletDeposit:5,walletWithdraw:5";
+    private static final String PASSWORD = "Load-Test-Pass1!";
+    private static final String BATCH_LOOKUP = "batchLookup";
+    private static final int BATCH_SIZE = 20;
+    private static final Pattern OBJECT_ID = Pattern.compile("[0-9a-f]{24}");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long REPORT_INTERVAL_SECONDS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final String baseUrl;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicInteger createSequence = new AtomicInteger();
+
+    private record SeedUser(String id, String email) {
+    }
+
+    /**
+     * Per-scenario results; latencies are recorded in microseconds
+     */
+    private static class ScenarioStats {
+        final Recorder recorder = new Recorder(3);
+        final Histogram total = new Histogram(3);
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        final LongAdder dropped = new LongAdder();
+
+        void record(long latencyNanos, String outcome) {
+            recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+
+        synchronized Histogram drain() {
+            Histogram interval = recorder.getIntervalHistogram();
+            total.add(interval);
+            return interval;
+        }
+    }
+
+    LoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:3000");
+        Path collection = Path.of(options.getOrDefault("collection", "bruno-user-service"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "60s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        int seedUsers = Integer.parseInt(options.getOrDefault("seed-users", "100"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest"));
+
+        LoadGenerator generator = new LoadGenerator(baseUrl);
+        Map<String, BrunoRequest> templates = loadCollection(collection);
+        for (String key : mix.keySet()) {
+            if (!key.equals(BATCH_LOOKUP) && !templates.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown scenario: " + key + ". Available: " + templates.keySet() + " and " + BATCH_LOOKUP);
+            }
+        }
+        System.out.printf("Seeding %d users against %s%n", seedUsers, baseUrl);
+        List<SeedUser> users = generator.seed(templates.get("createUser"), seedUsers);
+        System.out.printf("Running %.0f req/s for %s (+%s warmup), mix %s%n", rate, duration, warmup, mix);
+        Map<String, ScenarioStats> stats = generator.run(templates, mix, users, rate, warmup, duration, maxInFlight);
+        report(stats, duration, out);
+    }
+
+    private static Map<String, BrunoRequest> loadCollection(Path collection) throws IOException {
+        Map<String, BrunoRequest> templates = new TreeMap<>();
+        try (Stream<Path> files = Files.list(collection)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".bru")).toList()) {
+                BrunoRequest request = BrunoRequest.parse(file);
+                templates.put(request.key(), request);
+            }
+        }
+        return templates;
+    }
+
+    private List<SeedUser> seed(BrunoRequest createTemplate, int count) throws IOException, InterruptedException {
+        if (createTemplate == null) {
+            throw new IllegalArgumentException("The collection has no Create User request to seed users with");
+        }
+        List<SeedUser> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String email = "load-" + runId + "-seed-" + i + "@example.com";
+            HttpResponse<String> response = client.send(createRequest(createTemplate, email), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed - Status: " + response.statusCode() + ", Body: " + response.body());
+            }
+            users.add(new SeedUser(objectMapper.readTree(response.body()).path("data").path("id").asText(), email));
+        }
+        return users;
+    }
+
+    private Map<String, ScenarioStats> run(Map<String, BrunoRequest> templates, Map<String, Integer> mix, List<SeedUser> users,
+                                           double rate, Duration warmup, Duration duration, int maxInFlight) throws InterruptedException {
+        Map<String, ScenarioStats> stats = new TreeMap<>();
+        mix.keySet().forEach(key -> stats.put(key, new ScenarioStats()));
+        String[] keys = mix.keySet().toArray(String[]::new);
+        int[] cumulativeWeights = new int[keys.length];
+        int totalWeight = 0;
+        for (int i = 0; i < keys.length; i++) {
+            totalWeight += mix.get(keys[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> printInterval(stats, inFlight.get(), System.nanoTime() - start),
+            REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended - end >= 0) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (cumulativeWeights[index] <= pick) {
+                index++;
+            }
+            String key = keys[index];
+            ScenarioStats scenarioStats = stats.get(key);
+            if (inFlight.get() >= maxInFlight) {
+                if (intended - measureFrom >= 0) {
+                    scenarioStats.dropped.increment();
+                }
+                continue;
+            }
+            HttpRequest request = buildRequest(key, templates.get(key), users, random);
+            boolean measured = intended - measureFrom >= 0;
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                inFlight.decrementAndGet();
+                if (!measured) {
+                    return;
+                }
+                String outcome = error != null ? error.getClass().getSimpleName() : String.valueOf(response.statusCode());
+                scenarioStats.record(System.nanoTime() - intended, outcome);
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        reporter.shutdownNow();
+        reporter.awaitTermination(5, TimeUnit.SECONDS);
+        stats.values().forEach(ScenarioStats::drain);
+        return stats;
+    }
+
+    private HttpRequest buildRequest(String key, BrunoRequest template, List<SeedUser> users, ThreadLocalRandom random) {
+        SeedUser user = users.get(random.nextInt(users.size()));
+        if (key.equals(BATCH_LOOKUP)) {
+            List<String> ids = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                ids.add(users.get(random.nextInt(users.size())).id());
+            }
+            return jsonRequest("POST", baseUrl + "/api/v1/users/batch", Map.of(),
+                writeJson(objectMapper.createObjectNode().set("userIds", objectMapper.valueToTree(ids))));
+        }
+        if (key.equals("createUser")) {
+            return createRequest(template, "load-" + runId + "-" + createSequence.incrementAndGet() + "@example.com");
+        }
+        String url = OBJECT_ID.matcher(resolve(template.url())).replaceAll(user.id());
+        Map<String, String> headers = new LinkedHashMap<>();
+        template.headers().forEach((name, value) -> headers.put(name, OBJECT_ID.matcher(value).replaceAll(user.id())));
+        String body = template.body();
+        if (body != null) {
+            ObjectNode json = readJson(body);
+            if (json.has("email")) {
+                json.put("email", user.email());
+            }
+            if (json.has("password")) {
+                json.put("password", PASSWORD);
+            }
+            body = writeJson(json);
+        }
+        return jsonRequest(template.method(), url, headers, body);
+    }
+
+    private HttpRequest createRequest(BrunoRequest template, String email) {
+        ObjectNode json = readJson(template.body());
+        json.put("name", "Load User");
+        json.put("email", email);
+        json.put("password", PASSWORD);
+        return jsonRequest(template.method(), resolve(template.url()), template.headers(), writeJson(json));
+    }
+
+    private HttpRequest jsonRequest(String method, String url, Map<String, String> headers, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .method(method, body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+        headers.forEach(builder::setHeader);
+        if (body != null) {
+            builder.setHeader("Content-Type", "application/json");
+        }
+        return builder.build();
+    }
+
+    private String resolve(String url) {
+        return url.replace("{{baseUrl}}", baseUrl);
+    }
+
+    private ObjectNode readJson(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node.isObject() ? (ObjectNode) node : objectMapper.createObjectNode();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON body in Bruno request: " + e.getMessage(), e);
+        }
+    }
+
+    private String writeJson(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write JSON body: " + e.getMessage(), e);
+        }
+    }
+
+    private static void printInterval(Map<String, ScenarioStats> stats, int inFlight, long elapsedNanos) {
+        Histogram interval = new Histogram(3);
+        for (ScenarioStats scenarioStats : stats.values()) {
+            interval.add(scenarioStats.drain());
+        }
+        System.out.printf(Locale.ROOT, "[%4ds] %6.0f req/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  in-flight %d%n",
+            TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), interval.getTotalCount() / (double) REPORT_INTERVAL_SECONDS,
+            interval.getValueAtPercentile(50) / 1000.0, interval.getValueAtPercentile(99) / 1000.0,
+            interval.getMaxValue() / 1000.0, inFlight);
+    }
+
+    private static void report(Map<String, ScenarioStats> stats, Duration duration, Path out) throws IOException {
+        Files.createDirectories(out);
+        Histogram all = new Histogram(3);
+        System.out.printf("%n%-16s %8s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+            "scenario", "count", "req/s", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        for (Map.Entry<String, ScenarioStats> entry : stats.entrySet()) {
+            ScenarioStats scenarioStats = entry.getValue();
+            all.add(scenarioStats.total);
+            printRow(entry.getKey(), scenarioStats.total, duration, scenarioStats.dropped.sum(), new TreeMap<>(scenarioStats.outcomes).toString());
+            writeHistogram(scenarioStats.total, out.resolve(entry.getKey() + ".hgrm"));
+        }
+        printRow("all", all, duration, stats.values().stream().mapToLong(s -> s.dropped.sum()).sum(), "");
+        writeHistogram(all, out.resolve("all.hgrm"));
+        System.out.printf("%nPercentile distributions written to %s%n", out.toAbsolutePath());
+    }
+
+    private static void printRow(String name, Histogram histogram, Duration duration, long dropped, String outcomes) {
+        System.out.printf(Locale.ROOT, "%-16s %8d %8.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+            name, histogram.getTotalCount(), histogram.getTotalCount() / (double) duration.toSeconds(), dropped,
+            histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+            histogram.getMaxValue() / 1000.0, outcomes);
+    }
+
+    private static void writeHistogram(Histogram histogram, Path file) throws IOException {
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, 1000.0);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Empty scenario mix");
+        }
+        return weights;
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase(Locale.ROOT));
+    }
+}
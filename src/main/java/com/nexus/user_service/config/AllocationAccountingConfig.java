@@ -0,0 +1,28 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.filter.AllocationAccountingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers per-endpoint allocation accounting for the API (off by default)
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.allocation-accounting.enabled", havingValue = "true")
+public class AllocationAccountingConfig {
+    
+    @Bean
+    public FilterRegistrationBean<AllocationAccountingFilter> allocationAccountingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AllocationAccountingFilter> registration = new FilterRegistrationBean<>(
+            new AllocationAccountingFilter(meterRegistry));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setName("allocationAccountingFilter");
+        // Right after the logging context, so compression and Server-Timing are counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
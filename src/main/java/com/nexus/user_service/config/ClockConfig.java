@@ -0,0 +1,20 @@
+package com.nexus.user_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Clock used to stamp createdAt/updatedAt (replace the bean to pin time in tests)
+ */
+@Configuration
+public class ClockConfig {
+    
+    @Bean
+    @ConditionalOnMissingBean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
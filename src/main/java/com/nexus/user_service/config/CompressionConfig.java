@@ -0,0 +1,45 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.filter.ResponseCompressionFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Registers threshold based compression for the API (responses above the minimum size, gzip request bodies
+ * on the batch endpoints).
+ * Replaces the container's server.compression so that pre-compressed responses are never encoded twice.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+    
+    @Value("${user.compression.min-response-size:2048}")
+    private int minResponseSize;
+    
+    @Value("${user.compression.deflate-enabled:true}")
+    private boolean deflateEnabled;
+    
+    @Value("${user.compression.level:6}")
+    private int compressionLevel;
+    
+    @Value("${user.compression.max-inflated-request-size:10485760}")
+    private long maxInflatedRequestSize;
+    
+    @Value("${user.compression.inflated-request-paths:/api/v1/users/batch}")
+    private Set<String> inflatedRequestPaths;
+    
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter() {
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(
+            new ResponseCompressionFilter(minResponseSize, deflateEnabled, compressionLevel, maxInflatedRequestSize,
+                inflatedRequestPaths));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setName("responseCompressionFilter");
+        return registration;
+    }
+}
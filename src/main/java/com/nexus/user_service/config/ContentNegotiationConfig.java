@@ -0,0 +1,79 @@
+package com.nexus.user_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary content negotiation for service-to-service calls.
+ *
+ * Registers CBOR and Smile converters built from the application's Jackson configuration
+ * (same date handling and modules as JSON) and keeps them after the JSON converter, so
+ * JSON stays the default whenever the Accept header does not ask for a binary format.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        int position = converters.size();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                position = i + 1;
+                break;
+            }
+        }
+
+        converters.add(position, new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build()));
+        converters.add(position, new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+    }
+    
+    /**
+     * Check whether JSON is the negotiated format for an Accept header, for endpoints that write
+     * JSON bytes themselves instead of going through the message converters
+     * @param accept Accept header value
+     * @return true if JSON is acceptable and no binary format was asked for
+     */
+    public static boolean isJsonNegotiated(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            boolean acceptsJson = false;
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (!mediaType.isWildcardType() && (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)
+                        || mediaType.isCompatibleWith(APPLICATION_SMILE))) {
+                    return false;
+                }
+                acceptsJson |= mediaType.isCompatibleWith(MediaType.APPLICATION_JSON);
+            }
+            return acceptsJson;
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.filter.RequestLoggingContextFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the per-request logging context (MDC request/user id, trusted per-request DEBUG) ahead of
+ * every other filter, so all log lines of a request carry the same ids.
+ */
+@Configuration
+public class LoggingConfig {
+    
+    @Value("${logging.request-debug.token:}")
+    private String requestDebugToken;
+    
+    @Bean
+    public FilterRegistrationBean<RequestLoggingContextFilter> requestLoggingContextFilter() {
+        FilterRegistrationBean<RequestLoggingContextFilter> registration = new FilterRegistrationBean<>(
+            new RequestLoggingContextFilter(requestDebugToken));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setName("requestLoggingContextFilter");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
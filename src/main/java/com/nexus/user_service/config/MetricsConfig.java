@@ -0,0 +1,73 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.metrics.MongoCommandMetricsListener;
+import com.nexus.user_service.metrics.OutcomeServerRequestObservationConvention;
+import com.nexus.user_service.metrics.UserServiceMetricsAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Latency metrics for endpoints (http.server.requests), UserService methods (user.service.calls) and
+ * Mongo commands (mongodb.commands): percentile histograms plus SLO buckets, exported at /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Value("${user.metrics.slo:5ms,25ms,100ms,250ms,1s}")
+    private Duration[] serviceLevelObjectives;
+    
+    @Value("${user.metrics.max-expected:10s}")
+    private Duration maximumExpected;
+    
+    @Value("${user.mongo.slow-query-threshold-ms:100}")
+    private long slowQueryThresholdMillis;
+    
+    @Value("${user.mongo.slow-query-logs-per-minute:10}")
+    private int slowQueryLogsPerMinute;
+    
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MeterRegistry meterRegistry) {
+        MongoCommandMetricsListener listener = new MongoCommandMetricsListener(
+            meterRegistry, slowQueryThresholdMillis, slowQueryLogsPerMinute);
+        return builder -> builder.addCommandListener(listener);
+    }
+    
+    @Bean
+    public OutcomeServerRequestObservationConvention outcomeServerRequestObservationConvention() {
+        return new OutcomeServerRequestObservationConvention();
+    }
+    
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter() {
+        double[] slos = Arrays.stream(serviceLevelObjectives).mapToDouble(Duration::toNanos).toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!isLatencyTimer(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .serviceLevelObjectives(slos)
+                    .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                    .maximumExpectedValue((double) maximumExpected.toNanos())
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
+    
+    static boolean isLatencyTimer(String name) {
+        return name.equals("http.server.requests") || name.equals(UserServiceMetricsAspect.METRIC_NAME)
+            || name.equals(MongoCommandMetricsListener.METRIC_NAME);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nexus.user_service.config;
+
+import com.mongodb.MongoClientSettings;
+import com.nexus.user_service.repository.UserCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the hand-written User codec with the Mongo client (user.mongo.codec=direct, off by default)
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.mongo.codec", havingValue = "direct")
+public class MongoCodecConfig {
+    
+    @Bean
+    public MongoClientSettingsBuilderCustomizer userCodecCustomizer() {
+        // UserCodec first so MongoCollection<User> resolves to it; everything else keeps the driver defaults
+        return builder -> builder.codecRegistry(CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new UserCodec()),
+            MongoClientSettings.getDefaultCodecRegistry()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.repository.Decimal128Converters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+/**
+ * Custom Mongo conversions (picked up by the Spring Data MongoDB auto-configuration)
+ */
+@Configuration
+public class MongoConversionsConfig {
+    
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(Decimal128Converters.getConvertersToRegister());
+    }
+}
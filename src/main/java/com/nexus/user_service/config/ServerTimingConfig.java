@@ -0,0 +1,29 @@
+package com.nexus.user_service.config;
+
+import com.nexus.user_service.filter.ServerTimingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the Server-Timing phase breakdown for the API. Off by default: the header exposes internal
+ * timings to clients, and without the filter the phase probes reduce to a ThreadLocal read.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+    
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+            new ServerTimingFilter(meterRegistry));
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setName("serverTimingFilter");
+        // Inside the logging context and allocation filters, outside compression so the header precedes the compressed body
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -1,7 +1,10 @@
 package com.nexus.user_service.config;
 
+import com.nexus.user_service.filter.RequestLoggingContextFilter;
+import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
@@ -9,6 +12,16 @@ public class WebClientConfig {
     
     @Bean
     public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+        // Forward the request id so downstream (payment service) logs can be correlated with ours
+        return WebClient.builder()
+            .filter((request, next) -> {
+                String requestId = MDC.get(RequestLoggingContextFilter.MDC_REQUEST_ID);
+                if (requestId == null) {
+                    return next.exchange(request);
+                }
+                return next.exchange(ClientRequest.from(request)
+                    .header(RequestLoggingContextFilter.REQUEST_ID_HEADER, requestId)
+                    .build());
+            });
     }
 }
@@ -1,24 +1,43 @@
 package com.nexus.user_service.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.user_service.config.ContentNegotiationConfig;
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
 import com.nexus.user_service.dto.request.UserValidationRequestDTO;
 import com.nexus.user_service.dto.request.UserBatchRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
 import com.nexus.user_service.dto.response.UserListResponseDTO;
+import com.nexus.user_service.dto.response.UserSearchResponseDTO;
 import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.health.MongoPingHealthIndicator;
+import com.nexus.user_service.health.PaymentCircuitHealthIndicator;
+import com.nexus.user_service.jfr.UserLookupEvent;
 import com.nexus.user_service.model.User;
+import com.nexus.user_service.service.UserResponseCache;
 import com.nexus.user_service.service.UserService;
 import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.SampledLogger;
+import com.nexus.user_service.utils.TrigramUtils;
 import com.nexus.user_service.utils.ValidationUtils;
-import com.nexus.user_service.utils.ResponseUtils;
 import com.nexus.user_service.utils.MapperUtils;
+import com.nexus.user_service.utils.ETagUtils;
 import com.nexus.user_service.utils.ExceptionUtils;
+import com.nexus.user_service.utils.FieldSelectionUtils;
+import com.nexus.user_service.utils.RequestPhases;
+import com.nexus.user_service.utils.TimestampUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,9 +46,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Tag(name = "User Management", description = "User account management operations including creation, retrieval, updates, validation, and batch operations. Business Stakeholder: Customer Operations Team, Technical Owner: Backend Engineering Team")
 @RestController
@@ -39,9 +63,29 @@ public class UserController {
     
     private static final Logger logger = LoggerUtils.getLogger(UserController.class);
     
+    /** Hot-path detail lines: 1 in 100 calls per endpoint, at most 20 sampled calls per second */
+    private static final SampledLogger hotPathLogger = LoggerUtils.getSampledLogger(logger, 100, 20);
+    
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private UserResponseCache userResponseCache;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private static final int MAX_FUNDING_REQUEST_PAGE_SIZE = 100;
+    
+    private static final int MAX_SEARCH_LIMIT = 50;
+    
+    /** Absent with the in-memory profile */
+    @Autowired(required = false)
+    private MongoPingHealthIndicator mongoPingHealthIndicator;
+    
+    @Autowired
+    private PaymentCircuitHealthIndicator paymentCircuitHealthIndicator;
+    
     /**
      * Create a new user
      * POST /api/v1/users
@@ -58,8 +102,7 @@ public class UserController {
         @ApiResponse(responseCode = "400", description = "Invalid input data or validation error", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @PostMapping("/user")
-    public ResponseEntity<Map<String, Object>> createUser(@RequestBody UserCreateRequestDTO request) {
-        long startTime = System.currentTimeMillis();
+    public ResponseEntity<ResponseEnvelope> createUser(@RequestBody UserCreateRequestDTO request) {
         try {
             logger.info("User creation request received - Email: {}, Roles: {}, Initial wallet balance: {}", 
                 request.getEmail(), request.getRoles(), request.getWalletBalance());
@@ -69,30 +112,30 @@ public class UserController {
             String validationError = ValidationUtils.validateUserCreateRequest(request);
             if (validationError != null) {
                 logger.warn("User creation validation failed - Email: {}, Error: {}", request.getEmail(), validationError);
-                return ResponseEntity.badRequest().body(ResponseUtils.error(validationError));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(validationError));
             }
             
             // Validate email format
             if (!ValidationUtils.isValidEmail(request.getEmail())) {
                 logger.warn("Invalid email format provided - Email: {}", request.getEmail());
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid email format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid email format"));
             }
             
             logger.debug("Validation completed successfully for user creation");
             User user = userService.createUser(request);
             
+            long mapStart = RequestPhases.start();
             UserResponseDTO response = MapperUtils.toUserResponseDTO(user);
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.info("User created successfully - ID: {}, Email: {}, Roles: {}, Wallet Balance: {}, Execution time: {}ms", 
-                user.getId(), user.getEmail(), user.getRoles(), user.getWalletBalance(), executionTime);
+            RequestPhases.stop(RequestPhases.MAP, mapStart);
+            logger.info("User created successfully - ID: {}, Email: {}, Roles: {}, Wallet Balance: {}", 
+                user.getId(), user.getEmail(), user.getRoles(), user.getWalletBalance());
             
-            return ResponseEntity.status(HttpStatus.CREATED).body(ResponseUtils.success("User created successfully", response));
+            return ResponseEntity.status(HttpStatus.CREATED).body(ResponseEnvelope.success("User created successfully", response));
             
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("User creation failed - Email: {}, Error: {}, Execution time: {}ms", 
-                request.getEmail(), e.getMessage(), executionTime, e);
-            return ResponseEntity.badRequest().body(ResponseUtils.error(e.getMessage()));
+            logger.error("User creation failed - Email: {}, Error: {}", 
+                request.getEmail(), e.getMessage(), e);
+            return ResponseEntity.badRequest().body(ResponseEnvelope.error(e.getMessage()));
         }
     }
     
@@ -113,8 +156,7 @@ public class UserController {
         @ApiResponse(responseCode = "400", description = "Invalid input format", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @PostMapping("/auth/user/validate")
-    public ResponseEntity<Map<String, Object>> validateUser(@RequestBody UserValidationRequestDTO request) {
-        long startTime = System.currentTimeMillis();
+    public ResponseEntity<ResponseEnvelope> validateUser(@RequestBody UserValidationRequestDTO request) {
         try {
             logger.info("User validation request received - Email: {}", request.getEmail());
             
@@ -122,32 +164,30 @@ public class UserController {
             logger.debug("Starting validation for user validation request");
             if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
                 logger.warn("User validation failed - Email is required");
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Email is required"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Email is required"));
             }
             if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
                 logger.warn("User validation failed - Password is required");
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Password is required"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Password is required"));
             }
             
             // Validate email format
             if (!ValidationUtils.isValidEmail(request.getEmail())) {
                 logger.warn("User validation failed - Invalid email format: {}", request.getEmail());
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid email format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid email format"));
             }
             
             logger.debug("Input validation completed, proceeding with user credential verification");
             UserResponseDTO response = userService.validateUser(request);
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.info("User validation successful - Email: {}, User ID: {}, Execution time: {}ms", 
-                request.getEmail(), response.getId(), executionTime);
+            logger.info("User validation successful - Email: {}, User ID: {}", 
+                request.getEmail(), response.getId());
             
-            return ResponseEntity.ok(ResponseUtils.success("User validation successful", response));
+            return ResponseEntity.ok(ResponseEnvelope.success("User validation successful", response));
             
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.warn("User validation failed - Email: {}, Error: {}, Execution time: {}ms", 
-                request.getEmail(), e.getMessage(), executionTime);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ResponseUtils.unauthorized("Invalid credentials"));
+            logger.warn("User validation failed - Email: {}, Error: {}", 
+                request.getEmail(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ResponseEnvelope.unauthorized("Invalid credentials"));
         }
     }
     
@@ -165,23 +205,94 @@ public class UserController {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully", content = @Content(schema = @Schema(implementation = Map.class))),
         @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = Map.class)))
     })
-    @GetMapping("/users")
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
-        long startTime = System.currentTimeMillis();
+    @GetMapping(value = "/users", produces = {MediaType.APPLICATION_JSON_VALUE, ContentNegotiationConfig.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseEnvelope> getAllUsers(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse httpResponse) throws IOException {
         try {
             logger.info("Get all users request received");
             
+            // The list page is reused pre-serialised (and pre-compressed) until the next write
+            boolean cacheable = userResponseCache.isCacheable(accept);
+            if (cacheable) {
+                UserResponseCache.Entry cached = userResponseCache.getUserList();
+                if (cached != null) {
+                    logger.debug("User list served from cache");
+                    userResponseCache.write(cached, acceptEncoding, httpResponse);
+                    return null;
+                }
+            }
+            
+            long cacheStamp = userResponseCache.stamp();
             List<User> users = userService.getAllUsers();
+            long mapStart = RequestPhases.start();
             List<UserListResponseDTO> response = MapperUtils.toUserListResponseDTOs(users);
+            RequestPhases.stop(RequestPhases.MAP, mapStart);
+            
+            logger.info("Retrieved {} users successfully", users.size());
+            if (cacheable) {
+                userResponseCache.write(userResponseCache.putUserList(cacheStamp,
+                    ResponseEnvelope.success("Users retrieved successfully", response)), acceptEncoding, httpResponse);
+                return null;
+            }
+            return ResponseEntity.ok(ResponseEnvelope.success("Users retrieved successfully", response));
+            
+        } catch (RuntimeException e) {
+            logger.error("Failed to retrieve users - Error: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Search users by name
+     * GET /api/v1/users/search?q=jo&limit=20&cursor=...
+     * Response: UserSearchResponseDTO
+     */
+    @Operation(
+        summary = "Search Users By Name",
+        description = "Finds users whose name contains the query, ignoring case, accents and punctuation. Results are ranked (whole name, then name prefix, then word prefix, then anywhere; shorter names first) and paged with the returned cursor. Business Stakeholder: Customer Operations Team, Technical Owner: User Management Team, Use Case: Admin user lookup and support tooling",
+        tags = {"User Management"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "400", description = "Query too short, limit out of range or malformed cursor", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/users/search", produces = {MediaType.APPLICATION_JSON_VALUE, ContentNegotiationConfig.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseEnvelope> searchUsers(
+            @Parameter(description = "Text to find in user names (at least " + TrigramUtils.MIN_QUERY_LENGTH + " letters or digits)") @RequestParam String q,
+            @Parameter(description = "Maximum users per page (1-" + MAX_SEARCH_LIMIT + ")") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor) {
+        try {
+            if (hotPathLogger.sample("searchUsers")) {
+                logger.info("Search users request received - Query: {}, Limit: {}", q, limit);
+            }
             
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.info("Retrieved {} users successfully - Execution time: {}ms", users.size(), executionTime);
-            return ResponseEntity.ok(ResponseUtils.success("Users retrieved successfully", response));
+            // Validate query and limit
+            if (TrigramUtils.normalize(q).length() < TrigramUtils.MIN_QUERY_LENGTH) {
+                logger.warn("Search query too short: {}", q);
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(
+                    "Query must contain at least " + TrigramUtils.MIN_QUERY_LENGTH + " letters or digits"));
+            }
+            if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+                logger.warn("Invalid search limit: {}", limit);
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(
+                    "Limit must be between 1 and " + MAX_SEARCH_LIMIT));
+            }
+            
+            UserSearchResponseDTO response = userService.searchUsers(q, limit, cursor);
             
+            logger.debug("Search completed - Query: {}, Results: {}, More: {}", 
+                q, response.getUsers().size(), response.getNextCursor() != null);
+            return ResponseEntity.ok(ResponseEnvelope.success("Users retrieved successfully", response));
+            
+        } catch (ExceptionUtils.InvalidUserDataException e) {
+            logger.warn("Search users failed - Error: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ResponseEnvelope.error(e.getMessage()));
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("Failed to retrieve users - Error: {}, Execution time: {}ms", e.getMessage(), executionTime, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseUtils.error(e.getMessage()));
+            logger.error("Failed to search users - Query: {}, Error: {}", q, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
         }
     }
     
@@ -192,46 +303,187 @@ public class UserController {
      */
     @Operation(
         summary = "Get User by ID",
-        description = "Retrieves detailed user information by user ID including wallet balance and funding requests. Business Stakeholder: Customer Support Team, Technical Owner: User Management Team, Use Case: Profile viewing and customer support",
+        description = "Retrieves detailed user information by user ID including wallet balance. Funding requests are listed by GET /users/{id}/funding-requests. Business Stakeholder: Customer Support Team, Technical Owner: User Management Team, Use Case: Profile viewing and customer support",
         tags = {"User Management"}
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User retrieved successfully", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match matches the current ETag)"),
         @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(implementation = Map.class))),
         @ApiResponse(responseCode = "400", description = "Invalid user ID format", content = @Content(schema = @Schema(implementation = Map.class)))
     })
-    @GetMapping("/users/{id}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable String id) {
-        long startTime = System.currentTimeMillis();
+    @GetMapping(value = "/users/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, ContentNegotiationConfig.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseEnvelope> getUserById(
+            @PathVariable String id,
+            @Parameter(description = "Comma separated fields to return (id, name, email, roles, walletBalance, createdAt, updatedAt)")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse httpResponse) throws IOException {
+        UserLookupEvent lookupEvent = new UserLookupEvent();
+        lookupEvent.begin();
         try {
-            logger.info("Get user by ID request received - ID: {}", id);
+            boolean detail = hotPathLogger.sample("getUserById");
+            if (detail) {
+                logger.info("Get user by ID request received - ID: {}, Fields: {}", id, fields);
+            }
             
             // Validate ID
             if (!ValidationUtils.isValidId(id)) {
                 logger.warn("Invalid user ID format provided: {}", id);
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid user ID format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid user ID format"));
+            }
+            
+            // Sparse fieldset - only the selected fields are fetched and written
+            Set<String> selection = null;
+            if (fields != null) {
+                String fieldsError = FieldSelectionUtils.getFieldsValidationError(fields, FieldSelectionUtils.USER_DETAIL_FIELDS);
+                if (fieldsError != null) {
+                    logger.warn("Invalid fields parameter - ID: {}, Error: {}", id, fieldsError);
+                    return ResponseEntity.badRequest().body(ResponseEnvelope.error(fieldsError));
+                }
+                selection = FieldSelectionUtils.parseFields(fields, FieldSelectionUtils.USER_DETAIL_FIELDS);
+            }
+            
+            // Hot documents are answered from pre-serialised bytes (full JSON representation only)
+            boolean cacheable = selection == null && userResponseCache.isCacheable(accept);
+            if (cacheable) {
+                UserResponseCache.Entry cached = userResponseCache.get(id);
+                if (cached != null) {
+                    lookupEvent.cacheHit = true;
+                    lookupEvent.found = true;
+                    if (ETagUtils.matches(ifNoneMatch, cached.etag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                    logger.debug("User response served from cache - ID: {}", id);
+                    userResponseCache.write(cached, acceptEncoding, httpResponse);
+                    return null;
+                }
+            }
+            
+            // Conditional GET - freshness is checked against a version-only projection
+            if (ifNoneMatch != null) {
+                Optional<String> currentVersion = userService.getUserVersion(id);
+                if (currentVersion.isPresent()) {
+                    String etag = ETagUtils.toETag(currentVersion.get(), selection);
+                    if (ETagUtils.matches(ifNoneMatch, etag)) {
+                        lookupEvent.found = true;
+                        logger.debug("User not modified - ID: {}, ETag: {}", id, etag);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                    }
+                }
+            }
+            
+            if (selection != null) {
+                lookupEvent.sparse = true;
+                Set<String> projection = new LinkedHashSet<>(selection);
+                projection.add("version");
+                Optional<User> sparseUserOpt = userService.getUserById(id, projection);
+                if (sparseUserOpt.isEmpty()) {
+                    hotPathLogger.failure("getUserById");
+                    logger.warn("User not found - ID: {}", id);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseEnvelope.notFound("User"));
+                }
+                lookupEvent.found = true;
+                return ResponseEntity.ok()
+                    .eTag(ETagUtils.toETag(ETagUtils.versionOf(sparseUserOpt.get()), selection))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(ResponseEnvelope.success("User retrieved successfully", 
+                        MapperUtils.toUserFieldMap(sparseUserOpt.get(), selection)));
             }
             
             logger.debug("ID validation completed, fetching user from database");
+            long cacheStamp = userResponseCache.stamp();
             Optional<User> userOpt = userService.getUserById(id);
             
             if (userOpt.isPresent()) {
+                lookupEvent.found = true;
+                long mapStart = RequestPhases.start();
                 UserResponseDTO response = MapperUtils.toUserDetailResponseDTO(userOpt.get());
-                long executionTime = System.currentTimeMillis() - startTime;
-                logger.info("User retrieved successfully - ID: {}, Email: {}, Wallet Balance: {}, Execution time: {}ms", 
-                    userOpt.get().getId(), userOpt.get().getEmail(), userOpt.get().getWalletBalance(), executionTime);
-                return ResponseEntity.ok(ResponseUtils.success("User retrieved successfully", response));
+                RequestPhases.stop(RequestPhases.MAP, mapStart);
+                String etag = ETagUtils.toETag(ETagUtils.versionOf(userOpt.get()), null);
+                if (detail) {
+                    logger.info("User retrieved successfully - ID: {}, Email: {}, Wallet Balance: {}", 
+                        userOpt.get().getId(), userOpt.get().getEmail(), userOpt.get().getWalletBalance());
+                }
+                if (cacheable) {
+                    userResponseCache.write(userResponseCache.put(id, cacheStamp, userOpt.get().getVersion(), etag,
+                        ResponseEnvelope.success("User retrieved successfully", response)), acceptEncoding, httpResponse);
+                    return null;
+                }
+                return ResponseEntity.ok()
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(ResponseEnvelope.success("User retrieved successfully", response));
             } else {
-                long executionTime = System.currentTimeMillis() - startTime;
-                logger.warn("User not found - ID: {}, Execution time: {}ms", id, executionTime);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseUtils.notFound("User"));
+                hotPathLogger.failure("getUserById");
+                logger.warn("User not found - ID: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseEnvelope.notFound("User"));
             }
             
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("Failed to retrieve user by ID - ID: {}, Error: {}, Execution time: {}ms", 
-                id, e.getMessage(), executionTime, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseUtils.error(e.getMessage()));
+            hotPathLogger.failure("getUserById");
+            logger.error("Failed to retrieve user by ID - ID: {}, Error: {}", 
+                id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
+        } finally {
+            lookupEvent.end();
+            if (lookupEvent.shouldCommit()) {
+                lookupEvent.userId = id;
+                lookupEvent.commit();
+            }
+        }
+    }
+    
+    /**
+     * Get the funding requests linked to a user
+     * GET /api/v1/users/{id}/funding-requests?page=0&size=20
+     * Response: FundingRequestPageResponseDTO
+     */
+    @Operation(
+        summary = "Get User Funding Requests",
+        description = "Retrieves a page of the funding requests linked to a user, oldest first. Business Stakeholder: Funding Operations Team, Technical Owner: User Management Team, Use Case: Supplier funding history",
+        tags = {"User Management"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Funding requests retrieved successfully", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid user ID format or paging parameters", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @GetMapping(value = "/users/{id}/funding-requests", produces = {MediaType.APPLICATION_JSON_VALUE, ContentNegotiationConfig.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseEnvelope> getFundingRequests(
+            @PathVariable String id,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-" + MAX_FUNDING_REQUEST_PAGE_SIZE + ")") @RequestParam(defaultValue = "20") int size) {
+        try {
+            logger.debug("Get funding requests request received - ID: {}, Page: {}, Size: {}", id, page, size);
+            
+            // Validate ID
+            if (!ValidationUtils.isValidId(id)) {
+                logger.warn("Invalid user ID format provided: {}", id);
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid user ID format"));
+            }
+            
+            // Validate paging
+            if (page < 0 || size < 1 || size > MAX_FUNDING_REQUEST_PAGE_SIZE) {
+                logger.warn("Invalid paging parameters - ID: {}, Page: {}, Size: {}", id, page, size);
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(
+                    "Page must be 0 or greater and size between 1 and " + MAX_FUNDING_REQUEST_PAGE_SIZE));
+            }
+            
+            Optional<FundingRequestPageResponseDTO> response = userService.getFundingRequests(id, page, size);
+            if (response.isEmpty()) {
+                logger.warn("User not found - ID: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseEnvelope.notFound("User"));
+            }
+            
+            logger.debug("Funding requests retrieved - ID: {}, Page: {}, Total: {}", id, page, response.get().getTotal());
+            return ResponseEntity.ok(ResponseEnvelope.success("Funding requests retrieved successfully", response.get()));
+            
+        } catch (RuntimeException e) {
+            logger.error("Failed to retrieve funding requests - ID: {}, Error: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
         }
     }
     
@@ -249,22 +501,25 @@ public class UserController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User updated successfully", content = @Content(schema = @Schema(implementation = Map.class))),
         @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(implementation = Map.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input data or insufficient funds", content = @Content(schema = @Schema(implementation = Map.class)))
+        @ApiResponse(responseCode = "400", description = "Invalid input data or insufficient funds", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "409", description = "A concurrent write changed a field this update sets", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @PutMapping("/users/{id}")
-    public ResponseEntity<Map<String, Object>> updateUser(
+    public ResponseEntity<ResponseEnvelope> updateUser(
             @PathVariable String id, 
             @RequestBody UserUpdateRequestDTO request) {
-        long startTime = System.currentTimeMillis();
         try {
-            logger.info("User update request received - ID: {}, Email: {}, Wallet Balance: {}, Wallet Adjustment: {}, Funding Request IDs: {}", 
-                id, request.getEmail(), request.getWalletBalance(), request.getWalletAdjustment(), 
-                request.getFundingRequestIds() != null ? request.getFundingRequestIds().size() : 0);
+            boolean detail = hotPathLogger.sample("updateUser");
+            if (detail) {
+                logger.info("User update request received - ID: {}, Email: {}, Wallet Balance: {}, Wallet Adjustment: {}, Funding Request IDs: {}", 
+                    id, request.getEmail(), request.getWalletBalance(), request.getWalletAdjustment(), 
+                    request.getFundingRequestIds() != null ? request.getFundingRequestIds().size() : 0);
+            }
             
             // Validate ID
             if (!ValidationUtils.isValidId(id)) {
                 logger.warn("Invalid user ID format provided: {}", id);
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid user ID format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid user ID format"));
             }
             
             // Validate request
@@ -272,46 +527,53 @@ public class UserController {
             String validationError = ValidationUtils.validateUserUpdateRequest(request);
             if (validationError != null) {
                 logger.warn("User update validation failed - ID: {}, Error: {}", id, validationError);
-                return ResponseEntity.badRequest().body(ResponseUtils.error(validationError));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(validationError));
             }
             
             // Validate email format if provided
             if (request.getEmail() != null && !ValidationUtils.isValidEmail(request.getEmail())) {
                 logger.warn("Invalid email format in update request - ID: {}, Email: {}", id, request.getEmail());
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid email format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid email format"));
             }
             
             // Log wallet adjustment details if present
-            if (request.getWalletAdjustment() != null) {
+            if (detail && request.getWalletAdjustment() != null) {
                 logger.info("Wallet adjustment requested - User ID: {}, Adjustment amount: {}", 
                     id, request.getWalletAdjustment());
             }
             
             logger.debug("Validation completed, proceeding with user update");
             User updatedUser = userService.updateUser(id, request);
+            long mapStart = RequestPhases.start();
             UserResponseDTO response = MapperUtils.toUserResponseDTO(updatedUser);
+            RequestPhases.stop(RequestPhases.MAP, mapStart);
             
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.info("User updated successfully - ID: {}, Email: {}, Wallet Balance: {}, Funding Requests: {}, Execution time: {}ms", 
-                updatedUser.getId(), updatedUser.getEmail(), updatedUser.getWalletBalance(), 
-                updatedUser.getFundingRequestIds().size(), executionTime);
+            if (detail) {
+                logger.info("User updated successfully - ID: {}, Email: {}, Wallet Balance: {}", 
+                    updatedUser.getId(), updatedUser.getEmail(), updatedUser.getWalletBalance());
+            }
             
-            return ResponseEntity.ok(ResponseUtils.success("User updated successfully", response));
+            return ResponseEntity.ok(ResponseEnvelope.success("User updated successfully", response));
             
         } catch (ExceptionUtils.InsufficientFundsException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.warn("Wallet operation failed due to insufficient funds - User ID: {}, Error: {}, Execution time: {}ms", 
-                id, e.getMessage(), executionTime);
-            return ResponseEntity.badRequest().body(ResponseUtils.error(e.getMessage()));
+            hotPathLogger.failure("updateUser");
+            logger.warn("Wallet operation failed due to insufficient funds - User ID: {}, Error: {}", 
+                id, e.getMessage());
+            return ResponseEntity.badRequest().body(ResponseEnvelope.error(e.getMessage()));
+        } catch (ExceptionUtils.UpdateConflictException e) {
+            hotPathLogger.failure("updateUser");
+            logger.warn("User update conflicted with a concurrent write - ID: {}, Current version: {}", 
+                id, e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ResponseEnvelope.error(e.getMessage()));
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("User update failed - ID: {}, Error: {}, Execution time: {}ms", 
-                id, e.getMessage(), executionTime, e);
+            hotPathLogger.failure("updateUser");
+            logger.error("User update failed - ID: {}, Error: {}", 
+                id, e.getMessage(), e);
             
             if (e.getMessage().contains("not found")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseUtils.notFound("User"));
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseEnvelope.notFound("User"));
             } else {
-                return ResponseEntity.badRequest().body(ResponseUtils.error(e.getMessage()));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error(e.getMessage()));
             }
         }
     }
@@ -333,39 +595,35 @@ public class UserController {
         @ApiResponse(responseCode = "500", description = "Failed to delete user", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @DeleteMapping("/users/{id}")
-    public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable String id) {
-        long startTime = System.currentTimeMillis();
+    public ResponseEntity<ResponseEnvelope> deleteUser(@PathVariable String id) {
         try {
             logger.info("Delete user request received - ID: {}", id);
             
             // Validate ID
             if (!ValidationUtils.isValidId(id)) {
                 logger.warn("Invalid user ID format provided for deletion: {}", id);
-                return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid user ID format"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid user ID format"));
             }
             
             logger.debug("ID validation completed, proceeding with user deletion");
             boolean deleted = userService.deleteUser(id);
             
             if (deleted) {
-                long executionTime = System.currentTimeMillis() - startTime;
-                logger.info("User deleted successfully - ID: {}, Execution time: {}ms", id, executionTime);
-                return ResponseEntity.ok(ResponseUtils.deleted("User"));
+                logger.info("User deleted successfully - ID: {}", id);
+                return ResponseEntity.ok(ResponseEnvelope.deleted("User"));
             } else {
-                long executionTime = System.currentTimeMillis() - startTime;
-                logger.error("Failed to delete user - ID: {}, Execution time: {}ms", id, executionTime);
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseUtils.error("Failed to delete user"));
+                logger.error("Failed to delete user - ID: {}", id);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error("Failed to delete user"));
             }
             
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("User deletion failed - ID: {}, Error: {}, Execution time: {}ms", 
-                id, e.getMessage(), executionTime, e);
+            logger.error("User deletion failed - ID: {}, Error: {}", 
+                id, e.getMessage(), e);
             
             if (e.getMessage().contains("not found")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseUtils.notFound("User"));
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseEnvelope.notFound("User"));
             } else {
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseUtils.error(e.getMessage()));
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
             }
         }
     }
@@ -378,7 +636,7 @@ public class UserController {
      */
     @Operation(
         summary = "Batch User Lookup",
-        description = "Retrieves multiple users by their IDs in a single optimized request. Returns user ID, email, and roles for found users, null values for not found users. Business Stakeholder: Integration Team, Technical Owner: Performance Engineering Team, Use Case: Bulk user data retrieval for microservice communication",
+        description = "Retrieves multiple users by their IDs in a single optimized request. Returns user ID, email, and roles for found users, null values for not found users. Supports JSON (default), CBOR and Smile responses via the Accept header. Business Stakeholder: Integration Team, Technical Owner: Performance Engineering Team, Use Case: Bulk user data retrieval for microservice communication",
         tags = {"User Management"}
     )
     @ApiResponses(value = {
@@ -386,67 +644,155 @@ public class UserController {
         @ApiResponse(responseCode = "400", description = "Invalid input or user ID format", content = @Content(schema = @Schema(implementation = Map.class))),
         @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = Map.class)))
     })
-    @PostMapping("/users/batch")
-    public ResponseEntity<Map<String, Object>> getUsersBatch(@RequestBody UserBatchRequestDTO request) {
-        long startTime = System.currentTimeMillis();
+    @PostMapping(value = "/users/batch", produces = {MediaType.APPLICATION_JSON_VALUE, ContentNegotiationConfig.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ResponseEnvelope> getUsersBatch(
+            @RequestBody UserBatchRequestDTO request,
+            @Parameter(description = "Comma separated fields to return per entry (id, email, roles)")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Write entries to the response as they are resolved instead of buffering the full list (JSON only)")
+            @RequestParam(defaultValue = "false") boolean stream,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) HttpServletResponse httpResponse) throws IOException {
         try {
-            logger.info("Batch user lookup request received - User IDs count: {}", 
-                request.getUserIds() != null ? request.getUserIds().size() : 0);
+            boolean detail = hotPathLogger.sample("getUsersBatch");
+            if (detail) {
+                logger.info("Batch user lookup request received - User IDs count: {}", 
+                    request.getUserIds() != null ? request.getUserIds().size() : 0);
+            }
             
             // Validate request
             if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
                 logger.warn("Batch user lookup failed - No user IDs provided");
-                return ResponseEntity.badRequest().body(ResponseUtils.error("User IDs are required"));
+                return ResponseEntity.badRequest().body(ResponseEnvelope.error("User IDs are required"));
             }
             
             // Validate each user ID format
             for (String userId : request.getUserIds()) {
                 if (!ValidationUtils.isValidId(userId)) {
                     logger.warn("Invalid user ID format in batch request: {}", userId);
-                    return ResponseEntity.badRequest().body(ResponseUtils.error("Invalid user ID format: " + userId));
+                    return ResponseEntity.badRequest().body(ResponseEnvelope.error("Invalid user ID format: " + userId));
+                }
+            }
+            
+            Set<String> selection = null;
+            if (fields != null) {
+                String fieldsError = FieldSelectionUtils.getFieldsValidationError(fields, FieldSelectionUtils.USER_BATCH_FIELDS);
+                if (fieldsError != null) {
+                    logger.warn("Invalid fields parameter in batch request: {}", fieldsError);
+                    return ResponseEntity.badRequest().body(ResponseEnvelope.error(fieldsError));
                 }
+                selection = FieldSelectionUtils.parseFields(fields, FieldSelectionUtils.USER_BATCH_FIELDS);
             }
             
             logger.debug("Input validation completed, proceeding with batch user lookup");
-            List<UserBatchResponseDTO> response = userService.getUsersBatch(request.getUserIds());
+            if (stream && ContentNegotiationConfig.isJsonNegotiated(accept)) {
+                return streamUsersBatch(request, selection, httpResponse, detail);
+            }
             
-            long executionTime = System.currentTimeMillis() - startTime;
-            long foundCount = response.stream().filter(user -> user.getEmail() != null).count();
-            long notFoundCount = response.size() - foundCount;
+            List<UserBatchResponseDTO> response = selection == null && request.getKnownVersions() == null
+                ? userService.getUsersBatch(request.getUserIds())
+                : userService.getUsersBatch(request.getUserIds(), selection, request.getKnownVersions());
             
-            logger.info("Batch user lookup completed - Requested: {}, Found: {}, Not Found: {}, Execution time: {}ms", 
-                request.getUserIds().size(), foundCount, notFoundCount, executionTime);
+            if (detail) {
+                long foundCount = response.stream().filter(UserBatchResponseDTO::isFound).count();
+                long notFoundCount = response.size() - foundCount;
+                logger.info("Batch user lookup completed - Requested: {}, Found: {}, Not Found: {}, Unchanged: {}", 
+                    request.getUserIds().size(), foundCount, notFoundCount, request.getUserIds().size() - response.size());
+            }
             
-            return ResponseEntity.ok(ResponseUtils.success("Batch user lookup completed", response));
+            if (selection != null) {
+                long mapStart = RequestPhases.start();
+                List<Map<String, Object>> sparseResponse = new ArrayList<>(response.size());
+                for (UserBatchResponseDTO entry : response) {
+                    sparseResponse.add(MapperUtils.toBatchFieldMap(entry, selection));
+                }
+                RequestPhases.stop(RequestPhases.MAP, mapStart);
+                return ResponseEntity.ok(ResponseEnvelope.success("Batch user lookup completed", sparseResponse));
+            }
+            return ResponseEntity.ok(ResponseEnvelope.success("Batch user lookup completed", response));
             
         } catch (RuntimeException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            logger.error("Batch user lookup failed - Error: {}, Execution time: {}ms", 
-                e.getMessage(), executionTime, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseUtils.error(e.getMessage()));
+            hotPathLogger.failure("getUsersBatch");
+            logger.error("Batch user lookup failed - Error: {}", 
+                e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
         }
     }
     
     /**
-     * Health check endpoint
+     * Write a batch lookup as a JSON envelope while it is resolved, entry by entry in request order.
+     * Nothing reaches the client before the lookup query has completed, so failures up to that point
+     * still produce a regular error response.
+     */
+    private ResponseEntity<ResponseEnvelope> streamUsersBatch(UserBatchRequestDTO request, Set<String> selection,
+                                                              HttpServletResponse httpResponse,
+                                                              boolean detail) throws IOException {
+        httpResponse.setStatus(HttpServletResponse.SC_OK);
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator generator = objectMapper.createGenerator(httpResponse.getOutputStream());
+        UserService.BatchLookupSummary summary;
+        try {
+            // Envelope header first, so a client reading the stream sees the outcome before the entries
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "Batch user lookup completed");
+            generator.writeStringField("timestamp", TimestampUtils.currentTimestamp());
+            generator.writeArrayFieldStart("data");
+            summary = userService.streamUsersBatch(request.getUserIds(), selection, request.getKnownVersions(), entry -> {
+                try {
+                    generator.writeObject(selection != null ? MapperUtils.toBatchFieldMap(entry, selection) : entry);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+        } catch (RuntimeException e) {
+            if (httpResponse.isCommitted()) {
+                throw e;
+            }
+            httpResponse.resetBuffer();
+            hotPathLogger.failure("getUsersBatch");
+            logger.error("Streaming batch user lookup failed - Error: {}", 
+                e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ResponseEnvelope.error(e.getMessage()));
+        }
+        
+        if (detail) {
+            logger.info("Streaming batch user lookup completed - Requested: {}, Found: {}, Not Found: {}, Unchanged: {}", 
+                summary.requested(), summary.found(), summary.notFound(), summary.unchanged());
+        }
+        return null;
+    }
+    
+    /**
+     * Health check endpoint (readiness: MongoDB ping and payment circuit, both cached/cheap)
      * GET /api/v1/health
      */
     @Operation(
         summary = "Health Check",
-        description = "Service health status endpoint for monitoring and load balancer health checks. Business Stakeholder: DevOps Team, Technical Owner: Infrastructure Team, Use Case: Service monitoring and availability checks",
+        description = "Service readiness endpoint for monitoring and load balancer health checks. Returns 503 while MongoDB is unreachable or the payment service circuit is open. Business Stakeholder: DevOps Team, Technical Owner: Infrastructure Team, Use Case: Service monitoring and availability checks",
         tags = {"User Management"}
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Service is healthy", content = @Content(schema = @Schema(implementation = Map.class)))
+        @ApiResponse(responseCode = "200", description = "Service is healthy", content = @Content(schema = @Schema(implementation = Map.class))),
+        @ApiResponse(responseCode = "503", description = "Service is not ready", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> healthCheck() {
-        logger.info("Health check requested");
+    public ResponseEntity<ResponseEnvelope> healthCheck() {
+        Status mongoStatus = mongoPingHealthIndicator != null ? mongoPingHealthIndicator.health().getStatus() : Status.UNKNOWN;
+        Status paymentStatus = paymentCircuitHealthIndicator.health().getStatus();
+        logger.debug("Health check requested - MongoDB: {}, Payment circuit: {}", mongoStatus, paymentStatus);
+        if (Status.DOWN.equals(mongoStatus) || !Status.UP.equals(paymentStatus)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ResponseEnvelope.unavailable("Service is not ready - MongoDB: " + mongoStatus + ", Payment circuit: " + paymentStatus));
+        }
         Map<String, Object> healthData = Map.of(
             "status", "UP",
             "service", "user-service",
             "timestamp", System.currentTimeMillis()
         );
-        return ResponseEntity.ok(ResponseUtils.success("Service is healthy", healthData));
+        return ResponseEntity.ok(ResponseEnvelope.success("Service is healthy", healthData));
     }
 }
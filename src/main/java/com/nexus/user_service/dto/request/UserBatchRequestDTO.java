@@ -2,6 +2,7 @@ package com.nexus.user_service.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "Request DTO for batch user lookup operations")
 public class UserBatchRequestDTO {
@@ -9,6 +10,9 @@ public class UserBatchRequestDTO {
     @Schema(description = "List of user IDs to retrieve in batch", example = "[\"507f1f77bcf86cd799439011\", \"507f1f77bcf86cd799439012\"]", required = true)
     private List<String> userIds;
     
+    @Schema(description = "Optional map of user ID to the version the caller already holds; unchanged users are omitted from the response", example = "{\"507f1f77bcf86cd799439011\": 3}")
+    private Map<String, String> knownVersions;
+    
     // Default constructor
     public UserBatchRequestDTO() {}
     
@@ -26,10 +30,19 @@ public class UserBatchRequestDTO {
         this.userIds = userIds;
     }
     
+    public Map<String, String> getKnownVersions() {
+        return knownVersions;
+    }
+    
+    public void setKnownVersions(Map<String, String> knownVersions) {
+        this.knownVersions = knownVersions;
+    }
+    
     @Override
     public String toString() {
         return "UserBatchRequestDTO{" +
                 "userIds=" + userIds +
+                ", knownVersions=" + knownVersions +
                 '}';
     }
 }
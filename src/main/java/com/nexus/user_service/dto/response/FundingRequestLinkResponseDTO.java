@@ -0,0 +1,49 @@
+package com.nexus.user_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Funding request linked to a user")
+public class FundingRequestLinkResponseDTO {
+    
+    @Schema(description = "Funding request ID", example = "fund-001")
+    private String fundingRequestId;
+    
+    @Schema(description = "When the funding request was linked to the user")
+    private LocalDateTime createdAt;
+    
+    // Default constructor
+    public FundingRequestLinkResponseDTO() {}
+    
+    // Constructor with all fields
+    public FundingRequestLinkResponseDTO(String fundingRequestId, LocalDateTime createdAt) {
+        this.fundingRequestId = fundingRequestId;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public String getFundingRequestId() {
+        return fundingRequestId;
+    }
+    
+    public void setFundingRequestId(String fundingRequestId) {
+        this.fundingRequestId = fundingRequestId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "FundingRequestLinkResponseDTO{" +
+                "fundingRequestId='" + fundingRequestId + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.nexus.user_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of the funding requests linked to a user, oldest first")
+public class FundingRequestPageResponseDTO {
+    
+    @Schema(description = "Funding requests on this page")
+    private List<FundingRequestLinkResponseDTO> fundingRequests;
+    
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+    
+    @Schema(description = "Page size", example = "20")
+    private int size;
+    
+    @Schema(description = "Total number of funding requests linked to the user", example = "42")
+    private long total;
+    
+    @Schema(description = "Total number of pages", example = "3")
+    private int totalPages;
+    
+    // Default constructor
+    public FundingRequestPageResponseDTO() {}
+    
+    // Constructor with all fields
+    public FundingRequestPageResponseDTO(List<FundingRequestLinkResponseDTO> fundingRequests, int page, int size,
+                                         long total, int totalPages) {
+        this.fundingRequests = fundingRequests;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.totalPages = totalPages;
+    }
+    
+    // Getters and Setters
+    public List<FundingRequestLinkResponseDTO> getFundingRequests() {
+        return fundingRequests;
+    }
+    
+    public void setFundingRequests(List<FundingRequestLinkResponseDTO> fundingRequests) {
+        this.fundingRequests = fundingRequests;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public void setPage(int page) {
+        this.page = page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    public int getTotalPages() {
+        return totalPages;
+    }
+    
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+    
+    @Override
+    public String toString() {
+        return "FundingRequestPageResponseDTO{" +
+                "fundingRequests=" + fundingRequests +
+                ", page=" + page +
+                ", size=" + size +
+                ", total=" + total +
+                ", totalPages=" + totalPages +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package com.nexus.user_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.nexus.user_service.utils.TimestampUtils;
+
+/**
+ * Typed, immutable response envelope returned by the REST controllers.
+ *
+ * Serialises to the same JSON as the map-based {@code ResponseUtils} responses
+ * (same keys, same key order), without building a HashMap per request.
+ */
+public sealed interface ResponseEnvelope
+        permits ResponseEnvelope.Success, ResponseEnvelope.Message, ResponseEnvelope.Error {
+
+    boolean success();
+
+    String timestamp();
+
+    /**
+     * Successful response carrying a payload
+     * @param <T> data type
+     */
+    @JsonPropertyOrder({"data", "success", "message", "timestamp"})
+    record Success<T>(T data, boolean success, String message, String timestamp) implements ResponseEnvelope {
+    }
+
+    /**
+     * Successful response without payload (optionally flagged as a deletion)
+     */
+    @JsonPropertyOrder({"deleted", "success", "message", "timestamp"})
+    record Message(@JsonInclude(JsonInclude.Include.NON_NULL) Boolean deleted,
+                   boolean success, String message, String timestamp) implements ResponseEnvelope {
+    }
+
+    /**
+     * Error response (optionally carrying a machine readable code)
+     */
+    @JsonPropertyOrder({"code", "success", "error", "timestamp"})
+    record Error(@JsonInclude(JsonInclude.Include.NON_NULL) String code,
+                 boolean success, String error, String timestamp) implements ResponseEnvelope {
+    }
+
+    /**
+     * Create successful response with data
+     * @param message success message
+     * @param data response data
+     * @param <T> data type
+     * @return success envelope
+     */
+    static <T> Success<T> success(String message, T data) {
+        return new Success<>(data, true, message, TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create successful response without data
+     * @param message success message
+     * @return message envelope
+     */
+    static Message success(String message) {
+        return new Message(null, true, message, TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create deletion success response
+     * @param resource name of deleted resource
+     * @return message envelope flagged as deleted
+     */
+    static Message deleted(String resource) {
+        return new Message(true, true, resource + " deleted successfully", TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create error response
+     * @param message error message
+     * @return error envelope
+     */
+    static Error error(String message) {
+        return new Error(null, false, message, TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create unauthorized response with custom message
+     * @param message custom unauthorized message
+     * @return error envelope with UNAUTHORIZED code
+     */
+    static Error unauthorized(String message) {
+        return new Error("UNAUTHORIZED", false, message, TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create not found response
+     * @param resource name of the resource not found
+     * @return error envelope with NOT_FOUND code
+     */
+    static Error notFound(String resource) {
+        return new Error("NOT_FOUND", false, resource + " not found", TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create conflict response (for duplicate resources)
+     * @param message conflict message
+     * @return error envelope with CONFLICT code
+     */
+    static Error conflict(String message) {
+        return new Error("CONFLICT", false, message, TimestampUtils.currentTimestamp());
+    }
+
+    /**
+     * Create service unavailable response (dependency down, not ready for traffic)
+     * @param message unavailability message
+     * @return error envelope with SERVICE_UNAVAILABLE code
+     */
+    static Error unavailable(String message) {
+        return new Error("SERVICE_UNAVAILABLE", false, message, TimestampUtils.currentTimestamp());
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexus.user_service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 
@@ -14,6 +15,13 @@ public class UserBatchResponseDTO {
     
     @Schema(description = "User roles (null if user not found)", example = "[\"USER\", \"ADMIN\"]")
     private List<String> roles;
+    
+    @Schema(description = "Whether a user exists with the requested ID", example = "true")
+    private boolean found;
+    
+    @Schema(description = "Document version (only returned when the request carries knownVersions)", example = "3")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String version;
 
     // Default constructor
     public UserBatchResponseDTO() {}
@@ -50,12 +58,30 @@ public class UserBatchResponseDTO {
         this.roles = roles;
     }
 
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "UserBatchResponseDTO{" +
                 "id='" + id + '\'' +
                 ", email='" + email + '\'' +
                 ", roles=" + roles +
+                ", found=" + found +
+                ", version='" + version + '\'' +
                 '}';
     }
 }
@@ -11,7 +11,6 @@ public class UserResponseDTO {
     private String email;
     private List<String> roles;
     private BigDecimal walletBalance;
-    private List<String> fundingRequestIds;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -20,14 +19,12 @@ public class UserResponseDTO {
     
     // Constructor with all fields
     public UserResponseDTO(String id, String name, String email, List<String> roles, 
-                          BigDecimal walletBalance, List<String> fundingRequestIds,
-                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+                          BigDecimal walletBalance, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.email = email;
         this.roles = roles;
         this.walletBalance = walletBalance;
-        this.fundingRequestIds = fundingRequestIds;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -74,14 +71,6 @@ public class UserResponseDTO {
         this.walletBalance = walletBalance;
     }
     
-    public List<String> getFundingRequestIds() {
-        return fundingRequestIds;
-    }
-    
-    public void setFundingRequestIds(List<String> fundingRequestIds) {
-        this.fundingRequestIds = fundingRequestIds;
-    }
-    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -106,7 +95,6 @@ public class UserResponseDTO {
                 ", email='" + email + '\'' +
                 ", roles=" + roles +
                 ", walletBalance=" + walletBalance +
-                ", fundingRequestIds=" + fundingRequestIds +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
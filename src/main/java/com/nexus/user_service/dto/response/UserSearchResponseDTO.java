@@ -0,0 +1,49 @@
+package com.nexus.user_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of users whose name contains the search query, best matches first")
+public class UserSearchResponseDTO {
+    
+    @Schema(description = "Matching users on this page")
+    private List<UserListResponseDTO> users;
+    
+    @Schema(description = "Cursor for the next page, null on the last page", example = "MXw2NzRjOGIzZDEyMzQ1Njc4OTBhYmNkMTJ8YWxpY2Ugam9obnNvbg")
+    private String nextCursor;
+    
+    // Default constructor
+    public UserSearchResponseDTO() {}
+    
+    // Constructor with all fields
+    public UserSearchResponseDTO(List<UserListResponseDTO> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<UserListResponseDTO> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserListResponseDTO> users) {
+        this.users = users;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserSearchResponseDTO{" +
+                "users=" + users +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.utils.LoggerUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bytes allocated per request, published as http.server.allocation{method, uri}.
+ *
+ * Reads the request thread's allocation counter (com.sun.management.ThreadMXBean) before and after the
+ * filter chain. Only the request thread is counted: work handed to other threads (e.g. the payment
+ * service client's event loop) is not attributed. Passes requests through untouched when the JVM does
+ * not support per-thread allocation accounting.
+ */
+public class AllocationAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerUtils.getLogger(AllocationAccountingFilter.class);
+
+    public static final String METRIC_NAME = "http.server.allocation";
+
+    private final MeterRegistry meterRegistry;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final ConcurrentHashMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public AllocationAccountingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.threadMXBean = supportedThreadMXBean();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (threadMXBean == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            if (before >= 0 && allocated >= 0) {
+                summary(request).record(allocated);
+            }
+        }
+    }
+
+    private DistributionSummary summary(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        String key = method + ' ' + uri;
+        DistributionSummary summary = summaries.get(key);
+        return summary != null ? summary : summaries.computeIfAbsent(key, ignored -> DistributionSummary.builder(METRIC_NAME)
+            .description("Bytes allocated by the request thread per request")
+            .baseUnit("bytes")
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1024.0)
+            .maximumExpectedValue(256.0 * 1024 * 1024)
+            .register(meterRegistry));
+    }
+
+    private static com.sun.management.ThreadMXBean supportedThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        logger.warn("Per-thread allocation accounting is not supported by this JVM - allocation metrics disabled");
+        return null;
+    }
+}
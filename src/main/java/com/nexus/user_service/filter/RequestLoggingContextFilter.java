@@ -0,0 +1,100 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.logging.RequestDebugTurboFilter;
+import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.ValidationUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Per-request logging context.
+ *
+ * Puts a request id (from X-Request-Id, or generated) and the user id (X-User-Id, or the {id} of
+ * /api/v1/users/{id}) into MDC once per request and echoes the request id in the response. A request
+ * carrying X-Debug-Log with the configured token gets DEBUG logging for its own thread only, so the
+ * global level can stay at WARN.
+ */
+public class RequestLoggingContextFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerUtils.getLogger(RequestLoggingContextFilter.class);
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String DEBUG_HEADER = "X-Debug-Log";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USER_ID = "userId";
+
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+    private static final String USERS_PATH = "/api/v1/users/";
+
+    private final byte[] debugToken;
+
+    /**
+     * @param debugToken shared secret expected in X-Debug-Log; null or empty disables per-request debug
+     */
+    public RequestLoggingContextFilter(String debugToken) {
+        this.debugToken = debugToken == null || debugToken.isEmpty() ? null : debugToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !REQUEST_ID_PATTERN.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        String userId = resolveUserId(request);
+        boolean debug = isTrustedDebugRequest(request.getHeader(DEBUG_HEADER));
+
+        MDC.put(MDC_REQUEST_ID, requestId);
+        if (userId != null) {
+            MDC.put(MDC_USER_ID, userId);
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        if (debug) {
+            RequestDebugTurboFilter.enable();
+            logger.debug("Per-request debug logging enabled - {} {}", request.getMethod(), request.getRequestURI());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (debug) {
+                RequestDebugTurboFilter.disable();
+            }
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_USER_ID);
+        }
+    }
+
+    private boolean isTrustedDebugRequest(String header) {
+        return debugToken != null && header != null
+            && MessageDigest.isEqual(debugToken, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String resolveUserId(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null && ValidationUtils.isValidId(userId)) {
+            return userId;
+        }
+        String uri = request.getRequestURI();
+        if (uri != null && uri.startsWith(USERS_PATH)) {
+            int end = uri.indexOf('/', USERS_PATH.length());
+            String candidate = uri.substring(USERS_PATH.length(), end < 0 ? uri.length() : end);
+            if (ValidationUtils.isValidId(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,425 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.utils.ETagUtils;
+import com.nexus.user_service.utils.LoggerUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Threshold based response compression and gzip request bodies.
+ *
+ * Response bytes are held in memory until they reach the minimum size; only then is a content coding
+ * negotiated from Accept-Encoding (gzip preferred, deflate optional) and the rest of the body compressed
+ * on the fly, so small responses go out untouched and streamed responses keep streaming. Responses that
+ * already carry a Content-Encoding (the pre-compressed user response cache) are passed through. A strong
+ * ETag on a compressed response is made weak, as the compressed bytes differ from the identity body.
+ *
+ * Gzip encoded request bodies are inflated, with an upper bound on the inflated size, only for the configured
+ * paths (the batch endpoints); elsewhere they are rejected with 415 and Accept-Encoding: identity (RFC 7694).
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerUtils.getLogger(ResponseCompressionFilter.class);
+
+    private final int minResponseSize;
+    private final boolean deflateEnabled;
+    private final int compressionLevel;
+    private final long maxInflatedRequestSize;
+    private final Set<String> inflatedRequestPaths;
+
+    public ResponseCompressionFilter(int minResponseSize, boolean deflateEnabled, int compressionLevel, long maxInflatedRequestSize,
+                                     Set<String> inflatedRequestPaths) {
+        this.minResponseSize = minResponseSize;
+        this.deflateEnabled = deflateEnabled;
+        this.compressionLevel = compressionLevel;
+        this.maxInflatedRequestSize = maxInflatedRequestSize;
+        this.inflatedRequestPaths = Set.copyOf(inflatedRequestPaths);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletRequest effectiveRequest = request;
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            if (!inflatedRequestPaths.contains(path)) {
+                logger.debug("Rejecting gzip request body - URI: {}", request.getRequestURI());
+                response.setHeader(HttpHeaders.ACCEPT_ENCODING, "identity");
+                response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+                return;
+            }
+            logger.debug("Inflating gzip request body - URI: {}", request.getRequestURI());
+            effectiveRequest = new InflatingRequest(request, maxInflatedRequestSize);
+        }
+
+        String coding = negotiateCoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), deflateEnabled);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (coding == null) {
+            filterChain.doFilter(effectiveRequest, response);
+            return;
+        }
+
+        CompressingResponse compressingResponse = new CompressingResponse(response, coding);
+        try {
+            filterChain.doFilter(effectiveRequest, compressingResponse);
+        } finally {
+            compressingResponse.finish();
+        }
+    }
+
+    /**
+     * Pick the response content coding for an Accept-Encoding header
+     * @param acceptEncoding Accept-Encoding header value
+     * @param deflateEnabled whether deflate may be used when gzip is not acceptable
+     * @return "gzip", "deflate" or null for identity
+     */
+    public static String negotiateCoding(String acceptEncoding, boolean deflateEnabled) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+                    refused = true;
+                }
+            }
+            if (refused) {
+                continue;
+            }
+            if (coding.equals("gzip")) {
+                return "gzip";
+            }
+            deflate |= coding.equals("deflate");
+        }
+        return deflate && deflateEnabled ? "deflate" : null;
+    }
+
+    /**
+     * Response wrapper that buffers up to the threshold, then switches to a compressing stream
+     */
+    private class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final String coding;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream compressor;
+        private Deflater deflater;
+        private boolean passThrough;
+        private boolean finished;
+        private long contentLength = -1;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, String coding) {
+            super(response);
+            this.coding = coding;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        write(new byte[] {(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        CompressingResponse.this.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        // Called by the writer when it flushes, so this must not flush the writer again
+                        flushStream();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        finish();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        throw new UnsupportedOperationException("Async writes are not supported by the compression filter");
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), encoding));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // Held back until we know whether the body is compressed
+            contentLength = len;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (compressor == null && !passThrough) {
+                buffer.reset();
+            }
+            super.resetBuffer();
+        }
+
+        private void write(byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("Response already finished");
+            }
+            if (compressor != null) {
+                compressor.write(b, off, len);
+            } else if (passThrough) {
+                super.getOutputStream().write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+                if (buffer.size() >= minResponseSize) {
+                    start();
+                }
+            }
+        }
+
+        /**
+         * Threshold reached: decide between compressing and passing through, then drain the buffer
+         */
+        private void start() throws IOException {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (response.getHeader(HttpHeaders.CONTENT_ENCODING) != null || response.isCommitted()) {
+                passThrough = true;
+                if (contentLength >= 0) {
+                    response.setContentLengthLong(contentLength);
+                }
+                buffer.writeTo(response.getOutputStream());
+            } else {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, coding);
+                String etag = response.getHeader(HttpHeaders.ETAG);
+                if (etag != null) {
+                    response.setHeader(HttpHeaders.ETAG, ETagUtils.weaken(etag));
+                }
+                if (coding.equals("gzip")) {
+                    compressor = new GZIPOutputStream(response.getOutputStream(), 8192, true) {
+                        {
+                            def.setLevel(compressionLevel);
+                        }
+                    };
+                } else {
+                    deflater = new Deflater(compressionLevel);
+                    compressor = new DeflaterOutputStream(response.getOutputStream(), deflater, 8192, true);
+                }
+                buffer.writeTo(compressor);
+            }
+            buffer.reset();
+        }
+
+        private void flush() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            flushStream();
+        }
+
+        private void flushStream() throws IOException {
+            // Below the threshold an explicit flush keeps buffering; committing now would rule out compression
+            if (compressor != null) {
+                compressor.flush();
+                super.getOutputStream().flush();
+            } else if (passThrough) {
+                super.getOutputStream().flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+            finished = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (compressor != null) {
+                try {
+                    compressor.close();
+                } finally {
+                    if (deflater != null) {
+                        deflater.end();
+                    }
+                }
+            } else if (!passThrough) {
+                // Below the threshold: send as is
+                if (buffer.size() > 0 || contentLength >= 0) {
+                    response.setContentLengthLong(buffer.size());
+                    buffer.writeTo(response.getOutputStream());
+                }
+            }
+        }
+    }
+
+    /**
+     * Request wrapper exposing the inflated body of a gzip encoded request
+     */
+    private static class InflatingRequest extends HttpServletRequestWrapper {
+
+        private final long maxInflatedSize;
+        private ServletInputStream inputStream;
+
+        InflatingRequest(HttpServletRequest request, long maxInflatedSize) {
+            super(request);
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                InputStream inflated = new GZIPInputStream(super.getInputStream(), 8192);
+                inputStream = new ServletInputStream() {
+                    private long total;
+
+                    @Override
+                    public int read() throws IOException {
+                        byte[] single = new byte[1];
+                        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int count = inflated.read(b, off, len);
+                        if (count > 0) {
+                            total += count;
+                            if (total > maxInflatedSize) {
+                                throw new IOException("Inflated request body exceeds " + maxInflatedSize + " bytes");
+                            }
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        try {
+                            return inflated.available() == 0;
+                        } catch (IOException e) {
+                            return true;
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException("Async reads are not supported for gzip request bodies");
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        inflated.close();
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+    }
+}
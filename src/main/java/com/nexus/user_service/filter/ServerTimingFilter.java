@@ -0,0 +1,225 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.utils.RequestPhases;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Timing header with the phase breakdown of a request (db, hash, payment, map, serialize, total).
+ *
+ * Phases are collected by {@link RequestPhases} on the request thread. The header has to go out before the
+ * response is committed, so it is added on the first flush, on a write that could fill the container
+ * buffer, or at the end of the request, whichever comes first; phases after that point only reach the
+ * metrics. Each phase is also recorded as http.server.phases{phase, uri}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String METRIC_NAME = "http.server.phases";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServerTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startTime = System.nanoTime();
+        RequestPhases.Recording recording = RequestPhases.begin();
+        TimingResponse timingResponse = new TimingResponse(response, recording, startTime);
+        try {
+            filterChain.doFilter(request, timingResponse);
+            timingResponse.flushWriter();
+        } finally {
+            timingResponse.writeHeader();
+            RequestPhases.end();
+            record(request, recording);
+        }
+    }
+
+    /**
+     * Format the Server-Timing header value
+     * @param recording phase recording
+     * @param totalNanos time since the request started
+     * @return e.g. "db;dur=3.1, hash;dur=0.4, total;dur=5.2" (phases that did not run are omitted)
+     */
+    public static String headerValue(RequestPhases.Recording recording, long totalNanos) {
+        StringBuilder value = new StringBuilder();
+        for (int phase = 0; phase < RequestPhases.NAMES.length; phase++) {
+            long nanos = recording.getNanos(phase);
+            if (nanos > 0) {
+                appendMetric(value, RequestPhases.NAMES[phase], nanos);
+            }
+        }
+        appendMetric(value, "total", totalNanos);
+        return value.toString();
+    }
+
+    private static void appendMetric(StringBuilder value, String name, long nanos) {
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        value.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+    }
+
+    private void record(HttpServletRequest request, RequestPhases.Recording recording) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        for (int phase = 0; phase < RequestPhases.NAMES.length; phase++) {
+            long nanos = recording.getNanos(phase);
+            if (nanos > 0) {
+                timer(RequestPhases.NAMES[phase], uri).record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer timer(String phase, String uri) {
+        String key = phase + '|' + uri;
+        Timer timer = timers.get(key);
+        return timer != null ? timer : timers.computeIfAbsent(key, ignored -> Timer.builder(METRIC_NAME)
+            .description("Time spent per request phase")
+            .tag("phase", phase)
+            .tag("uri", uri)
+            .register(meterRegistry));
+    }
+
+    /**
+     * Response wrapper that adds the Server-Timing header right before the response can be committed
+     */
+    private static class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestPhases.Recording recording;
+        private final long startTime;
+        private boolean headerWritten;
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        TimingResponse(HttpServletResponse response, RequestPhases.Recording recording, long startTime) {
+            super(response);
+            this.recording = recording;
+            this.startTime = startTime;
+        }
+
+        void writeHeader() {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+            RequestPhases.serializeFinished(recording);
+            if (!isCommitted()) {
+                setHeader(SERVER_TIMING_HEADER, headerValue(recording, System.nanoTime() - startTime));
+            }
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        beforeWrite(1);
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        beforeWrite(len);
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        writeHeader();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        writeHeader();
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), encoding));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        private void beforeWrite(int len) {
+            bytesWritten += len;
+            if (!headerWritten && bytesWritten >= getBufferSize()) {
+                writeHeader();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.nexus.user_service.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Health indicator that runs its check at most once per time-to-live.
+ *
+ * Probes arriving within the interval get the cached result without touching the dependency; when it has
+ * expired, one caller refreshes it while concurrent callers wait for that result instead of running their
+ * own check.
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile Health cached;
+    private volatile long expiresAt;
+
+    protected CachedHealthIndicator(long timeToLiveMillis, LongSupplier nanoClock) {
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Health health() {
+        Health health = cached;
+        if (health != null && nanoClock.getAsLong() - expiresAt < 0) {
+            return health;
+        }
+        synchronized (this) {
+            if (cached != null && nanoClock.getAsLong() - expiresAt < 0) {
+                return cached;
+            }
+            health = check();
+            expiresAt = nanoClock.getAsLong() + timeToLiveNanos;
+            cached = health;
+            return health;
+        }
+    }
+
+    /**
+     * Run the actual check
+     * @return health of the dependency (never throw; report DOWN instead)
+     */
+    protected abstract Health check();
+}
@@ -0,0 +1,82 @@
+package com.nexus.user_service.health;
+
+import com.mongodb.MongoTimeoutException;
+import com.nexus.user_service.utils.LoggerUtils;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Readiness check for MongoDB ("mongoPing" health contributor).
+ *
+ * Sends {ping: 1} with a client-side operation timeout of user.health.mongo.timeout-ms, which bounds server
+ * selection, connection checkout and the socket read, and reports DOWN if it fails or times out. The probe
+ * runs on the caller's thread, so a hanging server cannot leave a worker stuck behind it. The result is
+ * cached for user.health.cache-ttl-ms. State changes are logged once, not on every probe. Not created with
+ * the in-memory profile, which has no MongoDB.
+ */
+@Component
+@Profile("!in-memory")
+public class MongoPingHealthIndicator extends CachedHealthIndicator {
+
+    private static final Logger logger = LoggerUtils.getLogger(MongoPingHealthIndicator.class);
+
+    private static final Document PING = new Document("ping", 1);
+
+    private final MongoTemplate mongoTemplate;
+    private final long timeoutMillis;
+
+    private volatile boolean lastUp = true;
+
+    MongoPingHealthIndicator(MongoTemplate mongoTemplate, long timeoutMillis, long cacheTtlMillis, LongSupplier nanoClock) {
+        super(cacheTtlMillis, nanoClock);
+        this.mongoTemplate = mongoTemplate;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Autowired
+    public MongoPingHealthIndicator(MongoTemplate mongoTemplate,
+                                    @Value("${user.health.mongo.timeout-ms:500}") long timeoutMillis,
+                                    @Value("${user.health.cache-ttl-ms:2000}") long cacheTtlMillis) {
+        this(mongoTemplate, timeoutMillis, cacheTtlMillis, System::nanoTime);
+    }
+
+    @Override
+    protected Health check() {
+        long start = System.nanoTime();
+        Health health;
+        try {
+            mongoTemplate.getDb().withTimeout(timeoutMillis, TimeUnit.MILLISECONDS).runCommand(PING);
+            health = Health.up()
+                .withDetail("latencyMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+        } catch (MongoTimeoutException e) {
+            health = Health.down().withDetail("error", "ping timed out after " + timeoutMillis + "ms").build();
+        } catch (RuntimeException e) {
+            health = Health.down().withDetail("error", String.valueOf(e.getMessage())).build();
+        }
+        logStateChange(health);
+        return health;
+    }
+
+    private void logStateChange(Health health) {
+        boolean up = Status.UP.equals(health.getStatus());
+        if (up != lastUp) {
+            lastUp = up;
+            if (up) {
+                logger.info("MongoDB readiness restored");
+            } else {
+                logger.warn("MongoDB readiness check failed - {}", health.getDetails().get("error"));
+            }
+        }
+    }
+}
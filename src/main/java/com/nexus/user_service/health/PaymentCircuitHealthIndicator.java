@@ -0,0 +1,35 @@
+package com.nexus.user_service.health;
+
+import com.nexus.user_service.service.PaymentCircuitBreaker;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Readiness check for the payment service ("paymentCircuit" health contributor).
+ *
+ * Reads the state of {@link PaymentCircuitBreaker} instead of calling the payment service, so the probe
+ * costs a lock acquisition. DOWN while the circuit is open; once the open period has elapsed the circuit
+ * reports HALF_OPEN and the instance is ready again, so live traffic can close it.
+ */
+@Component
+public class PaymentCircuitHealthIndicator implements HealthIndicator {
+
+    private final PaymentCircuitBreaker circuitBreaker;
+
+    public PaymentCircuitHealthIndicator(PaymentCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Health health() {
+        PaymentCircuitBreaker.State state = circuitBreaker.getState();
+        Health.Builder builder = state == PaymentCircuitBreaker.State.OPEN ? Health.down() : Health.up();
+        builder.withDetail("state", state.name())
+            .withDetail("consecutiveFailures", circuitBreaker.getConsecutiveFailures());
+        if (state == PaymentCircuitBreaker.State.OPEN) {
+            builder.withDetail("retryInMs", circuitBreaker.getRetryInMillis());
+        }
+        return builder.build();
+    }
+}
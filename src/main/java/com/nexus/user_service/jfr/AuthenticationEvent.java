@@ -0,0 +1,25 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Credential check (user lookup by email plus password hash comparison); carries no credentials
+ */
+@Name("com.nexus.user_service.Authentication")
+@Label("Authentication")
+@Category({"Nexus", "User Service"})
+@Description("Email and password authentication")
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("User Found")
+    public boolean userFound;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,35 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Batch user lookup, from the database query to the last resolved entry
+ */
+@Name("com.nexus.user_service.BatchLookup")
+@Label("Batch Lookup")
+@Category({"Nexus", "User Service"})
+@Description("Lookup of many users by ID")
+@StackTrace(false)
+public class BatchLookupEvent extends Event {
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Found")
+    public int found;
+
+    @Label("Not Found")
+    public int notFound;
+
+    @Label("Unchanged")
+    @Description("Omitted because the client's known version is current")
+    public int unchanged;
+
+    @Label("Streamed")
+    public boolean streamed;
+}
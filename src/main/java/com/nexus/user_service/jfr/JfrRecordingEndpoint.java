@@ -0,0 +1,106 @@
+package com.nexus.user_service.jfr;
+
+import com.nexus.user_service.utils.LoggerUtils;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GET /actuator/jfr?seconds=N records a JDK Flight Recorder file for N seconds (bounded by
+ * user.jfr.max-duration-seconds) and downloads it. The service's own events (com.nexus.user_service.*)
+ * are included with the JDK settings profile. Only one recording runs at a time; a concurrent request
+ * gets 429. The call blocks for the recording duration.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger logger = LoggerUtils.getLogger(JfrRecordingEndpoint.class);
+
+    @Value("${user.jfr.default-duration-seconds:30}")
+    private int defaultDurationSeconds;
+
+    @Value("${user.jfr.max-duration-seconds:300}")
+    private int maxDurationSeconds;
+
+    @Value("${user.jfr.settings:profile}")
+    private String settings;
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    /**
+     * Record for a bounded time and return the recording
+     * @param seconds recording duration (default user.jfr.default-duration-seconds)
+     * @return the .jfr file, 429 when a recording is already running
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer seconds) throws IOException, ParseException {
+        int duration = Math.min(Math.max(1, seconds != null ? seconds : defaultDurationSeconds), maxDurationSeconds);
+        if (!recording.compareAndSet(false, true)) {
+            logger.warn("JFR recording request rejected - Another recording is in progress");
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        Path file = Files.createTempFile("user-service-", ".jfr");
+        try (Recording jfr = new Recording(Configuration.getConfiguration(settings))) {
+            jfr.setName("user-service-actuator");
+            jfr.setDuration(Duration.ofSeconds(duration));
+            logger.info("JFR recording started - Duration: {}s, Settings: {}", duration, settings);
+            jfr.start();
+            try {
+                Thread.sleep(Duration.ofSeconds(duration));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("JFR recording interrupted - Dumping what was recorded so far");
+            }
+            jfr.dump(file);
+            logger.info("JFR recording completed - Size: {} bytes", Files.size(file));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file));
+        } catch (IOException | ParseException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    /**
+     * Recording file that is deleted once it has been sent
+     */
+    private static class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
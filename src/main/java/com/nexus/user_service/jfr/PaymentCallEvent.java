@@ -0,0 +1,31 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Blocking call to the payment service
+ */
+@Name("com.nexus.user_service.PaymentCall")
+@Label("Payment Call")
+@Category({"Nexus", "User Service"})
+@Description("Deposit or withdrawal request to the payment service")
+@StackTrace(false)
+public class PaymentCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Amount")
+    public double amount;
+
+    @Label("Success")
+    public boolean success;
+}
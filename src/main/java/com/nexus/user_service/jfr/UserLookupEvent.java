@@ -0,0 +1,33 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * GET /api/v1/users/{id}, from request to response (cache hit, conditional, sparse or full lookup)
+ */
+@Name("com.nexus.user_service.UserLookup")
+@Label("User Lookup")
+@Category({"Nexus", "User Service"})
+@Description("Lookup of a single user by ID")
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Cache Hit")
+    @Description("Answered from the pre-serialised response cache")
+    public boolean cacheHit;
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Sparse")
+    @Description("A fields selection was requested")
+    public boolean sparse;
+}
@@ -0,0 +1,29 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Wallet adjustment applied through a user update, including the save
+ */
+@Name("com.nexus.user_service.WalletAdjustment")
+@Label("Wallet Adjustment")
+@Category({"Nexus", "User Service"})
+@Description("Relative wallet balance change")
+@StackTrace(false)
+public class WalletAdjustmentEvent extends Event {
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Adjustment")
+    public double adjustment;
+
+    @Label("Applied")
+    @Description("False when the adjustment was rejected (e.g. insufficient funds)")
+    public boolean applied;
+}
@@ -0,0 +1,52 @@
+package com.nexus.user_service.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Exports queue depth and dropped-event counters of every {@link BoundedAsyncAppender} on the root logger:
+ * logging.async.queue.depth, logging.async.queue.capacity and logging.async.dropped{priority=low|high}.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof BoundedAsyncAppender appender) {
+                String name = appender.getName();
+                Gauge.builder("logging.async.queue.depth", appender, BoundedAsyncAppender::getQueueDepth)
+                    .tag("appender", name)
+                    .description("Log events waiting to be written")
+                    .register(registry);
+                Gauge.builder("logging.async.queue.capacity", appender, BoundedAsyncAppender::getQueueSize)
+                    .tag("appender", name)
+                    .register(registry);
+                FunctionCounter.builder("logging.async.dropped", appender, BoundedAsyncAppender::getDroppedDiscardable)
+                    .tag("appender", name)
+                    .tag("priority", "low")
+                    .description("Log events dropped because the queue was (nearly) full")
+                    .register(registry);
+                FunctionCounter.builder("logging.async.dropped", appender, BoundedAsyncAppender::getDroppedImportant)
+                    .tag("appender", name)
+                    .tag("priority", "high")
+                    .description("Log events dropped because the queue was (nearly) full")
+                    .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.nexus.user_service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, never-blocking asynchronous appender.
+ *
+ * Events go through a fixed size queue drained by a single worker thread, so a slow or unreachable sink
+ * can never stall request threads. When the queue runs low, events at or below {@code discardLevel}
+ * (DEBUG/INFO by default) are dropped first; higher levels are only dropped once the queue is completely
+ * full. Every drop is counted (low vs. high priority) and, together with the queue depth, exported as metrics by
+ * {@link AsyncAppenderMetrics}.
+ *
+ * Configured in logback-spring.xml around the real appenders.
+ */
+public class BoundedAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder droppedDiscardable = new LongAdder();
+    private final LongAdder droppedImportant = new LongAdder();
+
+    private int queueSize = 8192;
+    private int discardThresholdPercent = 20;
+    private Level discardLevel = Level.INFO;
+    private int maxFlushTimeMillis = 1000;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private int discardThreshold;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queueSize " + queueSize);
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        discardThreshold = queueSize * discardThresholdPercent / 100;
+        worker = new Thread(this::drain, "logback-async-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTimeMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Max flush time exceeded, " + queue.size() + " queued events may be lost");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isDiscardable(event) && queue.remainingCapacity() < discardThreshold) {
+            droppedDiscardable.increment();
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (!queue.offer(event)) {
+            if (isDiscardable(event)) {
+                droppedDiscardable.increment();
+            } else {
+                droppedImportant.increment();
+            }
+        }
+    }
+
+    private boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= discardLevel.toInt();
+    }
+
+    private void drain() {
+        List<ILoggingEvent> batch = new ArrayList<>(256);
+        while (isStarted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, 255);
+            dispatch(batch);
+        }
+        // Flush whatever is left after stop()
+        queue.drainTo(batch);
+        dispatch(batch);
+    }
+
+    private void dispatch(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            try {
+                appenders.appendLoopOnAppenders(event);
+            } catch (RuntimeException e) {
+                addError("Downstream appender failed", e);
+            }
+        }
+        batch.clear();
+    }
+
+    /** @return events currently waiting in the queue */
+    public int getQueueDepth() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    /** @return total dropped events at or below discardLevel */
+    public long getDroppedDiscardable() {
+        return droppedDiscardable.sum();
+    }
+
+    /** @return total dropped events above discardLevel (queue completely full) */
+    public long getDroppedImportant() {
+        return droppedImportant.sum();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getDiscardThresholdPercent() {
+        return discardThresholdPercent;
+    }
+
+    public void setDiscardThresholdPercent(int discardThresholdPercent) {
+        this.discardThresholdPercent = discardThresholdPercent;
+    }
+
+    public Level getDiscardLevel() {
+        return discardLevel;
+    }
+
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public int getMaxFlushTimeMillis() {
+        return maxFlushTimeMillis;
+    }
+
+    public void setMaxFlushTimeMillis(int maxFlushTimeMillis) {
+        this.maxFlushTimeMillis = maxFlushTimeMillis;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
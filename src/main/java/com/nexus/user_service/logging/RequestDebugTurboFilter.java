@@ -0,0 +1,61 @@
+package com.nexus.user_service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Raises the effective log level to DEBUG for the current thread only, while a trusted debug request is
+ * being processed (see {@link com.nexus.user_service.filter.RequestLoggingContextFilter}).
+ *
+ * Runs before the level check on every logging call, so the common path is a single ThreadLocal read.
+ * Registered in logback-spring.xml.
+ */
+public class RequestDebugTurboFilter extends TurboFilter {
+
+    private static final ThreadLocal<Boolean> DEBUG_REQUEST = new ThreadLocal<>();
+
+    private String loggerPrefix = "com.nexus.user_service";
+
+    /**
+     * Enable DEBUG logging for the current thread
+     */
+    public static void enable() {
+        DEBUG_REQUEST.set(Boolean.TRUE);
+    }
+
+    /**
+     * Restore the configured levels for the current thread
+     */
+    public static void disable() {
+        DEBUG_REQUEST.remove();
+    }
+
+    /**
+     * @return true if the current thread is processing a debug request
+     */
+    public static boolean isEnabled() {
+        return DEBUG_REQUEST.get() != null;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (DEBUG_REQUEST.get() == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level.isGreaterOrEqual(Level.DEBUG) && logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public String getLoggerPrefix() {
+        return loggerPrefix;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
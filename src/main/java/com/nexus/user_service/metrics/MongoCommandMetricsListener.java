@@ -0,0 +1,325 @@
+package com.nexus.user_service.metrics;
+
+import com.mongodb.MongoServerException;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.RequestPhases;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mongo driver command listener: latency, returned documents and reply size per command and collection,
+ * plus a rate-limited slow-query log.
+ *
+ * Metrics: mongodb.commands{command, collection, status} (timer), mongodb.commands.documents and
+ * mongodb.commands.reply.bytes{command, collection} (summaries). Commands slower than the threshold are
+ * logged at WARN with their filter shape: keys and operators are kept, values replaced by "?" (regular
+ * expressions by /?/) and value lists by their length, so no user data reaches the log. At most
+ * slowQueryLogsPerMinute lines are written per minute; the rest are counted and reported on the next line.
+ *
+ * Command time is also added to the db phase of the current request's {@link RequestPhases}.
+ *
+ * The command document is only valid inside the started callback, so the collection and a copy of the
+ * filter-bearing fields are captured there and kept per request id until the command completes. The
+ * filter shape is only built for commands that turn out to be slow.
+ */
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final Logger logger = LoggerUtils.getLogger(MongoCommandMetricsListener.class);
+
+    public static final String METRIC_NAME = "mongodb.commands";
+
+    private static final List<String> FILTER_KEYS = List.of("filter", "query", "pipeline", "sort", "updates", "deletes");
+    private static final int MAX_SHAPE_LENGTH = 1000;
+    private static final int MAX_SHAPE_ELEMENTS = 10;
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final int slowQueryLogsPerMinute;
+
+    private final ConcurrentHashMap<Integer, Started> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+    private final AtomicLong slowLogWindow = new AtomicLong();
+    private final AtomicLong slowLogsInWindow = new AtomicLong();
+    private final AtomicLong slowLogsSuppressed = new AtomicLong();
+
+    /**
+     * @param meterRegistry registry for the command meters
+     * @param slowQueryThresholdMillis latency above which a command is logged; 0 or less disables the slow-query log
+     * @param slowQueryLogsPerMinute maximum slow-query log lines per minute
+     */
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry, long slowQueryThresholdMillis, int slowQueryLogsPerMinute) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis) : -1;
+        this.slowQueryLogsPerMinute = slowQueryLogsPerMinute;
+    }
+
+    private record Started(String collection, BsonDocument filter) {
+    }
+
+    private record Meters(Timer succeeded, Timer failed, DistributionSummary documents, DistributionSummary replyBytes) {
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        BsonDocument filter = slowQueryThresholdNanos > 0 ? filterOf(command) : null;
+        inFlight.put(event.getRequestId(), new Started(collectionOf(event.getCommandName(), command), filter));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        String collection = started != null ? started.collection() : "none";
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+
+        RequestPhases.add(RequestPhases.DB, elapsedNanos);
+        Meters commandMeters = meters(event.getCommandName(), collection);
+        commandMeters.succeeded().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        BsonDocument reply = event.getResponse();
+        long documents = returnedDocuments(reply);
+        if (documents >= 0) {
+            commandMeters.documents().record(documents);
+        }
+        long bytes = replySize(reply);
+        if (bytes >= 0) {
+            commandMeters.replyBytes().record(bytes);
+        }
+        logIfSlow(event.getCommandName(), collection, started, elapsedNanos, documents, null);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        String collection = started != null ? started.collection() : "none";
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+
+        RequestPhases.add(RequestPhases.DB, elapsedNanos);
+        meters(event.getCommandName(), collection).failed().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        logIfSlow(event.getCommandName(), collection, started, elapsedNanos, -1, event.getThrowable());
+    }
+
+    private void logIfSlow(String command, String collection, Started started, long elapsedNanos, long documents, Throwable failure) {
+        if (slowQueryThresholdNanos <= 0 || elapsedNanos < slowQueryThresholdNanos || !takeSlowLogPermit()) {
+            return;
+        }
+        long suppressed = slowLogsSuppressed.getAndSet(0);
+        logger.warn("Slow Mongo command - Command: {}, Collection: {}, Time: {}ms, Documents: {}, Filter: {}, Failed: {}, Suppressed since last: {}",
+            command, collection, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), documents >= 0 ? documents : "n/a",
+            started != null && started.filter() != null ? filterShape(started.filter()) : "n/a", failureOf(failure), suppressed);
+    }
+
+    /**
+     * Describe a command failure without its message, which can contain document values
+     * (e.g. the duplicate key of an E11000 error)
+     * @param failure command failure or null
+     * @return exception class and server error code, or "no"
+     */
+    static String failureOf(Throwable failure) {
+        if (failure == null) {
+            return "no";
+        }
+        if (failure instanceof MongoServerException serverException) {
+            return failure.getClass().getSimpleName() + " (code " + serverException.getCode() + ")";
+        }
+        return failure.getClass().getSimpleName();
+    }
+
+    private boolean takeSlowLogPermit() {
+        long window = System.nanoTime() / ONE_MINUTE_NANOS;
+        long current = slowLogWindow.get();
+        if (window != current && slowLogWindow.compareAndSet(current, window)) {
+            slowLogsInWindow.set(0);
+        }
+        if (slowLogsInWindow.incrementAndGet() <= slowQueryLogsPerMinute) {
+            return true;
+        }
+        slowLogsSuppressed.incrementAndGet();
+        return false;
+    }
+
+    private Meters meters(String command, String collection) {
+        String key = command + '|' + collection;
+        Meters existing = meters.get(key);
+        return existing != null ? existing : meters.computeIfAbsent(key, ignored -> new Meters(
+            timer(command, collection, "success"),
+            timer(command, collection, "failed"),
+            DistributionSummary.builder(METRIC_NAME + ".documents")
+                .description("Documents returned or affected per Mongo command")
+                .tag("command", command)
+                .tag("collection", collection)
+                .register(meterRegistry),
+            DistributionSummary.builder(METRIC_NAME + ".reply.bytes")
+                .description("Mongo command reply size")
+                .baseUnit("bytes")
+                .tag("command", command)
+                .tag("collection", collection)
+                .register(meterRegistry)));
+    }
+
+    private Timer timer(String command, String collection, String status) {
+        return Timer.builder(METRIC_NAME)
+            .description("Mongo command latency")
+            .tag("command", command)
+            .tag("collection", collection)
+            .tag("status", status)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the target collection of a command (the value of the command name key, or "collection" for getMore)
+     * @param commandName command name
+     * @param command command document
+     * @return collection name or "none" for commands without a collection
+     */
+    static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = command.get(commandName);
+        if (target != null && target.isString()) {
+            return target.asString().getValue();
+        }
+        BsonValue collection = command.get("collection");
+        if (collection != null && collection.isString()) {
+            return collection.asString().getValue();
+        }
+        return "none";
+    }
+
+    /**
+     * Copy the filter-bearing fields of a command so they outlive the started callback (documents read from
+     * the wire are copied as raw bytes, without decoding)
+     * @param command command document
+     * @return document holding only the filter-bearing fields
+     */
+    static BsonDocument filterOf(BsonDocument command) {
+        BsonDocument filter = new BsonDocument();
+        for (String key : FILTER_KEYS) {
+            BsonValue value = command.get(key);
+            if (value != null) {
+                filter.put(key, value.isDocument() ? value.asDocument().clone()
+                    : value.isArray() ? value.asArray().clone() : value);
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Build the redacted shape of the filter-bearing parts of a command
+     * @param command command document
+     * @return shape such as {filter: {_id: {$in: [? x 500]}, name: /?/}}, or "{}" when the command has no filter
+     */
+    static String filterShape(BsonDocument command) {
+        StringBuilder shape = new StringBuilder("{");
+        for (String key : FILTER_KEYS) {
+            BsonValue value = command.get(key);
+            if (value != null) {
+                if (shape.length() > 1) {
+                    shape.append(", ");
+                }
+                shape.append(key).append(": ");
+                appendShape(shape, value);
+            }
+        }
+        shape.append('}');
+        if (shape.length() > MAX_SHAPE_LENGTH) {
+            shape.setLength(MAX_SHAPE_LENGTH);
+            shape.append("...");
+        }
+        return shape.toString();
+    }
+
+    private static void appendShape(StringBuilder shape, BsonValue value) {
+        if (shape.length() > MAX_SHAPE_LENGTH) {
+            return;
+        }
+        if (value.isDocument()) {
+            shape.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    shape.append(", ");
+                }
+                first = false;
+                shape.append(entry.getKey()).append(": ");
+                appendShape(shape, entry.getValue());
+            }
+            shape.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            if (array.stream().noneMatch(element -> element.isDocument() || element.isArray())) {
+                shape.append("[? x ").append(array.size()).append(']');
+                return;
+            }
+            shape.append('[');
+            for (int i = 0; i < array.size() && i < MAX_SHAPE_ELEMENTS; i++) {
+                if (i > 0) {
+                    shape.append(", ");
+                }
+                appendShape(shape, array.get(i));
+            }
+            if (array.size() > MAX_SHAPE_ELEMENTS) {
+                shape.append(", ... ").append(array.size() - MAX_SHAPE_ELEMENTS).append(" more");
+            }
+            shape.append(']');
+        } else if (value.isRegularExpression()) {
+            shape.append("/?/");
+        } else {
+            shape.append('?');
+        }
+    }
+
+    /**
+     * Count the documents in a reply (cursor batch size, or n for counts and writes)
+     * @param reply command reply
+     * @return document count or -1 if the reply carries none
+     */
+    static long returnedDocuments(BsonDocument reply) {
+        BsonValue cursor = reply.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            if (batch == null) {
+                batch = cursor.asDocument().get("nextBatch");
+            }
+            return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+        }
+        BsonValue n = reply.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+
+    /**
+     * Read the encoded size of a reply from its BSON length prefix (replies from the driver are backed by
+     * the raw wire bytes, so this does not re-encode the document)
+     * @param reply command reply
+     * @return size in bytes or -1 if the reply is not backed by raw BSON
+     */
+    static long replySize(BsonDocument reply) {
+        if (reply instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = reply.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binaryReader) {
+                return binaryReader.getBsonInput().readInt32();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not read Mongo reply size - Error: {}", e.getMessage());
+        }
+        return -1;
+    }
+}
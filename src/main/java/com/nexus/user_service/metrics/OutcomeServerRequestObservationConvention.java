@@ -0,0 +1,21 @@
+package com.nexus.user_service.metrics;
+
+import com.nexus.user_service.utils.MetricOutcomes;
+import io.micrometer.common.KeyValue;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * http.server.requests with the service's outcome values (success, not_found, conflict, error) instead of
+ * Spring's status families, so endpoint and service timers can be filtered the same way
+ */
+public class OutcomeServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    protected KeyValue outcome(ServerRequestObservationContext context) {
+        if (context.getResponse() == null) {
+            return KeyValue.of("outcome", MetricOutcomes.ERROR);
+        }
+        return KeyValue.of("outcome", MetricOutcomes.forStatus(context.getResponse().getStatus()));
+    }
+}
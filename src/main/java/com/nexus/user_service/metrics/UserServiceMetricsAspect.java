@@ -0,0 +1,59 @@
+package com.nexus.user_service.metrics;
+
+import com.nexus.user_service.utils.MetricOutcomes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every {@link com.nexus.user_service.service.UserService} method as user.service.calls{method, outcome}.
+ *
+ * Outcomes come from {@link MetricOutcomes}: an empty Optional is not_found, exceptions are classified by
+ * message. Histogram and SLO buckets are configured in {@link com.nexus.user_service.config.MetricsConfig}.
+ */
+@Aspect
+@Component
+public class UserServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "user.service.calls";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.nexus.user_service.service.UserService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.ERROR;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = MetricOutcomes.forResult(result);
+            return result;
+        } catch (Throwable t) {
+            outcome = MetricOutcomes.forException(t);
+            throw t;
+        } finally {
+            sample.stop(timer(joinPoint.getSignature().getName(), outcome));
+        }
+    }
+
+    private Timer timer(String method, String outcome) {
+        String key = method + '|' + outcome;
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, ignored -> Timer.builder(METRIC_NAME)
+                .description("UserService method latency")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+        return timer;
+    }
+}
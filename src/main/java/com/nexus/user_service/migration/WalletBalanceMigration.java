@@ -0,0 +1,256 @@
+package com.nexus.user_service.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.utils.LoggerUtils;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Online migration rewriting string walletBalance values (Spring Data's old BigDecimal representation)
+ * as Decimal128.
+ *
+ * Works through the users collection in _id order, user.migration.wallet-balance.batch-size documents at
+ * a time, pausing user.migration.wallet-balance.pause-ms between batches so it stays in the background
+ * of live traffic. Each document is updated only if its balance still holds the string that was read, so
+ * a concurrent write (which already stores Decimal128) is never overwritten. After every batch the last
+ * _id is checkpointed in the migrations collection, and a restarted run continues from there. Once the
+ * checkpointed pass reaches the end, one pass from the start picks up anything it could not see (ids of
+ * another BSON type). Values that are not valid decimals are left as they are and counted as failed.
+ * Readers accept both representations throughout. Not created with the in-memory profile.
+ */
+@Component
+@Profile("!in-memory")
+public class WalletBalanceMigration implements DisposableBean {
+
+    private static final Logger logger = LoggerUtils.getLogger(WalletBalanceMigration.class);
+
+    static final String MIGRATION_ID = "walletBalanceDecimal128";
+    static final String CHECKPOINT_COLLECTION = "migrations";
+
+    public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * Progress of the migration
+     * @param state current state
+     * @param migrated documents rewritten so far (across restarts)
+     * @param failed documents whose balance could not be parsed, in this run
+     * @param lastId last _id processed (the checkpoint)
+     * @param error failure message when state is FAILED
+     */
+    public record Status(State state, long migrated, long failed, String lastId, String error) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Clock clock;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "wallet-balance-migration");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${user.migration.wallet-balance.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    private volatile boolean stopping;
+    private volatile Status status = new Status(State.IDLE, 0, 0, null, null);
+
+    @Autowired
+    public WalletBalanceMigration(MongoTemplate mongoTemplate,
+                                  @Value("${user.migration.wallet-balance.batch-size:500}") int batchSize,
+                                  @Value("${user.migration.wallet-balance.pause-ms:100}") long pauseMillis,
+                                  Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (runOnStartup) {
+            start(false);
+        }
+    }
+
+    /**
+     * Start the migration in the background, unless it is already running
+     * @param restart ignore the checkpoint and scan the whole collection again
+     * @return status right after starting
+     */
+    public Status start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            return status;
+        }
+        status = new Status(State.RUNNING, status.migrated(), status.failed(), status.lastId(), null);
+        executor.execute(() -> {
+            try {
+                run(restart);
+            } finally {
+                running.set(false);
+            }
+        });
+        return status;
+    }
+
+    /**
+     * @return current progress
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Run the migration on the calling thread
+     * @param restart ignore the checkpoint and scan the whole collection again
+     * @return final status
+     */
+    Status run(boolean restart) {
+        MongoCollection<Document> users = mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class));
+        MongoCollection<Document> checkpoints = mongoTemplate.getCollection(CHECKPOINT_COLLECTION);
+        Document checkpoint = restart ? null : checkpoints.find(Filters.eq("_id", MIGRATION_ID)).first();
+        Object lastId = checkpoint != null ? checkpoint.get("lastId") : null;
+        long migrated = checkpoint != null ? checkpoint.get("migrated", Number.class).longValue() : 0;
+        Set<Object> failedIds = new HashSet<>();
+
+        if (checkpoint != null && checkpoint.getBoolean("completed", false)) {
+            status = new Status(State.COMPLETED, migrated, checkpoint.get("failed", Number.class).longValue(),
+                idString(lastId), null);
+            logger.info("Wallet balance migration already completed - Migrated: {}", migrated);
+            return status;
+        }
+        logger.info("Wallet balance migration started - Resuming after: {}, Batch size: {}", lastId, batchSize);
+
+        try {
+            boolean passFromStart = lastId == null;
+            while (!stopping) {
+                List<Document> batch = users.find(pending(lastId))
+                    .projection(Projections.include("walletBalance"))
+                    .sort(Sorts.ascending("_id"))
+                    .limit(batchSize)
+                    .into(new ArrayList<>());
+
+                if (!batch.isEmpty()) {
+                    List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+                    for (Document document : batch) {
+                        WriteModel<Document> update = toDecimal128(document);
+                        if (update != null) {
+                            updates.add(update);
+                        } else {
+                            failedIds.add(document.get("_id"));
+                        }
+                    }
+                    if (!updates.isEmpty()) {
+                        migrated += users.bulkWrite(updates, new BulkWriteOptions().ordered(false)).getModifiedCount();
+                    }
+                    lastId = batch.get(batch.size() - 1).get("_id");
+                    saveCheckpoint(checkpoints, lastId, migrated, failedIds.size(), false);
+                    status = new Status(State.RUNNING, migrated, failedIds.size(), idString(lastId), null);
+                }
+
+                if (batch.size() < batchSize) {
+                    if (passFromStart) {
+                        saveCheckpoint(checkpoints, lastId, migrated, failedIds.size(), true);
+                        status = new Status(State.COMPLETED, migrated, failedIds.size(), idString(lastId), null);
+                        logger.info("Wallet balance migration completed - Migrated: {}, Failed: {}", migrated, failedIds.size());
+                        return status;
+                    }
+                    // $gt only matches ids of the same BSON type, so finish with one pass from the start
+                    passFromStart = true;
+                    lastId = null;
+                    continue;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Wallet balance migration failed - Last checkpoint: {}, Error: {}", lastId, e.getMessage(), e);
+            status = new Status(State.FAILED, migrated, failedIds.size(), idString(lastId), e.getMessage());
+            return status;
+        }
+        logger.info("Wallet balance migration stopped - Last checkpoint: {}, Migrated: {}", lastId, migrated);
+        status = new Status(State.IDLE, migrated, failedIds.size(), idString(lastId), null);
+        return status;
+    }
+
+    @Override
+    public void destroy() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    private static String idString(Object id) {
+        return id != null ? id.toString() : null;
+    }
+
+    /**
+     * Users whose balance is still a string, after the checkpoint
+     */
+    private static Bson pending(Object lastId) {
+        Bson stringBalance = Filters.type("walletBalance", BsonType.STRING);
+        return lastId != null ? Filters.and(Filters.gt("_id", lastId), stringBalance) : stringBalance;
+    }
+
+    /**
+     * Conditional rewrite of one balance, or null when the stored string is not a valid decimal
+     */
+    static WriteModel<Document> toDecimal128(Document document) {
+        Object id = document.get("_id");
+        String balance = document.getString("walletBalance");
+        Decimal128 decimal;
+        try {
+            decimal = new Decimal128(new BigDecimal(balance.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Wallet balance migration skipped user - ID: {}, Balance: {}", id, balance);
+            return null;
+        }
+        return new UpdateOneModel<>(
+            Filters.and(Filters.eq("_id", id), Filters.eq("walletBalance", balance)),
+            Updates.set("walletBalance", decimal));
+    }
+
+    private void saveCheckpoint(MongoCollection<Document> checkpoints, Object lastId, long migrated, long failed,
+                                boolean completed) {
+        Document checkpoint = new Document("_id", MIGRATION_ID)
+            .append("lastId", lastId)
+            .append("migrated", migrated)
+            .append("failed", failed)
+            .append("completed", completed)
+            .append("updatedAt", new Date(clock.millis()));
+        checkpoints.replaceOne(Filters.eq("_id", MIGRATION_ID), checkpoint, new ReplaceOptions().upsert(true));
+    }
+}
@@ -0,0 +1,32 @@
+package com.nexus.user_service.migration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/walletmigration reports the wallet balance migration's progress; POST starts it in the
+ * background (resuming from its checkpoint, or from scratch with {"restart": true}).
+ */
+@Component
+@Profile("!in-memory")
+@Endpoint(id = "walletmigration")
+public class WalletBalanceMigrationEndpoint {
+
+    @Autowired
+    private WalletBalanceMigration migration;
+
+    @ReadOperation
+    public WalletBalanceMigration.Status status() {
+        return migration.getStatus();
+    }
+
+    @WriteOperation
+    public WalletBalanceMigration.Status start(@Nullable Boolean restart) {
+        return migration.start(Boolean.TRUE.equals(restart));
+    }
+}
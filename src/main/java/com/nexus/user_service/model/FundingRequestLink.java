@@ -0,0 +1,80 @@
+package com.nexus.user_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Link between a user and a funding request, one document per pair, so the number of funding requests
+ * never grows the user document. Pages are read in createdAt order (ties in insertion order).
+ */
+@Document(collection = "user_funding_requests")
+@CompoundIndex(name = "user_funding_request", def = "{'userId': 1, 'fundingRequestId': 1}", unique = true)
+@CompoundIndex(name = "user_created_at", def = "{'userId': 1, 'createdAt': 1, '_id': 1}")
+public class FundingRequestLink {
+    
+    @Id
+    private String id;
+    
+    private String userId;
+    
+    private String fundingRequestId;
+    
+    private LocalDateTime createdAt;
+    
+    // Default constructor
+    public FundingRequestLink() {
+    }
+    
+    // Constructor with all fields except id
+    public FundingRequestLink(String userId, String fundingRequestId, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.fundingRequestId = fundingRequestId;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
+    public String getFundingRequestId() {
+        return fundingRequestId;
+    }
+    
+    public void setFundingRequestId(String fundingRequestId) {
+        this.fundingRequestId = fundingRequestId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "FundingRequestLink{" +
+                "id='" + id + '\'' +
+                ", userId='" + userId + '\'' +
+                ", fundingRequestId='" + fundingRequestId + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
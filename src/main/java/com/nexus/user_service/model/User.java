@@ -9,6 +9,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
+/**
+ * Stored user. Setters only assign fields; createdAt and updatedAt are set explicitly by the operation that
+ * creates or changes the user, from one clock read per operation (see UserServiceImpl and MapperUtils), so
+ * building or loading an entity never reads the clock and a loaded user keeps its stored timestamps.
+ */
 @Document(collection = "users")
 public class User {
     
@@ -28,14 +33,21 @@ public class User {
     
     private LocalDateTime createdAt;
     
+    /** Indexed for the incremental refreshes of the name search index */
+    @Indexed
     private LocalDateTime updatedAt;
     
+    /**
+     * Incremented by every write (see UserRepositoryCustom#replaceIfVersion); documents written before the
+     * field existed read as version 0. Not a Spring Data @Version, so save() keeps its plain upsert semantics.
+     */
+    private long version;
+    
+    /** Legacy embedded links, moved to FundingRequestLink documents by UserServiceImpl and then emptied */
     private List<String> fundingRequestIds;
     
-    // Default constructor
+    // Default constructor (timestamps stay unset until the creating operation stamps them)
     public User() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
         this.walletBalance = BigDecimal.ZERO;
         this.fundingRequestIds = new ArrayList<>();
     }
@@ -49,6 +61,24 @@ public class User {
         this.roles = roles;
     }
     
+    /**
+     * Restore a stored user exactly as persisted (used by UserCodec). Spring Data keeps using the
+     * no-argument constructor.
+     */
+    public User(String id, String name, String email, String passwordHash, List<String> roles, BigDecimal walletBalance,
+                List<String> fundingRequestIds, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.passwordHash = passwordHash;
+        this.roles = roles;
+        this.walletBalance = walletBalance;
+        this.fundingRequestIds = fundingRequestIds;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
     // Getters and Setters
     public String getId() {
         return id;
@@ -64,7 +94,6 @@ public class User {
     
     public void setName(String name) {
         this.name = name;
-        this.updatedAt = LocalDateTime.now();
     }
     
     public String getEmail() {
@@ -73,7 +102,6 @@ public class User {
     
     public void setEmail(String email) {
         this.email = email;
-        this.updatedAt = LocalDateTime.now();
     }
     
     public String getPasswordHash() {
@@ -82,7 +110,6 @@ public class User {
     
     public void setPasswordHash(String passwordHash) {
         this.passwordHash = passwordHash;
-        this.updatedAt = LocalDateTime.now();
     }
     
     public List<String> getRoles() {
@@ -91,7 +118,6 @@ public class User {
     
     public void setRoles(List<String> roles) {
         this.roles = roles;
-        this.updatedAt = LocalDateTime.now();
     }
     
     
@@ -113,42 +139,26 @@ public class User {
     
     public void setWalletBalance(BigDecimal walletBalance) {
         this.walletBalance = walletBalance;
-        this.updatedAt = LocalDateTime.now();
     }
     
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
     
-    public List<String> getFundingRequestIds() {
-        return fundingRequestIds;
+    public long getVersion() {
+        return version;
     }
     
-    public void setFundingRequestIds(List<String> fundingRequestIds) {
-        this.fundingRequestIds = fundingRequestIds != null ? fundingRequestIds : new ArrayList<>();
-        this.updatedAt = LocalDateTime.now();
+    public void setVersion(long version) {
+        this.version = version;
     }
     
-    // Helper methods for managing funding request IDs
-    public void addFundingRequestId(String fundingRequestId) {
-        if (this.fundingRequestIds == null) {
-            this.fundingRequestIds = new ArrayList<>();
-        }
-        if (fundingRequestId != null && !this.fundingRequestIds.contains(fundingRequestId)) {
-            this.fundingRequestIds.add(fundingRequestId);
-            this.updatedAt = LocalDateTime.now();
-        }
+    public List<String> getFundingRequestIds() {
+        return fundingRequestIds;
     }
     
-    public boolean removeFundingRequestId(String fundingRequestId) {
-        if (this.fundingRequestIds != null && fundingRequestId != null) {
-            boolean removed = this.fundingRequestIds.remove(fundingRequestId);
-            if (removed) {
-                this.updatedAt = LocalDateTime.now();
-            }
-            return removed;
-        }
-        return false;
+    public void setFundingRequestIds(List<String> fundingRequestIds) {
+        this.fundingRequestIds = fundingRequestIds != null ? fundingRequestIds : new ArrayList<>();
     }
     
     @Override
@@ -162,6 +172,7 @@ public class User {
                 ", fundingRequestIds=" + fundingRequestIds +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
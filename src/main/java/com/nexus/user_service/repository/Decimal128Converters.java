@@ -0,0 +1,48 @@
+package com.nexus.user_service.repository;
+
+import org.bson.types.Decimal128;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * BigDecimal is stored as BSON Decimal128 (Spring Data's default is a string), so walletBalance can be
+ * incremented with $inc, range-queried, indexed and summed. Balances still stored as strings keep reading
+ * through the converter's built-in String to BigDecimal conversion until WalletBalanceMigration has
+ * rewritten them.
+ */
+public final class Decimal128Converters {
+
+    private Decimal128Converters() {
+    }
+
+    /**
+     * @return the writing and reading converters, for MongoCustomConversions
+     */
+    public static List<Converter<?, ?>> getConvertersToRegister() {
+        return List.of(BigDecimalToDecimal128Converter.INSTANCE, Decimal128ToBigDecimalConverter.INSTANCE);
+    }
+
+    @WritingConverter
+    public enum BigDecimalToDecimal128Converter implements Converter<BigDecimal, Decimal128> {
+        INSTANCE;
+
+        @Override
+        public Decimal128 convert(BigDecimal source) {
+            return new Decimal128(source);
+        }
+    }
+
+    @ReadingConverter
+    public enum Decimal128ToBigDecimalConverter implements Converter<Decimal128, BigDecimal> {
+        INSTANCE;
+
+        @Override
+        public BigDecimal convert(Decimal128 source) {
+            return source.bigDecimalValue();
+        }
+    }
+}
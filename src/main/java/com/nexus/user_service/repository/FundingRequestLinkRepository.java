@@ -0,0 +1,45 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.FundingRequestLink;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Funding requests linked to users (user_funding_requests collection). Every operation touches only the
+ * links it reads or writes, so cost does not depend on how many funding requests a user has.
+ */
+public interface FundingRequestLinkRepository {
+    
+    /**
+     * Link funding requests to a user; already linked IDs are left as they are
+     * @param userId the user ID
+     * @param fundingRequestIds funding request IDs, linked in iteration order
+     * @param createdAt link time for the new links
+     * @return number of new links
+     */
+    int addAll(String userId, Collection<String> fundingRequestIds, LocalDateTime createdAt);
+    
+    /**
+     * Find a page of a user's links, oldest first
+     * @param userId the user ID
+     * @param page zero-based page number
+     * @param size page size
+     * @return links on the page
+     */
+    List<FundingRequestLink> findByUserId(String userId, int page, int size);
+    
+    /**
+     * Count a user's links
+     * @param userId the user ID
+     * @return number of links
+     */
+    long countByUserId(String userId);
+    
+    /**
+     * Delete all links of a user
+     * @param userId the user ID
+     */
+    void deleteByUserId(String userId);
+}
@@ -0,0 +1,86 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.FundingRequestLink;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link FundingRequestLinkRepository} for the in-memory profile. Each user's links are kept in
+ * insertion order (which is createdAt order) behind a per-user lock; returned links are copies.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryFundingRequestLinkRepository implements FundingRequestLinkRepository {
+    
+    private final ConcurrentHashMap<String, Map<String, FundingRequestLink>> linksByUser = new ConcurrentHashMap<>();
+    
+    @Override
+    public int addAll(String userId, Collection<String> fundingRequestIds, LocalDateTime createdAt) {
+        Map<String, FundingRequestLink> links = linksByUser.computeIfAbsent(userId, key -> new LinkedHashMap<>());
+        int added = 0;
+        synchronized (links) {
+            for (String fundingRequestId : fundingRequestIds) {
+                if (!links.containsKey(fundingRequestId)) {
+                    FundingRequestLink link = new FundingRequestLink(userId, fundingRequestId, createdAt);
+                    link.setId(new ObjectId().toHexString());
+                    links.put(fundingRequestId, link);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+    
+    @Override
+    public List<FundingRequestLink> findByUserId(String userId, int page, int size) {
+        Map<String, FundingRequestLink> links = linksByUser.get(userId);
+        if (links == null) {
+            return List.of();
+        }
+        List<FundingRequestLink> found = new ArrayList<>(size);
+        synchronized (links) {
+            long skip = (long) page * size;
+            for (FundingRequestLink link : links.values()) {
+                if (skip > 0) {
+                    skip--;
+                } else if (found.size() < size) {
+                    found.add(copy(link));
+                } else {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+    
+    @Override
+    public long countByUserId(String userId) {
+        Map<String, FundingRequestLink> links = linksByUser.get(userId);
+        if (links == null) {
+            return 0;
+        }
+        synchronized (links) {
+            return links.size();
+        }
+    }
+    
+    @Override
+    public void deleteByUserId(String userId) {
+        linksByUser.remove(userId);
+    }
+    
+    private static FundingRequestLink copy(FundingRequestLink link) {
+        FundingRequestLink copy = new FundingRequestLink(link.getUserId(), link.getFundingRequestId(), link.getCreatedAt());
+        copy.setId(link.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,620 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.User;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory {@link UserRepository}, active with the in-memory profile (which also switches off
+ * the Mongo auto-configuration), for measuring the service and HTTP layers without a database and as a
+ * fast backend for integration tests.
+ *
+ * Users are kept in a concurrent id index with a unique email index and a role index next to it. Writes
+ * are serialised so the three indexes always change together; reads go to the concurrent maps without
+ * locking. Stored users are copies, and every read returns a fresh copy, like documents loaded from
+ * Mongo, so callers mutating an entity do not change the stored state until they save it. Ids are
+ * generated as ObjectId hex strings and unsorted results are ordered by id, which for generated ids is
+ * insertion order.
+ *
+ * Sorting and query by example are evaluated by scanning the id index. As with Mongo, nulls sort lowest
+ * and every non-null probe field is matched, including the entity's defaults (zero wallet balance, no
+ * funding requests, version 0), so examples usually ignore those paths.
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryUserRepository implements UserRepository {
+
+    private static final List<String> NAME_FIELDS = List.of("name", "version");
+    private static final List<String> FIELDS = List.of("id", "name", "email", "passwordHash", "roles", "walletBalance",
+        "fundingRequestIds", "createdAt", "updatedAt", "version");
+
+    private final ConcurrentHashMap<String, User> usersById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> idsByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> idsByRole = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    @Override
+    public <S extends User> S save(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(new ObjectId().toHexString());
+        }
+        User stored = copy(entity);
+        synchronized (writeLock) {
+            store(stored);
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends User> S insert(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(new ObjectId().toHexString());
+        }
+        User stored = copy(entity);
+        synchronized (writeLock) {
+            if (usersById.containsKey(stored.getId())) {
+                throw new DuplicateKeyException("Duplicate key error: _id " + stored.getId());
+            }
+            store(stored);
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends User> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends User> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return Optional.ofNullable(usersById.get(id)).map(InMemoryUserRepository::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return usersById.containsKey(id);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return sorted(usersById.values().stream());
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<String> ids) {
+        List<User> found = new ArrayList<>();
+        for (String id : ids) {
+            User user = usersById.get(id);
+            if (user != null) {
+                found.add(copy(user));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<User> findAll(Sort sort) {
+        return sorted(usersById.values().stream(), sort);
+    }
+
+    @Override
+    public Page<User> findAll(Pageable pageable) {
+        return page(findAll(pageable.getSort()), pageable);
+    }
+
+    @Override
+    public long count() {
+        return usersById.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        synchronized (writeLock) {
+            unindex(usersById.remove(id));
+        }
+    }
+
+    @Override
+    public void delete(User entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends User> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        synchronized (writeLock) {
+            usersById.clear();
+            idsByEmail.clear();
+            idsByRole.clear();
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        String id = email != null ? idsByEmail.get(email) : null;
+        return id != null ? findById(id) : Optional.empty();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return email != null && idsByEmail.containsKey(email);
+    }
+
+    @Override
+    public List<User> findByRole(String role) {
+        Set<String> ids = idsByRole.get(role);
+        return ids != null ? sorted(ids.stream().map(usersById::get).filter(Objects::nonNull)) : List.of();
+    }
+
+    @Override
+    @Deprecated
+    public List<User> findByNameContainingIgnoreCase(String name) {
+        String needle = name.toLowerCase(Locale.ROOT);
+        return sorted(usersById.values().stream()
+            .filter(user -> user.getName() != null && user.getName().toLowerCase(Locale.ROOT).contains(needle)));
+    }
+
+    @Override
+    public void deleteByEmail(String email) {
+        synchronized (writeLock) {
+            String id = email != null ? idsByEmail.get(email) : null;
+            if (id != null) {
+                unindex(usersById.remove(id));
+            }
+        }
+    }
+
+    @Override
+    public Optional<User> findByIdWithFields(String id, Collection<String> fields) {
+        return Optional.ofNullable(usersById.get(id)).map(user -> project(user, fields));
+    }
+
+    @Override
+    public List<User> findAllByIdWithFields(Collection<String> ids, Collection<String> fields) {
+        List<User> found = new ArrayList<>();
+        forEachByIdWithFields(ids, fields, found::add);
+        return found;
+    }
+
+    @Override
+    public void forEachByIdWithFields(Collection<String> ids, Collection<String> fields, Consumer<User> action) {
+        for (String id : ids) {
+            User user = usersById.get(id);
+            if (user != null) {
+                action.accept(project(user, fields));
+            }
+        }
+    }
+
+    @Override
+    public boolean clearFundingRequestIds(String id, List<String> expected) {
+        synchronized (writeLock) {
+            User stored = usersById.get(id);
+            if (stored == null || !Objects.equals(stored.getFundingRequestIds(), expected)) {
+                return false;
+            }
+            User cleared = copy(stored);
+            cleared.setFundingRequestIds(null);
+            cleared.setVersion(stored.getVersion() + 1);
+            usersById.put(id, cleared);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean replaceIfVersion(User user, long expectedVersion) {
+        synchronized (writeLock) {
+            User current = usersById.get(user.getId());
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            User stored = copy(user);
+            stored.setVersion(expectedVersion + 1);
+            store(stored);
+            user.setVersion(stored.getVersion());
+            return true;
+        }
+    }
+
+    @Override
+    public void forEachNameUpdatedSince(LocalDateTime since, Consumer<User> action) {
+        for (User user : usersById.values()) {
+            if (since == null || (user.getUpdatedAt() != null && !user.getUpdatedAt().isBefore(since))) {
+                action.accept(project(user, NAME_FIELDS));
+            }
+        }
+    }
+
+    @Override
+    public <S extends User> Optional<S> findOne(Example<S> example) {
+        return Optional.ofNullable(new ExampleQuery<>(example, Sort.unsorted(), example.getProbeType()).oneValue());
+    }
+
+    @Override
+    public <S extends User> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.unsorted());
+    }
+
+    @Override
+    public <S extends User> List<S> findAll(Example<S> example, Sort sort) {
+        return new ExampleQuery<>(example, sort, example.getProbeType()).all();
+    }
+
+    @Override
+    public <S extends User> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return new ExampleQuery<>(example, Sort.unsorted(), example.getProbeType()).page(pageable);
+    }
+
+    @Override
+    public <S extends User> long count(Example<S> example) {
+        return usersById.values().stream().filter(matcher(example)).count();
+    }
+
+    @Override
+    public <S extends User> boolean exists(Example<S> example) {
+        return usersById.values().stream().anyMatch(matcher(example));
+    }
+
+    @Override
+    public <S extends User, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example, Sort.unsorted(), example.getProbeType()));
+    }
+
+    /**
+     * Put a user into the id index and re-index its email and roles (caller holds the write lock)
+     */
+    private void store(User stored) {
+        String email = stored.getEmail();
+        if (email != null) {
+            String owner = idsByEmail.get(email);
+            if (owner != null && !owner.equals(stored.getId())) {
+                throw new DuplicateKeyException("Duplicate key error: email " + stored.getEmail());
+            }
+        }
+        User previous = usersById.put(stored.getId(), stored);
+        unindex(previous);
+        if (email != null) {
+            idsByEmail.put(email, stored.getId());
+        }
+        if (stored.getRoles() != null) {
+            for (String role : stored.getRoles()) {
+                idsByRole.computeIfAbsent(role, key -> ConcurrentHashMap.newKeySet()).add(stored.getId());
+            }
+        }
+    }
+
+    /**
+     * Remove a replaced or deleted user from the email and role indexes (caller holds the write lock)
+     */
+    private void unindex(User user) {
+        if (user == null) {
+            return;
+        }
+        if (user.getEmail() != null) {
+            idsByEmail.remove(user.getEmail(), user.getId());
+        }
+        if (user.getRoles() != null) {
+            for (String role : user.getRoles()) {
+                Set<String> ids = idsByRole.get(role);
+                if (ids != null) {
+                    ids.remove(user.getId());
+                }
+            }
+        }
+    }
+
+    private static List<User> sorted(Stream<User> users) {
+        return sorted(users, Sort.unsorted());
+    }
+
+    private static List<User> sorted(Stream<User> users, Sort sort) {
+        return users.sorted(comparator(sort)).map(InMemoryUserRepository::copy).toList();
+    }
+
+    private static <T> Page<T> page(List<T> all, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    /**
+     * Order users by the sort's properties, then by id. Nulls sort lowest, as in Mongo, unless the order
+     * asks for them first or last.
+     */
+    private static Comparator<User> comparator(Sort sort) {
+        Comparator<User> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            String field = order.getProperty();
+            if (!FIELDS.contains(field) || field.equals("roles") || field.equals("fundingRequestIds")) {
+                throw new IllegalArgumentException("Unsupported sort property: " + field);
+            }
+            Comparator<Object> values = order.isIgnoreCase() ? InMemoryUserRepository::compareIgnoringCase
+                : InMemoryUserRepository::compare;
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            boolean nullsFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isAscending();
+            };
+            values = nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+            comparator = comparator.thenComparing(user -> property(user, field), values);
+        }
+        return comparator.thenComparing(User::getId);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static int compareIgnoringCase(Object left, Object right) {
+        return left instanceof String l && right instanceof String r ? l.compareToIgnoreCase(r) : compare(left, right);
+    }
+
+    /**
+     * Match users against an example's probe: every non-null field that is not ignored must (or, with an
+     * any-matcher, at least one must) equal the probe's value, strings by the configured string matcher
+     */
+    private static Predicate<User> matcher(Example<? extends User> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        User probe = example.getProbe();
+        List<Predicate<User>> conditions = new ArrayList<>();
+        for (String field : FIELDS) {
+            if (matcher.isIgnoredPath(field)) {
+                continue;
+            }
+            ExampleMatcher.PropertySpecifier specifier = matcher.getPropertySpecifiers().getForPath(field);
+            Object value = property(probe, field);
+            if (specifier != null) {
+                value = specifier.getPropertyValueTransformer().apply(Optional.ofNullable(value)).orElse(null);
+            }
+            if (value == null) {
+                if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(user -> property(user, field) == null);
+                }
+                continue;
+            }
+            Predicate<Object> matches;
+            if (value instanceof String expected) {
+                boolean ignoreCase = specifier != null && specifier.getIgnoreCase() != null
+                    ? specifier.getIgnoreCase() : matcher.isIgnoreCaseEnabled();
+                ExampleMatcher.StringMatcher stringMatcher = specifier != null && specifier.getStringMatcher() != null
+                    ? specifier.getStringMatcher() : matcher.getDefaultStringMatcher();
+                matches = stringMatches(expected, stringMatcher, ignoreCase);
+            } else if (value instanceof BigDecimal expected) {
+                matches = actual -> actual instanceof BigDecimal amount && amount.compareTo(expected) == 0;
+            } else {
+                Object expected = value;
+                matches = actual -> Objects.equals(expected, actual);
+            }
+            conditions.add(user -> matches.test(property(user, field)));
+        }
+        return matcher.isAllMatching()
+            ? user -> conditions.stream().allMatch(condition -> condition.test(user))
+            : user -> conditions.isEmpty() || conditions.stream().anyMatch(condition -> condition.test(user));
+    }
+
+    private static Predicate<Object> stringMatches(String expected, ExampleMatcher.StringMatcher stringMatcher,
+                                                   boolean ignoreCase) {
+        int flags = ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+        Pattern pattern = switch (stringMatcher) {
+            case DEFAULT, EXACT -> Pattern.compile("^" + Pattern.quote(expected) + "$", flags);
+            case STARTING -> Pattern.compile("^" + Pattern.quote(expected), flags);
+            case ENDING -> Pattern.compile(Pattern.quote(expected) + "$", flags);
+            case CONTAINING -> Pattern.compile(Pattern.quote(expected), flags);
+            case REGEX -> Pattern.compile(expected, flags);
+        };
+        return actual -> actual instanceof String text && pattern.matcher(text).find();
+    }
+
+    /**
+     * Read a field of a user by its document path
+     */
+    private static Object property(User user, String field) {
+        return switch (field) {
+            case "id" -> user.getId();
+            case "name" -> user.getName();
+            case "email" -> user.getEmail();
+            case "passwordHash" -> user.getPasswordHash();
+            case "roles" -> user.getRoles();
+            case "walletBalance" -> user.getWalletBalance();
+            case "fundingRequestIds" -> user.getFundingRequestIds();
+            case "createdAt" -> user.getCreatedAt();
+            case "updatedAt" -> user.getUpdatedAt();
+            case "version" -> user.getVersion();
+            default -> throw new IllegalArgumentException("Unsupported field: " + field);
+        };
+    }
+
+    /**
+     * Copy a user, including its lists, so stored and returned entities never share mutable state
+     */
+    private static User copy(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setName(user.getName());
+        copy.setEmail(user.getEmail());
+        copy.setPasswordHash(user.getPasswordHash());
+        copy.setRoles(user.getRoles() != null ? new ArrayList<>(user.getRoles()) : null);
+        copy.setWalletBalance(user.getWalletBalance());
+        copy.setFundingRequestIds(user.getFundingRequestIds() != null ? new ArrayList<>(user.getFundingRequestIds()) : null);
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        copy.setVersion(user.getVersion());
+        return copy;
+    }
+
+    /**
+     * Copy only the given fields (plus id) onto a new user, like a Mongo field projection mapped onto the
+     * entity; unprojected fields keep the entity's constructor defaults
+     */
+    private static User project(User user, Collection<String> fields) {
+        User projected = new User();
+        projected.setId(user.getId());
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> { }
+                case "name" -> projected.setName(user.getName());
+                case "email" -> projected.setEmail(user.getEmail());
+                case "passwordHash" -> projected.setPasswordHash(user.getPasswordHash());
+                case "roles" -> projected.setRoles(user.getRoles() != null ? new ArrayList<>(user.getRoles()) : null);
+                case "walletBalance" -> projected.setWalletBalance(user.getWalletBalance());
+                case "fundingRequestIds" -> projected.setFundingRequestIds(
+                    user.getFundingRequestIds() != null ? new ArrayList<>(user.getFundingRequestIds()) : null);
+                case "createdAt" -> projected.setCreatedAt(user.getCreatedAt());
+                case "updatedAt" -> projected.setUpdatedAt(user.getUpdatedAt());
+                case "version" -> projected.setVersion(user.getVersion());
+                default -> throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * Fluent query over the users matching an example; results are copies of the stored users, projected when
+     * fields are requested. Only the entity type itself can be returned.
+     */
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Example<? extends User> example;
+        private final Sort sort;
+        private final Class<T> type;
+        private final int limit;
+        private final Collection<String> fields;
+
+        ExampleQuery(Example<? extends User> example, Sort sort, Class<T> type) {
+            this(example, sort, type, Integer.MAX_VALUE, List.of());
+        }
+
+        private ExampleQuery(Example<? extends User> example, Sort sort, Class<T> type, int limit,
+                             Collection<String> fields) {
+            this.example = example;
+            this.sort = sort;
+            this.type = type;
+            this.limit = limit;
+            this.fields = fields;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(example, this.sort.and(sort), type, limit, fields);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(example, sort, type, limit, fields);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            if (!resultType.isAssignableFrom(User.class)) {
+                throw new UnsupportedOperationException("Only User results are supported, not " + resultType.getName());
+            }
+            return new ExampleQuery<>(example, sort, resultType, limit, fields);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return new ExampleQuery<>(example, sort, type, limit, List.copyOf(properties));
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> found = fetch(sort, 2);
+            if (found.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            List<T> found = fetch(sort, 1);
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        @Override
+        public List<T> all() {
+            return fetch(sort, limit);
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            return InMemoryUserRepository.page(fetch(sort.and(pageable.getSort()), limit), pageable);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return Math.min(InMemoryUserRepository.this.count(example), limit);
+        }
+
+        @Override
+        public boolean exists() {
+            return InMemoryUserRepository.this.exists(example);
+        }
+
+        private List<T> fetch(Sort order, int max) {
+            return usersById.values().stream()
+                .filter(matcher(example))
+                .sorted(comparator(order))
+                .limit(max)
+                .map(user -> type.cast(fields.isEmpty() ? copy(user) : InMemoryUserRepository.project(user, fields)))
+                .toList();
+        }
+    }
+}
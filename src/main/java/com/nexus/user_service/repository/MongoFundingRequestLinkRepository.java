@@ -0,0 +1,66 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.FundingRequestLink;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * MongoDB {@link FundingRequestLinkRepository}. Links are added with one ordered bulk of upserts keyed on
+ * (userId, fundingRequestId), so re-adding an existing link is a no-op and new links get ascending _ids in
+ * request order. Relies on the indexes declared on {@link FundingRequestLink}.
+ */
+@Repository
+@Profile("!in-memory")
+public class MongoFundingRequestLinkRepository implements FundingRequestLinkRepository {
+    
+    private static final Sort LINK_ORDER = Sort.by("createdAt", "id");
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Override
+    public int addAll(String userId, Collection<String> fundingRequestIds, LocalDateTime createdAt) {
+        if (fundingRequestIds.isEmpty()) {
+            return 0;
+        }
+        BulkOperations upserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, FundingRequestLink.class);
+        for (String fundingRequestId : new LinkedHashSet<>(fundingRequestIds)) {
+            upserts.upsert(
+                new Query(Criteria.where("userId").is(userId).and("fundingRequestId").is(fundingRequestId)),
+                new Update().setOnInsert("createdAt", createdAt));
+        }
+        return upserts.execute().getUpserts().size();
+    }
+    
+    @Override
+    public List<FundingRequestLink> findByUserId(String userId, int page, int size) {
+        return mongoTemplate.find(byUser(userId).with(PageRequest.of(page, size, LINK_ORDER)), FundingRequestLink.class);
+    }
+    
+    @Override
+    public long countByUserId(String userId) {
+        return mongoTemplate.count(byUser(userId), FundingRequestLink.class);
+    }
+    
+    @Override
+    public void deleteByUserId(String userId) {
+        mongoTemplate.remove(byUser(userId), FundingRequestLink.class);
+    }
+    
+    private static Query byUser(String userId) {
+        return new Query(Criteria.where("userId").is(userId));
+    }
+}
@@ -0,0 +1,180 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.User;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written BSON codec for {@link User}, used instead of Spring Data's reflective mapping when
+ * user.mongo.codec=direct.
+ *
+ * Reads and writes the same document layout as MappingMongoConverter with Decimal128Converters: _id as
+ * ObjectId (or string when the id is not a valid ObjectId), walletBalance as Decimal128 (strings not yet
+ * rewritten by WalletBalanceMigration and numeric values are read as well), LocalDateTime as BSON date in
+ * the system zone, and the _class type hint. Fields are decoded straight into the restoring constructor,
+ * so no setter runs. Projected documents decode to users with only the present fields set; missing lists,
+ * balance and version get the entity defaults (empty list, zero) and missing timestamps stay null. Unknown
+ * fields are skipped.
+ */
+public class UserCodec implements Codec<User> {
+
+    static final String TYPE_HINT = User.class.getName();
+
+    private final ZoneId zone;
+
+    public UserCodec() {
+        this(ZoneId.systemDefault());
+    }
+
+    UserCodec(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    @Override
+    public User decode(BsonReader reader, DecoderContext decoderContext) {
+        String id = null;
+        String name = null;
+        String email = null;
+        String passwordHash = null;
+        List<String> roles = null;
+        BigDecimal walletBalance = BigDecimal.ZERO;
+        List<String> fundingRequestIds = new ArrayList<>();
+        LocalDateTime createdAt = null;
+        LocalDateTime updatedAt = null;
+        long version = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String field = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (field) {
+                case "_id" -> id = reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                    ? reader.readObjectId().toHexString() : reader.readString();
+                case "name" -> name = reader.readString();
+                case "email" -> email = reader.readString();
+                case "passwordHash" -> passwordHash = reader.readString();
+                case "roles" -> roles = readStrings(reader);
+                case "walletBalance" -> walletBalance = readDecimal(reader);
+                case "fundingRequestIds" -> fundingRequestIds = readStrings(reader);
+                case "createdAt" -> createdAt = readDateTime(reader);
+                case "updatedAt" -> updatedAt = readDateTime(reader);
+                case "version" -> version = readLong(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new User(id, name, email, passwordHash, roles, walletBalance, fundingRequestIds, createdAt, updatedAt, version);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (user.getId() != null) {
+            if (ObjectId.isValid(user.getId())) {
+                writer.writeObjectId("_id", new ObjectId(user.getId()));
+            } else {
+                writer.writeString("_id", user.getId());
+            }
+        }
+        writeString(writer, "name", user.getName());
+        writeString(writer, "email", user.getEmail());
+        writeString(writer, "passwordHash", user.getPasswordHash());
+        writeStrings(writer, "roles", user.getRoles());
+        if (user.getWalletBalance() != null) {
+            writer.writeDecimal128("walletBalance", new Decimal128(user.getWalletBalance()));
+        }
+        writeDateTime(writer, "createdAt", user.getCreatedAt());
+        writeDateTime(writer, "updatedAt", user.getUpdatedAt());
+        writer.writeInt64("version", user.getVersion());
+        writeStrings(writer, "fundingRequestIds", user.getFundingRequestIds());
+        writer.writeString("_class", TYPE_HINT);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+
+    private static List<String> readStrings(BsonReader reader) {
+        List<String> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values.add(null);
+            } else {
+                values.add(reader.readString());
+            }
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private static BigDecimal readDecimal(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case STRING -> new BigDecimal(reader.readString());
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+            case DOUBLE -> BigDecimal.valueOf(reader.readDouble());
+            case INT32 -> BigDecimal.valueOf(reader.readInt32());
+            case INT64 -> BigDecimal.valueOf(reader.readInt64());
+            default -> throw new IllegalStateException("Unexpected walletBalance type: " + reader.getCurrentBsonType());
+        };
+    }
+
+    private static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT64 -> reader.readInt64();
+            case INT32 -> reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> throw new IllegalStateException("Unexpected version type: " + reader.getCurrentBsonType());
+        };
+    }
+
+    private LocalDateTime readDateTime(BsonReader reader) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), zone);
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    private static void writeStrings(BsonWriter writer, String name, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        writer.writeStartArray(name);
+        for (String value : values) {
+            if (value != null) {
+                writer.writeString(value);
+            } else {
+                writer.writeNull();
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    private void writeDateTime(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atZone(zone).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -9,14 +9,23 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     
     /**
-     * Find user by email
-     * @param email the email to search for
+     * Find user by ID (implemented by UserRepositoryCustomImpl, which may decode with UserCodec)
+     * @param id the user ID
      * @return Optional<User>
      */
-    Optional<User> findByEmail(String email);
+    @Override
+    Optional<User> findById(String id);
+    
+    /**
+     * Find users by IDs (implemented by UserRepositoryCustomImpl, which may decode with UserCodec)
+     * @param ids the user IDs
+     * @return found users (missing IDs are skipped)
+     */
+    @Override
+    List<User> findAllById(Iterable<String> ids);
     
     /**
      * Check if user exists by email
@@ -37,7 +46,10 @@ public interface UserRepository extends MongoRepository<User, String> {
      * Find users by name containing (case insensitive)
      * @param name the name pattern to search for
      * @return List<User>
+     * @deprecated derived as an unanchored case-insensitive regex, which no index can serve, so every call
+     * scans the whole collection; use UserService#searchUsers (backed by UserNameIndex) instead
      */
+    @Deprecated
     List<User> findByNameContainingIgnoreCase(String name);
     
     /**
@@ -0,0 +1,87 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Custom repository operations that need MongoTemplate (field projections) and the hot-path reads that can
+ * be decoded by {@link UserCodec} instead of the mapping converter (user.mongo.codec=direct)
+ */
+public interface UserRepositoryCustom {
+    
+    /**
+     * Find user by ID
+     * @param id the user ID
+     * @return Optional<User>
+     */
+    Optional<User> findById(String id);
+    
+    /**
+     * Find users by IDs
+     * @param ids the user IDs
+     * @return found users (missing IDs are skipped)
+     */
+    List<User> findAllById(Iterable<String> ids);
+    
+    /**
+     * Find user by email
+     * @param email the email to search for
+     * @return Optional<User>
+     */
+    Optional<User> findByEmail(String email);
+    
+    /**
+     * Find user by ID, fetching only the given fields
+     * @param id the user ID
+     * @param fields User property names to fetch (id is always fetched)
+     * @return Optional<User> with only the projected fields populated
+     */
+    Optional<User> findByIdWithFields(String id, Collection<String> fields);
+    
+    /**
+     * Find users by IDs, fetching only the given fields
+     * @param ids the user IDs
+     * @param fields User property names to fetch (id is always fetched)
+     * @return List<User> with only the projected fields populated
+     */
+    List<User> findAllByIdWithFields(Collection<String> ids, Collection<String> fields);
+    
+    /**
+     * Stream users by IDs from a cursor, fetching only the given fields, without materialising a result list
+     * @param ids the user IDs
+     * @param fields User property names to fetch (id is always fetched)
+     * @param action callback invoked once per found user
+     */
+    void forEachByIdWithFields(Collection<String> ids, Collection<String> fields, Consumer<User> action);
+    
+    /**
+     * Remove the legacy embedded fundingRequestIds array once it has been moved to the link collection, only
+     * if it still holds the given IDs
+     * @param id the user ID
+     * @param expected the array as it was read
+     * @return true if the array was removed (the version is incremented)
+     */
+    boolean clearFundingRequestIds(String id, List<String> expected);
+    
+    /**
+     * Replace a stored user only if it is still at the version it was read at, incrementing the version.
+     * A stored document without a version matches version 0.
+     * @param user the modified user (its version is set to the new version when replaced)
+     * @param expectedVersion the version the user was read at
+     * @return true if replaced, false if the user was changed or deleted since it was read
+     */
+    boolean replaceIfVersion(User user, long expectedVersion);
+    
+    /**
+     * Stream the name of every user updated at or after the given time from a cursor (read by the name
+     * search index, which only needs id, name and version)
+     * @param since lower bound on updatedAt, or null for all users
+     * @param action callback invoked once per user, with only id, name and version populated
+     */
+    void forEachNameUpdatedSince(LocalDateTime since, Consumer<User> action);
+}
@@ -0,0 +1,179 @@
+package com.nexus.user_service.repository;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.nexus.user_service.model.User;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final List<String> NAME_FIELDS = List.of("name", "version");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /** "direct" decodes through UserCodec (registered with the client by MongoCodecConfig), "converter" through Spring Data */
+    @Value("${user.mongo.codec:converter}")
+    private String codec;
+
+    @Override
+    public Optional<User> findById(String id) {
+        Assert.notNull(id, "The given id must not be null");
+        if (isDirect()) {
+            return Optional.ofNullable(withUsers(users -> users.find(Filters.eq("_id", idValue(id))).first()));
+        }
+        return Optional.ofNullable(mongoTemplate.findById(id, User.class));
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<String> ids) {
+        List<Object> idValues = new ArrayList<>();
+        ids.forEach(id -> idValues.add(isDirect() ? idValue(id) : id));
+        if (isDirect()) {
+            return withUsers(users -> users.find(Filters.in("_id", idValues)).into(new ArrayList<>()));
+        }
+        return mongoTemplate.find(new Query(Criteria.where("id").in(idValues)), User.class);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (isDirect()) {
+            return Optional.ofNullable(withUsers(users -> users.find(Filters.eq("email", email)).first()));
+        }
+        return Optional.ofNullable(mongoTemplate.findOne(new Query(Criteria.where("email").is(email)), User.class));
+    }
+
+    @Override
+    public Optional<User> findByIdWithFields(String id, Collection<String> fields) {
+        if (isDirect()) {
+            return Optional.ofNullable(withUsers(users -> project(users.find(Filters.eq("_id", idValue(id))), fields).first()));
+        }
+        Query query = new Query(Criteria.where("id").is(id));
+        includeFields(query, fields);
+        return Optional.ofNullable(mongoTemplate.findOne(query, User.class));
+    }
+
+    @Override
+    public List<User> findAllByIdWithFields(Collection<String> ids, Collection<String> fields) {
+        if (isDirect()) {
+            return withUsers(users -> project(users.find(idsIn(ids)), fields).into(new ArrayList<>()));
+        }
+        Query query = new Query(Criteria.where("id").in(ids));
+        includeFields(query, fields);
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public void forEachByIdWithFields(Collection<String> ids, Collection<String> fields, Consumer<User> action) {
+        if (isDirect()) {
+            withUsers(users -> {
+                project(users.find(idsIn(ids)), fields).forEach(action);
+                return null;
+            });
+            return;
+        }
+        Query query = new Query(Criteria.where("id").in(ids));
+        includeFields(query, fields);
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(action);
+        }
+    }
+
+    @Override
+    public boolean clearFundingRequestIds(String id, List<String> expected) {
+        Query query = new Query(Criteria.where("id").is(id).and("fundingRequestIds").is(expected));
+        Update update = new Update().unset("fundingRequestIds").inc("version", 1);
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean replaceIfVersion(User user, long expectedVersion) {
+        Criteria criteria = Criteria.where("id").is(user.getId());
+        if (expectedVersion == 0) {
+            criteria.orOperator(Criteria.where("version").is(0L), Criteria.where("version").exists(false));
+        } else {
+            criteria.and("version").is(expectedVersion);
+        }
+        user.setVersion(expectedVersion + 1);
+        if (mongoTemplate.replace(new Query(criteria), user).getMatchedCount() > 0) {
+            return true;
+        }
+        user.setVersion(expectedVersion);
+        return false;
+    }
+
+    @Override
+    public void forEachNameUpdatedSince(LocalDateTime since, Consumer<User> action) {
+        // Background index refreshes only, so always through the converter
+        Query query = since != null ? new Query(Criteria.where("updatedAt").gte(since)) : new Query();
+        includeFields(query, NAME_FIELDS);
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(action);
+        }
+    }
+
+    private boolean isDirect() {
+        return "direct".equals(codec);
+    }
+
+    /**
+     * Run against the users collection decoded by UserCodec (driver exceptions are translated by the template)
+     */
+    private <T> T withUsers(Function<MongoCollection<User>, T> action) {
+        return mongoTemplate.execute(User.class, collection -> action.apply(collection.withDocumentClass(User.class)));
+    }
+
+    /**
+     * Map an id to its stored form, as the mapping converter does (ObjectId when the string is a valid one)
+     */
+    private static Object idValue(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static Bson idsIn(Collection<String> ids) {
+        List<Object> idValues = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            idValues.add(idValue(id));
+        }
+        return Filters.in("_id", idValues);
+    }
+
+    /**
+     * Restrict a driver query to the given User properties (id is the _id field, included by default)
+     */
+    private static FindIterable<User> project(FindIterable<User> find, Collection<String> fields) {
+        List<String> include = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            include.add(field.equals("id") ? "_id" : field);
+        }
+        return find.projection(Projections.include(include));
+    }
+
+    /**
+     * Restrict the query to the given User properties (mapped to document field names by the converter)
+     */
+    private static void includeFields(Query query, Collection<String> fields) {
+        for (String field : fields) {
+            query.fields().include(field);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.nexus.user_service.service;
+
+import com.nexus.user_service.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker around the payment service calls.
+ *
+ * CLOSED lets every call through. After failureThreshold consecutive failures (5xx, timeouts, connection
+ * errors; 4xx replies are business errors and count as the service being reachable) the circuit OPENs and
+ * calls fail fast for openDuration. After that one trial call is let through (HALF_OPEN): success closes
+ * the circuit, failure opens it again. The state is also read by the readiness health check.
+ */
+@Component
+public class PaymentCircuitBreaker {
+
+    private static final Logger logger = LoggerUtils.getLogger(PaymentCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+
+    PaymentCircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    @Autowired
+    public PaymentCircuitBreaker(@Value("${payment.circuit.failure-threshold:5}") int failureThreshold,
+                                 @Value("${payment.circuit.open-duration-ms:30000}") long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, System::nanoTime);
+    }
+
+    /**
+     * Ask permission for a call; every permitted call must be followed by {@link #recordResult(Throwable)}
+     * @return false if the circuit is open (or a half-open trial is already running)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntil >= 0) {
+            state = State.HALF_OPEN;
+            logger.info("Payment circuit half-open - Letting a trial call through");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Record the outcome of a permitted call
+     * @param failure exception thrown by the call, or null on success
+     */
+    public synchronized void recordResult(Throwable failure) {
+        if (!countsAsFailure(failure)) {
+            if (state != State.CLOSED) {
+                logger.info("Payment circuit closed - Payment service is reachable again");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = nanoClock.getAsLong() + openDurationNanos;
+            logger.warn("Payment circuit open - Consecutive failures: {}, Failing fast for {}ms",
+                consecutiveFailures, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+        }
+    }
+
+    /**
+     * Get the current state; an open circuit whose open period has elapsed reports HALF_OPEN, since the
+     * next call will be let through
+     * @return circuit state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntil >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return consecutive failures since the last success
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * @return milliseconds until an open circuit lets a trial call through, 0 if not open
+     */
+    public synchronized long getRetryInMillis() {
+        return state == State.OPEN ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntil - nanoClock.getAsLong())) : 0;
+    }
+
+    private static boolean countsAsFailure(Throwable failure) {
+        return failure != null
+            && !(failure instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+}
@@ -1,6 +1,8 @@
 package com.nexus.user_service.service;
 
+import com.nexus.user_service.jfr.PaymentCallEvent;
 import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.RequestPhases;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -17,12 +19,14 @@ public class PaymentServiceClient {
     private static final Logger logger = LoggerUtils.getLogger(PaymentServiceClient.class);
     
     private final WebClient webClient;
+    private final PaymentCircuitBreaker circuitBreaker;
     
     @Value("${payment.service.base-url:http://localhost:3006}")
     private String paymentServiceBaseUrl;
     
-    public PaymentServiceClient(WebClient.Builder webClientBuilder) {
+    public PaymentServiceClient(WebClient.Builder webClientBuilder, PaymentCircuitBreaker circuitBreaker) {
         this.webClient = webClientBuilder.build();
+        this.circuitBreaker = circuitBreaker;
     }
     
     /**
@@ -40,13 +44,31 @@ public class PaymentServiceClient {
                 "amount", amount
             );
             
-            Map<String, Object> response = webClient.post()
-                .uri(paymentServiceBaseUrl + "/api/v1/deposit")
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+            if (!circuitBreaker.tryAcquire()) {
+                throw new RuntimeException("Payment service unavailable (circuit open)");
+            }
+            long phaseStart = RequestPhases.start();
+            PaymentCallEvent event = new PaymentCallEvent();
+            event.begin();
+            Map<String, Object> response;
+            Throwable failure = null;
+            try {
+                response = webClient.post()
+                    .uri(paymentServiceBaseUrl + "/api/v1/deposit")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+                event.success = true;
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                circuitBreaker.recordResult(failure);
+                RequestPhases.stop(RequestPhases.PAYMENT, phaseStart);
+                commitPaymentEvent(event, "deposit", externalUserId, amount);
+            }
             
             logger.info("Payment service deposit response received - User ID: {}, Response: {}", externalUserId, response);
             return response;
@@ -76,13 +98,31 @@ public class PaymentServiceClient {
                 "upiId", upiId
             );
             
-            Map<String, Object> response = webClient.post()
-                .uri(paymentServiceBaseUrl + "/api/v1/withdraw")
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+            if (!circuitBreaker.tryAcquire()) {
+                throw new RuntimeException("Payment service unavailable (circuit open)");
+            }
+            long phaseStart = RequestPhases.start();
+            PaymentCallEvent event = new PaymentCallEvent();
+            event.begin();
+            Map<String, Object> response;
+            Throwable failure = null;
+            try {
+                response = webClient.post()
+                    .uri(paymentServiceBaseUrl + "/api/v1/withdraw")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+                event.success = true;
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                circuitBreaker.recordResult(failure);
+                RequestPhases.stop(RequestPhases.PAYMENT, phaseStart);
+                commitPaymentEvent(event, "withdraw", externalUserId, amount);
+            }
             
             logger.info("Payment service withdrawal response received - User ID: {}, Response: {}", externalUserId, response);
             return response;
@@ -94,6 +134,16 @@ public class PaymentServiceClient {
         }
     }
     
+    private static void commitPaymentEvent(PaymentCallEvent event, String operation, String userId, BigDecimal amount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.userId = userId;
+            event.amount = amount.doubleValue();
+            event.commit();
+        }
+    }
+    
     /**
      * Sanitize user name for UPI ID generation
      * @param userName User's name
@@ -0,0 +1,464 @@
+package com.nexus.user_service.service;
+
+import com.nexus.user_service.repository.UserRepository;
+import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.TrigramUtils;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process trigram index over user names, answering substring searches without scanning the collection.
+ *
+ * Every normalised name (see {@link TrigramUtils}) is split into trigrams, and each trigram keeps the users
+ * whose name contains it. A query is answered from the shortest posting list among its trigrams, each
+ * candidate being checked for the whole normalised query, so the work depends on how many users share the
+ * query's rarest trigram rather than on the number of users. Matches are ranked (whole name, then name
+ * prefix, then word prefix, then anywhere; shorter names first) and paged with a cursor holding the last key.
+ *
+ * Most names live in an immutable segment: names by ordinal and a sorted int array of ordinals per trigram,
+ * about four bytes per trigram occurrence. Changes since the segment was built go to a small concurrent
+ * delta that shadows the segment by id (a deletion is an entry without a name). Once the delta outgrows an
+ * eighth of the segment, the refreshing caller merges both into a new segment; writes arriving meanwhile
+ * are carried over to the new delta.
+ *
+ * The segment is built from the collection on the first search (or at startup with
+ * user.search.warm-on-startup) and kept current in two ways: writes through this instance apply their name
+ * change straight away, and a search arriving more than user.search.refresh-ms after the last refresh
+ * first loads the users updated since then (minus user.search.refresh-overlap-ms, for clock skew between
+ * instances), while concurrent searches carry on with the current index. Delta entries carry the user
+ * version, so an older read never replaces a newer name. Users deleted through another instance stay
+ * indexed until a search finds them missing (see UserServiceImpl#searchUsers).
+ */
+@Component
+public class UserNameIndex {
+
+    private static final Logger logger = LoggerUtils.getLogger(UserNameIndex.class);
+
+    /** Match quality, best first */
+    static final int EXACT = 3;
+    static final int PREFIX = 2;
+    static final int WORD_PREFIX = 1;
+    static final int SUBSTRING = 0;
+
+    /** Delta size below which it is never merged into the segment */
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    /**
+     * Position of a match in the result order; encoded as the page cursor
+     * @param score match quality (EXACT to SUBSTRING)
+     * @param name normalised name
+     * @param id user ID
+     */
+    public record Key(int score, String name, String id) {
+
+        static final Comparator<Key> ORDER = Comparator.comparingInt(Key::score).reversed()
+            .thenComparingInt(key -> key.name().length())
+            .thenComparing(Key::name)
+            .thenComparing(Key::id);
+
+        /**
+         * @return opaque URL-safe cursor
+         */
+        public String encode() {
+            String raw = score + "|" + id + "|" + name;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Read a cursor returned by {@link #encode()}
+         * @param cursor the cursor
+         * @return the key
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        public static Key decode(String cursor) {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Malformed search cursor");
+            }
+            return new Key(Integer.parseInt(parts[0]), parts[2], parts[1]);
+        }
+    }
+
+    /**
+     * Immutable bulk-built names: ids and normalised names by ordinal, ascending ordinals per trigram
+     */
+    private record Segment(String[] ids, String[] names, Map<String, int[]> postings) {
+
+        static final Segment EMPTY = new Segment(new String[0], new String[0], Map.of());
+    }
+
+    /**
+     * Indexed name of a changed user (null once deleted) and the version it was read at
+     */
+    private record Entry(String name, long version) {
+    }
+
+    /**
+     * Changes since the segment was built; written under writeLock, read without locking
+     */
+    private static final class Delta {
+        final ConcurrentHashMap<String, Entry> entriesById = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, Set<String>> idsByTrigram = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A segment with the delta that shadows it, swapped together
+     */
+    private record Generation(Segment segment, Delta delta) {
+    }
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final long refreshNanos;
+    private final Duration overlap;
+
+    private final Object writeLock = new Object();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Value("${user.search.warm-on-startup:false}")
+    private boolean warmOnStartup;
+
+    private volatile Generation current = new Generation(Segment.EMPTY, new Delta());
+    private volatile boolean built;
+    private volatile long refreshedAt;
+    /** Wall-clock start of the last refresh (guarded by refreshLock) */
+    private LocalDateTime lastRefreshStart;
+
+    @Autowired
+    public UserNameIndex(UserRepository userRepository, Clock clock,
+                         @Value("${user.search.refresh-ms:30000}") long refreshMillis,
+                         @Value("${user.search.refresh-overlap-ms:60000}") long overlapMillis) {
+        this(userRepository, clock, refreshMillis, overlapMillis, System::nanoTime);
+    }
+
+    UserNameIndex(UserRepository userRepository, Clock clock, long refreshMillis, long overlapMillis,
+                  LongSupplier nanoClock) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshMillis);
+        this.overlap = Duration.ofMillis(overlapMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (warmOnStartup) {
+            ensureFresh();
+        }
+    }
+
+    /**
+     * Find the best matches for a query after a cursor position
+     * @param query normalised query of at least {@link TrigramUtils#MIN_QUERY_LENGTH} characters
+     * @param limit maximum number of matches
+     * @param after key of the last match already returned, or null for the first page
+     * @return up to limit matches, best first
+     */
+    public List<Key> search(String query, int limit, Key after) {
+        ensureFresh();
+        Generation generation = current;
+        Segment segment = generation.segment();
+        Delta delta = generation.delta();
+        Set<String> trigrams = TrigramUtils.trigrams(query);
+        if (trigrams.isEmpty()) {
+            return List.of();
+        }
+
+        // Keep the best `limit` keys after the cursor, worst on top
+        PriorityQueue<Key> best = new PriorityQueue<>(limit + 1, Key.ORDER.reversed());
+
+        int[] ordinals = null;
+        for (String trigram : trigrams) {
+            int[] posting = segment.postings().get(trigram);
+            if (posting == null) {
+                ordinals = null;
+                break;
+            }
+            if (ordinals == null || posting.length < ordinals.length) {
+                ordinals = posting;
+            }
+        }
+        if (ordinals != null) {
+            for (int ordinal : ordinals) {
+                String id = segment.ids()[ordinal];
+                if (!delta.entriesById.containsKey(id)) {
+                    offer(best, limit, after, segment.names()[ordinal], id, query);
+                }
+            }
+        }
+
+        Set<String> changed = null;
+        for (String trigram : trigrams) {
+            Set<String> ids = delta.idsByTrigram.get(trigram);
+            if (ids == null) {
+                changed = null;
+                break;
+            }
+            if (changed == null || ids.size() < changed.size()) {
+                changed = ids;
+            }
+        }
+        if (changed != null) {
+            for (String id : changed) {
+                Entry entry = delta.entriesById.get(id);
+                if (entry != null && entry.name() != null) {
+                    offer(best, limit, after, entry.name(), id, query);
+                }
+            }
+        }
+
+        List<Key> matches = new ArrayList<>(best);
+        matches.sort(Key.ORDER);
+        return matches;
+    }
+
+    /**
+     * Index a created or renamed user (ignored if the index already holds a later version)
+     * @param id user ID
+     * @param name the user's name
+     * @param version the user's version after the write
+     */
+    public void update(String id, String name, long version) {
+        String normalized = TrigramUtils.normalize(name);
+        synchronized (writeLock) {
+            Delta delta = current.delta();
+            Entry previous = delta.entriesById.get(id);
+            if (previous != null && previous.version() > version) {
+                return;
+            }
+            put(delta, id, previous, new Entry(normalized, version));
+        }
+    }
+
+    /**
+     * Drop a deleted user
+     * @param id user ID
+     */
+    public void remove(String id) {
+        synchronized (writeLock) {
+            Delta delta = current.delta();
+            put(delta, id, delta.entriesById.get(id), new Entry(null, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Build the index if it has not been built, or load recent changes if the last refresh is older than
+     * the refresh interval. The build blocks concurrent searches; a refresh runs on one caller only.
+     */
+    void ensureFresh() {
+        if (!built) {
+            refreshLock.lock();
+            try {
+                if (!built) {
+                    refresh();
+                    built = true;
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+            return;
+        }
+        if (nanoClock.getAsLong() - refreshedAt - refreshNanos < 0 || !refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (nanoClock.getAsLong() - refreshedAt - refreshNanos >= 0) {
+                refresh();
+                Generation generation = current;
+                if (generation.delta().entriesById.size() > Math.max(MIN_COMPACTION_SIZE, generation.segment().ids().length / 8)) {
+                    compact();
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the current index; the next refresh covers the missed interval
+            refreshedAt = nanoClock.getAsLong();
+            logger.warn("User name index refresh failed - Error: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Build the segment from every user on the first refresh, load the users updated since the last refresh
+     * into the delta afterwards; caller holds refreshLock
+     */
+    private void refresh() {
+        long startNanos = nanoClock.getAsLong();
+        LocalDateTime start = LocalDateTime.now(clock);
+        if (lastRefreshStart == null) {
+            SegmentBuilder builder = new SegmentBuilder();
+            userRepository.forEachNameUpdatedSince(null,
+                user -> builder.add(user.getId(), TrigramUtils.normalize(user.getName())));
+            Segment segment = builder.build();
+            // Writes made while loading stay in the delta and shadow what was read
+            synchronized (writeLock) {
+                current = new Generation(segment, current.delta());
+            }
+            logger.info("User name index built - Users: {}, Trigrams: {}, Took: {} ms", segment.ids().length,
+                segment.postings().size(), TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startNanos));
+        } else {
+            LocalDateTime since = lastRefreshStart.minus(overlap);
+            int[] loaded = {0};
+            userRepository.forEachNameUpdatedSince(since, user -> {
+                update(user.getId(), user.getName(), user.getVersion());
+                loaded[0]++;
+            });
+            logger.debug("User name index refreshed - Since: {}, Loaded: {}, Changed: {}",
+                since, loaded[0], current.delta().entriesById.size());
+        }
+        lastRefreshStart = start;
+        refreshedAt = startNanos;
+    }
+
+    /**
+     * Merge the delta into a new segment without blocking writers, then carry over the delta entries written
+     * while merging; caller holds refreshLock
+     */
+    void compact() {
+        Generation generation = current;
+        Map<String, Entry> merged = new HashMap<>(generation.delta().entriesById);
+        Segment old = generation.segment();
+        SegmentBuilder builder = new SegmentBuilder();
+        for (int ordinal = 0; ordinal < old.ids().length; ordinal++) {
+            if (!merged.containsKey(old.ids()[ordinal])) {
+                builder.add(old.ids()[ordinal], old.names()[ordinal]);
+            }
+        }
+        merged.forEach((id, entry) -> {
+            if (entry.name() != null) {
+                builder.add(id, entry.name());
+            }
+        });
+        Segment segment = builder.build();
+
+        synchronized (writeLock) {
+            Delta carried = new Delta();
+            current.delta().entriesById.forEach((id, entry) -> {
+                if (merged.get(id) != entry) {
+                    put(carried, id, null, entry);
+                }
+            });
+            current = new Generation(segment, carried);
+        }
+        logger.info("User name index compacted - Users: {}, Merged changes: {}", segment.ids().length, merged.size());
+    }
+
+    /**
+     * Replace a delta entry and its postings (caller holds writeLock)
+     */
+    private static void put(Delta delta, String id, Entry previous, Entry entry) {
+        if (previous != null && previous.name() != null && !previous.name().equals(entry.name())) {
+            for (String trigram : TrigramUtils.trigrams(previous.name())) {
+                Set<String> ids = delta.idsByTrigram.get(trigram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        delta.idsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+        delta.entriesById.put(id, entry);
+        if (entry.name() != null) {
+            for (String trigram : TrigramUtils.trigrams(entry.name())) {
+                delta.idsByTrigram.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Add a match to the bounded best-first queue if it comes after the cursor and beats the current worst
+     */
+    private static void offer(PriorityQueue<Key> best, int limit, Key after, String name, String id, String query) {
+        int score = score(name, query);
+        if (score < 0) {
+            return;
+        }
+        if (best.size() == limit) {
+            Key worst = best.peek();
+            if (score < worst.score() || (score == worst.score() && name.length() > worst.name().length())) {
+                return;
+            }
+        }
+        Key key = new Key(score, name, id);
+        if (after != null && Key.ORDER.compare(key, after) <= 0) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(key);
+        } else if (Key.ORDER.compare(key, best.peek()) < 0) {
+            best.poll();
+            best.add(key);
+        }
+    }
+
+    /**
+     * Rank how a normalised name matches a normalised query
+     * @return EXACT, PREFIX, WORD_PREFIX or SUBSTRING, or -1 if the name does not contain the query
+     */
+    static int score(String name, String query) {
+        int at = name.indexOf(query);
+        if (at < 0) {
+            return -1;
+        }
+        if (at == 0) {
+            return name.length() == query.length() ? EXACT : PREFIX;
+        }
+        return name.charAt(at - 1) == ' ' || name.indexOf(" " + query, at) >= 0 ? WORD_PREFIX : SUBSTRING;
+    }
+
+    /**
+     * Accumulates names in ordinal order; postings come out sorted because ordinals only grow
+     */
+    private static final class SegmentBuilder {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, int[]> postings = new HashMap<>();
+        private final Map<String, Integer> postingSizes = new HashMap<>();
+
+        void add(String id, String normalizedName) {
+            int ordinal = ids.size();
+            ids.add(id);
+            names.add(normalizedName);
+            for (String trigram : TrigramUtils.trigrams(normalizedName)) {
+                int size = postingSizes.merge(trigram, 1, Integer::sum);
+                int[] posting = postings.get(trigram);
+                if (posting == null || posting.length < size) {
+                    posting = posting == null ? new int[4] : Arrays.copyOf(posting, posting.length * 2);
+                    postings.put(trigram, posting);
+                }
+                posting[size - 1] = ordinal;
+            }
+        }
+
+        Segment build() {
+            Map<String, int[]> trimmed = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((trigram, posting) -> trimmed.put(trigram, Arrays.copyOf(posting, postingSizes.get(trigram))));
+            return new Segment(ids.toArray(new String[0]), names.toArray(new String[0]), trimmed);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.nexus.user_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.user_service.config.ContentNegotiationConfig;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.utils.ETagUtils;
+import com.nexus.user_service.utils.LoggerUtils;
+import com.nexus.user_service.utils.TimestampUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Pre-serialised JSON for GET /api/v1/users/{id} (full representation only) and GET /api/v1/users.
+ *
+ * Each entry holds the encoded envelope up to the timestamp value, plus the same bytes as an
+ * unfinished gzip stream. A hit appends the current timestamp and closes the document (for gzip,
+ * with a stored deflate block and a fresh trailer), so no mapping or Jackson work happens and the
+ * timestamp stays per-response. Entries are invalidated by every write in {@link UserServiceImpl}
+ * and expire after a TTL to bound staleness across instances.
+ *
+ * User entries are ordered by document version: a write leaves a tombstone at the version it wrote
+ * (unless a reader has already cached that version), and a read is only cached over an entry or
+ * tombstone at the same or an older version. A slow reader therefore never replaces a newer entry,
+ * and a reader that already saw the write does not lose its entry to the invalidation. Where no
+ * entry is left to compare with (evicted or expired), the invalidation stamp decides as before; the
+ * user list has no version and always goes by the stamp.
+ */
+@Component
+public class UserResponseCache {
+
+    private static final Logger logger = LoggerUtils.getLogger(UserResponseCache.class);
+
+    /** Key of the user list entry; cannot collide with user IDs (24 hex characters) */
+    private static final String USER_LIST_KEY = "users";
+
+    private static final byte[] TIMESTAMP_FIELD = "\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DOCUMENT_END = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    @Value("${user.response-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${user.response-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${user.response-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${user.compression.min-response-size:2048}")
+    private int minCompressedSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Version of user list entries and of tombstones left by deletes */
+    private static final long UNVERSIONED = -1;
+    private static final long DELETED = Long.MAX_VALUE;
+
+    /**
+     * Cached representation of one user, or a tombstone (no bytes) left by a write
+     * @param etag ETag of the cached representation, or null
+     * @param version document version the representation was built from
+     * @param jsonPrefix JSON bytes up to and including the opening quote of the timestamp value
+     * @param gzipPrefix gzip header plus sync-flushed raw deflate of jsonPrefix (no final block)
+     * @param expiresAtNanos System.nanoTime() after which the entry is stale
+     */
+    public record Entry(String etag, long version, byte[] jsonPrefix, byte[] gzipPrefix, long expiresAtNanos) {
+
+        boolean isTombstone() {
+            return jsonPrefix == null;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check whether a request can be answered from the cache (JSON is the negotiated format)
+     * @param accept Accept header value
+     * @return true if the cache is enabled and the client accepts JSON without asking for a binary format
+     */
+    public boolean isCacheable(String accept) {
+        if (!enabled) {
+            return false;
+        }
+        return ContentNegotiationConfig.isJsonNegotiated(accept);
+    }
+
+    /**
+     * Read the invalidation counter; pass it to {@link #put} so a read that raced with a write is not cached
+     * @return current invalidation stamp
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Get a live cache entry
+     * @param id user ID
+     * @return entry or null on miss or expiry
+     */
+    public Entry get(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(id, entry);
+            return null;
+        }
+        return entry.isTombstone() ? null : entry;
+    }
+
+    /**
+     * Encode and cache a user response
+     * @param id user ID
+     * @param stamp invalidation stamp read before the user was loaded
+     * @param version document version of the loaded user
+     * @param etag ETag of the representation
+     * @param response response envelope to encode
+     * @return the encoded entry (also usable when it was not retained)
+     */
+    public Entry put(String id, long stamp, long version, String etag, ResponseEnvelope.Success<?> response) {
+        Entry entry = encode(etag, version, response);
+        makeRoom(id);
+        entries.compute(id, (key, current) -> {
+            if (current != null && !current.isExpired()) {
+                return current.version() <= version ? entry : current;
+            }
+            return invalidations.get() == stamp ? entry : current;
+        });
+        return entry;
+    }
+
+    /**
+     * Get the live user list entry
+     * @return entry or null on miss or expiry
+     */
+    public Entry getUserList() {
+        return get(USER_LIST_KEY);
+    }
+
+    /**
+     * Encode and cache the user list response
+     * @param stamp invalidation stamp read before the users were loaded
+     * @param response response envelope to encode
+     * @return the encoded entry (also usable when it was not retained)
+     */
+    public Entry putUserList(long stamp, ResponseEnvelope.Success<?> response) {
+        Entry entry = encode(null, UNVERSIONED, response);
+        if (invalidations.get() != stamp) {
+            return entry;
+        }
+        makeRoom(USER_LIST_KEY);
+        entries.put(USER_LIST_KEY, entry);
+        // A write that landed between the stamp check and the put must win
+        if (invalidations.get() != stamp) {
+            entries.remove(USER_LIST_KEY, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Drop the cached responses affected by a write to a user (the user itself and the user list)
+     * @param id user ID
+     * @param version document version written
+     */
+    public void invalidate(String id, long version) {
+        if (!enabled) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        makeRoom(id);
+        Entry tombstone = new Entry(null, version, null, null, System.nanoTime() + ttlSeconds * 1_000_000_000L);
+        entries.compute(id, (key, current) -> {
+            // Already at this version or newer: a reader has cached what was written, or a later write won
+            if (current != null && !current.isExpired() && current.version() >= version) {
+                return current;
+            }
+            if (current != null && !current.isTombstone()) {
+                logger.debug("User response cache entry invalidated - ID: {}, Version: {}", id, version);
+            }
+            return tombstone;
+        });
+        entries.remove(USER_LIST_KEY);
+    }
+
+    /**
+     * Drop the cached responses affected by deleting a user; no version of it is cached again until the
+     * tombstone expires
+     * @param id user ID
+     */
+    public void invalidate(String id) {
+        invalidate(id, DELETED);
+    }
+
+    /**
+     * Write a cached response straight to the servlet output stream; the gzip variant gets a weak ETag
+     * @param entry cache entry
+     * @param acceptEncoding Accept-Encoding header value
+     * @param response servlet response
+     */
+    public void write(Entry entry, String acceptEncoding, HttpServletResponse response) throws IOException {
+        byte[] tail = tail();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        boolean gzip = entry.jsonPrefix().length >= minCompressedSize && acceptsGzip(acceptEncoding);
+        if (entry.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, gzip ? ETagUtils.weaken(entry.etag()) : entry.etag());
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            CRC32 crc = new CRC32();
+            crc.update(entry.jsonPrefix());
+            crc.update(tail);
+            long size = entry.jsonPrefix().length + tail.length;
+
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(entry.gzipPrefix().length + 5 + tail.length + 8);
+            out.write(entry.gzipPrefix());
+            // Final stored deflate block: BFINAL=1, BTYPE=00, LEN, NLEN
+            out.write(new byte[] {1, (byte) tail.length, (byte) (tail.length >>> 8),
+                    (byte) ~tail.length, (byte) (~tail.length >>> 8)});
+            out.write(tail);
+            out.write(littleEndian(crc.getValue()));
+            out.write(littleEndian(size));
+        } else {
+            response.setContentLength(entry.jsonPrefix().length + tail.length);
+            out.write(entry.jsonPrefix());
+            out.write(tail);
+        }
+        out.flush();
+    }
+
+    /**
+     * Check whether the client accepts a gzip content coding
+     * @param acceptEncoding Accept-Encoding header value
+     * @return true if gzip is listed without q=0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry encode(String etag, long version, ResponseEnvelope.Success<?> response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode user response: " + e.getMessage(), e);
+        }
+
+        int split = lastIndexOf(json, TIMESTAMP_FIELD);
+        if (split < 0) {
+            throw new RuntimeException("Encoded user response has no trailing timestamp field");
+        }
+        byte[] jsonPrefix = Arrays.copyOf(json, split + TIMESTAMP_FIELD.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(jsonPrefix);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(jsonPrefix.length / 2 + 64);
+            gzip.writeBytes(GZIP_HEADER);
+            byte[] buffer = new byte[4096];
+            int count;
+            do {
+                count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                gzip.write(buffer, 0, count);
+            } while (count == buffer.length);
+            return new Entry(etag, version, jsonPrefix, gzip.toByteArray(),
+                    System.nanoTime() + ttlSeconds * 1_000_000_000L);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] tail() {
+        byte[] timestamp = TimestampUtils.currentTimestamp().getBytes(StandardCharsets.UTF_8);
+        byte[] tail = Arrays.copyOf(timestamp, timestamp.length + DOCUMENT_END.length);
+        System.arraycopy(DOCUMENT_END, 0, tail, timestamp.length, DOCUMENT_END.length);
+        return tail;
+    }
+
+    private void makeRoom(String id) {
+        if (entries.size() >= maxEntries && !entries.containsKey(id)) {
+            evictOne();
+        }
+    }
+
+    private void evictOne() {
+        Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static int lastIndexOf(byte[] source, byte[] target) {
+        for (int i = source.length - target.length; i >= 0; i--) {
+            int j = 0;
+            while (j < target.length && source[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] littleEndian(long value) {
+        return new byte[] {(byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24)};
+    }
+}
@@ -3,11 +3,17 @@ package com.nexus.user_service.service;
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
 import com.nexus.user_service.dto.request.UserValidationRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.dto.response.UserSearchResponseDTO;
 import com.nexus.user_service.model.User;
+import com.nexus.user_service.utils.ExceptionUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface UserService {
     
@@ -40,6 +46,21 @@ public interface UserService {
      */
     Optional<User> getUserById(String id);
     
+    /**
+     * Get user by ID, fetching only the selected fields from the database
+     * @param id user's ID
+     * @param fields selected User fields (see FieldSelectionUtils.USER_DETAIL_FIELDS)
+     * @return Optional<User> with only the selected fields populated
+     */
+    Optional<User> getUserById(String id, Set<String> fields);
+    
+    /**
+     * Get the current version of a user document, reading only the version field
+     * @param id user's ID
+     * @return Optional version string (empty if user not found)
+     */
+    Optional<String> getUserVersion(String id);
+    
     /**
      * Get user by email
      * @param email user's email
@@ -47,6 +68,17 @@ public interface UserService {
      */
     Optional<User> getUserByEmail(String email);
     
+    /**
+     * Search users by name: case- and accent-insensitive substring match, best matches first (whole name,
+     * then name prefix, then word prefix, then anywhere)
+     * @param query search text (at least three letters or digits once normalised)
+     * @param limit maximum number of users on the page
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @return page of matching users
+     * @throws ExceptionUtils.InvalidUserDataException if the cursor is malformed
+     */
+    UserSearchResponseDTO searchUsers(String query, int limit, String cursor);
+    
     /**
      * Update user information
      * @param id user's ID
@@ -56,6 +88,15 @@ public interface UserService {
      */
     User updateUser(String id, UserUpdateRequestDTO request);
     
+    /**
+     * Get a page of the funding requests linked to a user, oldest first
+     * @param id user's ID
+     * @param page zero-based page number
+     * @param size page size
+     * @return Optional page (empty if user not found)
+     */
+    Optional<FundingRequestPageResponseDTO> getFundingRequests(String id, int page, int size);
+    
     /**
      * Delete user by ID
      * @param id user's ID
@@ -93,4 +134,43 @@ public interface UserService {
      */
     List<com.nexus.user_service.dto.response.UserBatchResponseDTO> getUsersBatch(List<String> userIds);
     
+    /**
+     * Get multiple users by their IDs in batch, fetching only the selected fields
+     * @param userIds List of user IDs to retrieve
+     * @param fields selected fields (see FieldSelectionUtils.USER_BATCH_FIELDS)
+     * @return List<UserBatchResponseDTO> with unselected fields left null
+     */
+    List<com.nexus.user_service.dto.response.UserBatchResponseDTO> getUsersBatch(List<String> userIds, Set<String> fields);
+    
+    /**
+     * Get multiple users by their IDs in batch, omitting users whose version the caller already holds
+     * @param userIds List of user IDs to retrieve
+     * @param fields selected fields, or null for all batch fields
+     * @param knownVersions map of user ID to known version; found entries carry their current version
+     * @return List<UserBatchResponseDTO> for changed and not found users, in request order
+     */
+    List<com.nexus.user_service.dto.response.UserBatchResponseDTO> getUsersBatch(List<String> userIds, Set<String> fields, Map<String, String> knownVersions);
+    
+    /**
+     * Resolve a batch lookup entry by entry, handing each result to the sink as soon as it is resolved.
+     * Only the ID-to-document lookup table is held in memory; no response list is built.
+     * @param userIds List of user IDs to retrieve
+     * @param fields selected fields, or null for all batch fields
+     * @param knownVersions map of user ID to known version, or null
+     * @param sink receives entries in request order
+     * @return counts computed while streaming
+     */
+    BatchLookupSummary streamUsersBatch(List<String> userIds, Set<String> fields, Map<String, String> knownVersions,
+                                        Consumer<com.nexus.user_service.dto.response.UserBatchResponseDTO> sink);
+    
+    /**
+     * Counts of a batch lookup
+     * @param requested number of requested IDs
+     * @param found entries returned with user data
+     * @param notFound entries returned with null values
+     * @param unchanged found users omitted because the caller's version is current
+     */
+    record BatchLookupSummary(int requested, int found, int notFound, int unchanged) {
+    }
+    
 }
@@ -3,33 +3,83 @@ package com.nexus.user_service.service;
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
 import com.nexus.user_service.dto.request.UserValidationRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
+import com.nexus.user_service.dto.response.UserListResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.dto.response.UserSearchResponseDTO;
 import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import com.nexus.user_service.jfr.AuthenticationEvent;
+import com.nexus.user_service.jfr.BatchLookupEvent;
+import com.nexus.user_service.jfr.WalletAdjustmentEvent;
+import com.nexus.user_service.model.FundingRequestLink;
 import com.nexus.user_service.model.User;
+import com.nexus.user_service.repository.FundingRequestLinkRepository;
 import com.nexus.user_service.repository.UserRepository;
+import com.nexus.user_service.utils.ETagUtils;
+import com.nexus.user_service.utils.ExceptionUtils;
 import com.nexus.user_service.utils.LoggerUtils;
 import com.nexus.user_service.utils.MapperUtils;
 import com.nexus.user_service.utils.PasswordUtils;
+import com.nexus.user_service.utils.RequestPhases;
+import com.nexus.user_service.utils.SampledLogger;
+import com.nexus.user_service.utils.TrigramUtils;
+import com.nexus.user_service.utils.ValidationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 public class UserServiceImpl implements UserService {
     
     private static final Logger logger = LoggerUtils.getLogger(UserServiceImpl.class);
     
+    /** Hot-path detail lines: 1 in 100 calls per method, at most 20 sampled calls per second */
+    private static final SampledLogger hotPathLogger = LoggerUtils.getSampledLogger(logger, 100, 20);
+    
+    /** Projection used when only the document version is needed */
+    private static final Set<String> VERSION_FIELDS = Set.of("version");
+    
+    /** Projection used to build search results (version to re-index renamed users) */
+    private static final Set<String> SEARCH_RESULT_FIELDS = Set.of("name", "roles", "walletBalance", "version");
+    
+    /** Projection used to check existence and find funding request IDs still embedded in the user */
+    private static final Set<String> LEGACY_FUNDING_REQUEST_FIELDS = Set.of("name", "fundingRequestIds", "version");
+    
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private FundingRequestLinkRepository fundingRequestLinkRepository;
+    
+    @Autowired
+    private UserResponseCache userResponseCache;
+    
+    @Autowired
+    private UserNameIndex userNameIndex;
+    
+    /** Attempts at a conditional write before an update whose changes commute gives up with a conflict */
+    @Value("${user.update.max-attempts:3}")
+    private int maxUpdateAttempts;
+    
+    /** Source of createdAt/updatedAt, read once per create or update */
+    @Autowired
+    private Clock clock;
+    
     @Override
     public User createUser(UserCreateRequestDTO request) {
         logger.info("Starting user creation process - Email: {}, Roles: {}", request.getEmail(), request.getRoles());
@@ -45,17 +95,17 @@ public class UserServiceImpl implements UserService {
         
         // Use MapperUtils to convert DTO to User entity
         logger.debug("Converting DTO to User entity");
-        User user = MapperUtils.toUser(request);
+        User user = MapperUtils.toUser(request, LocalDateTime.now(clock));
         
         // Hash password
         logger.debug("Generating password hash for user");
         user.setPasswordHash(PasswordUtils.hashPassword(request.getPassword()));
-        user.setCreatedAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
         
         logger.debug("Saving user to database - Email: {}, Roles: {}, Wallet Balance: {}", 
             user.getEmail(), user.getRoles(), user.getWalletBalance());
         User savedUser = userRepository.save(user);
+        userResponseCache.invalidate(savedUser.getId(), savedUser.getVersion());
+        userNameIndex.update(savedUser.getId(), savedUser.getName(), savedUser.getVersion());
         
         logger.info("User created successfully - ID: {}, Email: {}, Roles: {}, Wallet Balance: {}", 
             savedUser.getId(), savedUser.getEmail(), savedUser.getRoles(), 
@@ -67,18 +117,32 @@ public class UserServiceImpl implements UserService {
     @Override
     public User authenticateUser(String email, String password) {
         logger.info("Authenticating user with email: {}", email);
-        
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            if (PasswordUtils.verifyPassword(password, user.getPasswordHash())) {
-                logger.info("Authentication successful for user: {}", email);
-                return user;
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        boolean userFound = false;
+        boolean success = false;
+        try {
+            Optional<User> userOpt = userRepository.findByEmail(email);
+            if (userOpt.isPresent()) {
+                userFound = true;
+                User user = userOpt.get();
+                if (PasswordUtils.verifyPassword(password, user.getPasswordHash())) {
+                    success = true;
+                    logger.info("Authentication successful for user: {}", email);
+                    return user;
+                }
+            }
+            
+            logger.warn("Authentication failed for user: {}", email);
+            return null;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.userFound = userFound;
+                event.success = success;
+                event.commit();
             }
         }
-        
-        logger.warn("Authentication failed for user: {}", email);
-        return null;
     }
     
     @Override
@@ -96,22 +160,50 @@ public class UserServiceImpl implements UserService {
     
     @Override
     public Optional<User> getUserById(String id) {
-        logger.info("Starting fetch user by ID operation - ID: {}", id);
+        boolean detail = hotPathLogger.sample("getUserById");
+        if (detail) {
+            logger.info("Starting fetch user by ID operation - ID: {}", id);
+        }
         logger.debug("Executing database query to find user by ID: {}", id);
         
         Optional<User> userOpt = userRepository.findById(id);
         
         if (userOpt.isPresent()) {
             User user = userOpt.get();
-            logger.info("User found by ID - ID: {}, Email: {}, Roles: {}, Wallet Balance: {}", 
-                user.getId(), user.getEmail(), user.getRoles(), user.getWalletBalance());
+            if (detail) {
+                logger.info("User found by ID - ID: {}, Email: {}, Roles: {}, Wallet Balance: {}", 
+                    user.getId(), user.getEmail(), user.getRoles(), user.getWalletBalance());
+            }
         } else {
+            hotPathLogger.failure("getUserById");
+            logger.warn("No user found with ID: {}", id);
+        }
+        
+        return userOpt;
+    }
+    
+    @Override
+    public Optional<User> getUserById(String id, Set<String> fields) {
+        if (hotPathLogger.sample("getUserByIdWithFields")) {
+            logger.info("Starting fetch user by ID operation - ID: {}, Fields: {}", id, fields);
+        }
+        
+        Optional<User> userOpt = userRepository.findByIdWithFields(id, fields);
+        
+        if (userOpt.isEmpty()) {
+            hotPathLogger.failure("getUserByIdWithFields");
             logger.warn("No user found with ID: {}", id);
         }
         
         return userOpt;
     }
     
+    @Override
+    public Optional<String> getUserVersion(String id) {
+        logger.debug("Fetching user version - ID: {}", id);
+        return userRepository.findByIdWithFields(id, VERSION_FIELDS).map(ETagUtils::versionOf);
+    }
+    
     @Override
     public Optional<User> getUserByEmail(String email) {
         logger.info("Starting fetch user by email operation - Email: {}", email);
@@ -130,57 +222,246 @@ public class UserServiceImpl implements UserService {
         return userOpt;
     }
     
+    @Override
+    public UserSearchResponseDTO searchUsers(String query, int limit, String cursor) {
+        String normalized = TrigramUtils.normalize(query);
+        if (hotPathLogger.sample("searchUsers")) {
+            logger.info("Starting user search - Query: {}, Limit: {}, Cursor: {}", normalized, limit, cursor != null);
+        }
+        
+        UserNameIndex.Key after = null;
+        if (cursor != null) {
+            try {
+                after = UserNameIndex.Key.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                logger.warn("User search failed - Malformed cursor: {}", cursor);
+                throw new ExceptionUtils.InvalidUserDataException("Invalid search cursor", "cursor", cursor);
+            }
+        }
+        
+        // One extra match tells whether there is a next page
+        List<UserNameIndex.Key> matches = userNameIndex.search(normalized, limit + 1, after);
+        boolean hasMore = matches.size() > limit;
+        List<UserNameIndex.Key> page = hasMore ? matches.subList(0, limit) : matches;
+        
+        List<String> ids = new ArrayList<>(page.size());
+        for (UserNameIndex.Key match : page) {
+            ids.add(match.id());
+        }
+        Map<String, User> usersById = new HashMap<>();
+        userRepository.forEachByIdWithFields(ids, SEARCH_RESULT_FIELDS, user -> usersById.put(user.getId(), user));
+        
+        // The index can trail writes made through other instances: drop deleted users, re-index renamed ones
+        List<UserListResponseDTO> users = new ArrayList<>(page.size());
+        for (UserNameIndex.Key match : page) {
+            User user = usersById.get(match.id());
+            if (user == null) {
+                userNameIndex.remove(match.id());
+            } else if (!TrigramUtils.normalize(user.getName()).contains(normalized)) {
+                userNameIndex.update(user.getId(), user.getName(), user.getVersion());
+            } else {
+                users.add(MapperUtils.toUserListResponseDTO(user));
+            }
+        }
+        if (users.size() < page.size()) {
+            logger.debug("Stale search matches skipped - Query: {}, Skipped: {}", normalized, page.size() - users.size());
+        }
+        
+        String nextCursor = hasMore ? page.get(page.size() - 1).encode() : null;
+        return new UserSearchResponseDTO(users, nextCursor);
+    }
+    
     @Override
     public User updateUser(String id, UserUpdateRequestDTO request) {
-        logger.info("Starting user update process - ID: {}, Email: {}, Wallet Balance: {}, Wallet Adjustment: {}", 
-            id, request.getEmail(), request.getWalletBalance(), request.getWalletAdjustment());
+        boolean detail = hotPathLogger.sample("updateUser");
+        if (detail) {
+            logger.info("Starting user update process - ID: {}, Email: {}, Wallet Balance: {}, Wallet Adjustment: {}", 
+                id, request.getEmail(), request.getWalletBalance(), request.getWalletAdjustment());
+        }
+        
+        // Log funding request changes if present
+        if (detail && request.getFundingRequestIds() != null) {
+            logger.info("Funding request update - User ID: {}, Funding Requests To Link: {}", 
+                id, request.getFundingRequestIds().size());
+        }
+        
+        LocalDateTime now = LocalDateTime.now(clock);
+        WalletAdjustmentEvent walletEvent = new WalletAdjustmentEvent();
+        walletEvent.begin();
+        User updatedUser;
+        try {
+            // Read, apply and write back only if nobody wrote in between; on a lost race the request is
+            // re-applied to the fresh document unless that write changed a field the request sets
+            ReadFields firstRead = null;
+            for (int attempt = 1; ; attempt++) {
+                User user = loadForUpdate(id);
+                if (firstRead == null) {
+                    firstRead = ReadFields.of(user);
+                    logger.debug("User found - ID: {}, Current Email: {}, Current Wallet Balance: {}, Version: {}", 
+                        user.getId(), user.getEmail(), user.getWalletBalance(), user.getVersion());
+                } else if (firstRead.conflictsWith(user, request)) {
+                    hotPathLogger.failure("updateUser");
+                    logger.warn("User update failed - Concurrent write to requested fields - ID: {}, Version: {}", 
+                        id, user.getVersion());
+                    throw ExceptionUtils.updateConflict(id, user.getVersion());
+                }
+                
+                // Log wallet operations if present
+                if (detail && request.getWalletAdjustment() != null) {
+                    logger.info("Wallet adjustment operation - User ID: {}, Current Balance: {}, Adjustment: {}, Attempt: {}", 
+                        id, user.getWalletBalance(), request.getWalletAdjustment(), attempt);
+                }
+                
+                long readVersion = user.getVersion();
+                applyUpdate(user, request, now);
+                
+                logger.debug("Saving updated user to database - ID: {}, Expected version: {}", id, readVersion);
+                if (userRepository.replaceIfVersion(user, readVersion)) {
+                    updatedUser = user;
+                    linkFundingRequests(updatedUser, request, now);
+                    break;
+                }
+                if (attempt >= maxUpdateAttempts) {
+                    hotPathLogger.failure("updateUser");
+                    logger.warn("User update failed - Version conflict after {} attempts - ID: {}", attempt, id);
+                    throw ExceptionUtils.updateConflict(id, readVersion);
+                }
+                logger.debug("User changed since read, retrying update - ID: {}, Read version: {}, Attempt: {}", 
+                    id, readVersion, attempt);
+            }
+            walletEvent.applied = true;
+        } finally {
+            walletEvent.end();
+            if (request.getWalletAdjustment() != null && walletEvent.shouldCommit()) {
+                walletEvent.userId = id;
+                walletEvent.adjustment = request.getWalletAdjustment().doubleValue();
+                walletEvent.commit();
+            }
+        }
+        userResponseCache.invalidate(id, updatedUser.getVersion());
+        userNameIndex.update(id, updatedUser.getName(), updatedUser.getVersion());
+        
+        if (detail) {
+            logger.info("User updated successfully - ID: {}, Email: {}, Wallet Balance: {}, Version: {}", 
+                updatedUser.getId(), updatedUser.getEmail(), updatedUser.getWalletBalance(), updatedUser.getVersion());
+        }
         
+        return updatedUser;
+    }
+    
+    /**
+     * Load the user to update, failing when it does not exist
+     */
+    private User loadForUpdate(String id) {
         logger.debug("Fetching user from database - ID: {}", id);
         Optional<User> userOpt = userRepository.findById(id);
         if (!userOpt.isPresent()) {
+            hotPathLogger.failure("updateUser");
             logger.warn("User update failed - User not found with ID: {}", id);
             throw new RuntimeException("User with ID " + id + " not found");
         }
-        
-        User user = userOpt.get();
-        logger.debug("User found - ID: {}, Current Email: {}, Current Wallet Balance: {}, Current Funding Requests: {}", 
-            user.getId(), user.getEmail(), user.getWalletBalance(), user.getFundingRequestIds().size());
-        
+        return userOpt.get();
+    }
+    
+    /**
+     * Apply an update request to a freshly read user: check the email is free and apply the fields. Funding
+     * requests are linked only once the conditional replace has succeeded.
+     */
+    private void applyUpdate(User user, UserUpdateRequestDTO request, LocalDateTime now) {
         // Check if new email is already taken by another user
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             logger.debug("Checking email availability - New email: {}", request.getEmail());
             if (userRepository.existsByEmail(request.getEmail())) {
+                hotPathLogger.failure("updateUser");
                 logger.warn("User update failed - Email already taken: {}", request.getEmail());
                 throw new RuntimeException("Email " + request.getEmail() + " is already taken");
             }
             logger.debug("Email availability confirmed - Email: {}", request.getEmail());
         }
         
-        // Log wallet operations if present
-        if (request.getWalletAdjustment() != null) {
-            logger.info("Wallet adjustment operation - User ID: {}, Current Balance: {}, Adjustment: {}", 
-                id, user.getWalletBalance(), request.getWalletAdjustment());
+        // Use MapperUtils to update user from DTO
+        logger.debug("Updating user entity from DTO");
+        MapperUtils.updateUserFromDTO(user, request, now);
+    }
+    
+    /**
+     * Link the requested funding requests to a user whose update has been written, moving any IDs still embedded
+     * in the user into the links too. The embedded IDs are cleared only after they are linked, and the cleared
+     * version is carried back onto the user.
+     */
+    private void linkFundingRequests(User user, UserUpdateRequestDTO request, LocalDateTime now) {
+        String id = user.getId();
+        List<String> legacyFundingRequestIds = user.getFundingRequestIds();
+        if (legacyFundingRequestIds.isEmpty() && request.getFundingRequestIds() == null) {
+            return;
         }
-        
-        // Log funding request changes if present
+        Set<String> fundingRequestIds = new LinkedHashSet<>(legacyFundingRequestIds);
         if (request.getFundingRequestIds() != null) {
-            logger.info("Funding request update - User ID: {}, Current Funding Requests: {}, New Funding Requests: {}", 
-                id, user.getFundingRequestIds().size(), request.getFundingRequestIds().size());
+            fundingRequestIds.addAll(request.getFundingRequestIds());
+        }
+        int linked = fundingRequestLinkRepository.addAll(id, fundingRequestIds, now);
+        if (!legacyFundingRequestIds.isEmpty() && userRepository.clearFundingRequestIds(id, legacyFundingRequestIds)) {
+            user.setFundingRequestIds(null);
+            user.setVersion(user.getVersion() + 1);
+        }
+        logger.debug("Funding requests linked - ID: {}, New Links: {}, Moved From User: {}", 
+            id, linked, legacyFundingRequestIds.size());
+    }
+    
+    /**
+     * The fields an update can set outright, as first read by that update. After a lost race they are compared
+     * with the fresh document: wallet adjustments and funding request links commute and are simply re-applied,
+     * but a concurrent change to a field the request sets is reported as a conflict rather than overwritten.
+     */
+    private record ReadFields(String name, String email, BigDecimal walletBalance) {
+        
+        static ReadFields of(User user) {
+            return new ReadFields(user.getName(), user.getEmail(), user.getWalletBalance());
         }
         
-        // Use MapperUtils to update user from DTO
-        logger.debug("Updating user entity from DTO");
-        MapperUtils.updateUserFromDTO(user, request);
-        user.setUpdatedAt(LocalDateTime.now());
+        boolean conflictsWith(User current, UserUpdateRequestDTO request) {
+            if (ValidationUtils.isNotNullAndNotEmpty(request.getName()) && !Objects.equals(name, current.getName())) {
+                return true;
+            }
+            if (ValidationUtils.isNotNullAndNotEmpty(request.getEmail()) && !Objects.equals(email, current.getEmail())) {
+                return true;
+            }
+            if (request.getWalletBalance() == null) {
+                return false;
+            }
+            BigDecimal currentBalance = current.getWalletBalance();
+            return walletBalance == null || currentBalance == null
+                    ? walletBalance != currentBalance
+                    : walletBalance.compareTo(currentBalance) != 0;
+        }
+    }
+    
+    @Override
+    public Optional<FundingRequestPageResponseDTO> getFundingRequests(String id, int page, int size) {
+        logger.debug("Fetching funding requests - ID: {}, Page: {}, Size: {}", id, page, size);
         
-        logger.debug("Saving updated user to database - ID: {}", id);
-        User updatedUser = userRepository.save(user);
+        Optional<User> userOpt = userRepository.findByIdWithFields(id, LEGACY_FUNDING_REQUEST_FIELDS);
+        if (userOpt.isEmpty()) {
+            logger.warn("No user found with ID: {}", id);
+            return Optional.empty();
+        }
         
-        logger.info("User updated successfully - ID: {}, Email: {}, Wallet Balance: {}, Funding Requests: {}", 
-            updatedUser.getId(), updatedUser.getEmail(), updatedUser.getWalletBalance(), 
-            updatedUser.getFundingRequestIds().size());
+        // Users not updated since the links moved out still embed their IDs; move them before paging
+        List<String> legacyFundingRequestIds = userOpt.get().getFundingRequestIds();
+        if (!legacyFundingRequestIds.isEmpty()) {
+            fundingRequestLinkRepository.addAll(id, legacyFundingRequestIds, LocalDateTime.now(clock));
+            if (userRepository.clearFundingRequestIds(id, legacyFundingRequestIds)) {
+                // Clearing the embedded IDs bumps the version, so cached responses for the old one are stale
+                long version = userOpt.get().getVersion() + 1;
+                userResponseCache.invalidate(id, version);
+                userNameIndex.update(id, userOpt.get().getName(), version);
+            }
+            logger.info("Embedded funding requests moved to links - ID: {}, Count: {}", id, legacyFundingRequestIds.size());
+        }
         
-        return updatedUser;
+        List<FundingRequestLink> links = fundingRequestLinkRepository.findByUserId(id, page, size);
+        long total = fundingRequestLinkRepository.countByUserId(id);
+        return Optional.of(MapperUtils.toFundingRequestPageResponseDTO(links, page, size, total));
     }
     
     @Override
@@ -192,6 +473,9 @@ public class UserServiceImpl implements UserService {
         }
         
         userRepository.deleteById(id);
+        fundingRequestLinkRepository.deleteByUserId(id);
+        userResponseCache.invalidate(id);
+        userNameIndex.remove(id);
         logger.info("User deleted successfully: {}", id);
         
         return true;
@@ -228,7 +512,9 @@ public class UserServiceImpl implements UserService {
         }
         
         // Convert User to UserResponseDTO
+        long mapStart = RequestPhases.start();
         UserResponseDTO response = MapperUtils.toUserResponseDTO(user);
+        RequestPhases.stop(RequestPhases.MAP, mapStart);
         
         logger.info("User validation successful for: {}", request.getEmail());
         return response;
@@ -236,8 +522,9 @@ public class UserServiceImpl implements UserService {
     
     @Override
     public List<UserBatchResponseDTO> getUsersBatch(List<String> userIds) {
-        long startTime = System.currentTimeMillis();
-        logger.info("Starting batch user lookup - Requested IDs count: {}", userIds != null ? userIds.size() : 0);
+        if (hotPathLogger.sample("getUsersBatch")) {
+            logger.info("Starting batch user lookup - Requested IDs count: {}", userIds != null ? userIds.size() : 0);
+        }
         
         // Validate input
         if (userIds == null || userIds.isEmpty()) {
@@ -246,46 +533,152 @@ public class UserServiceImpl implements UserService {
         }
         
         logger.debug("Executing batch database query for {} user IDs", userIds.size());
+        BatchLookupEvent event = new BatchLookupEvent();
+        event.begin();
         
         // Use optimized findAllById query to get all users in one database call
         Iterable<User> foundUsers = userRepository.findAllById(userIds);
         
+        return buildBatchResponse(userIds, foundUsers, null, event);
+    }
+    
+    @Override
+    public List<UserBatchResponseDTO> getUsersBatch(List<String> userIds, Set<String> fields) {
+        return getUsersBatch(userIds, fields, null);
+    }
+    
+    @Override
+    public List<UserBatchResponseDTO> getUsersBatch(List<String> userIds, Set<String> fields, Map<String, String> knownVersions) {
+        if (hotPathLogger.sample("getUsersBatch")) {
+            logger.info("Starting batch user lookup - Requested IDs count: {}, Fields: {}, Known versions: {}", 
+                userIds != null ? userIds.size() : 0, fields, knownVersions != null ? knownVersions.size() : 0);
+        }
+        
+        if (userIds == null || userIds.isEmpty()) {
+            logger.warn("Batch user lookup failed - No user IDs provided");
+            return new ArrayList<>();
+        }
+        
+        BatchLookupEvent event = new BatchLookupEvent();
+        event.begin();
+        if (fields == null && knownVersions == null) {
+            return buildBatchResponse(userIds, userRepository.findAllById(userIds), null, event);
+        }
+        
+        // Only the selected fields (plus the version when comparing) are fetched and decoded
+        Set<String> projection = new LinkedHashSet<>(fields != null ? fields : List.of("id", "email", "roles"));
+        if (knownVersions != null) {
+            projection.addAll(VERSION_FIELDS);
+        }
+        List<User> foundUsers = userRepository.findAllByIdWithFields(userIds, projection);
+        return buildBatchResponse(userIds, foundUsers, knownVersions, event);
+    }
+    
+    /**
+     * Stream a batch lookup: the selected fields are read from the cursor into an ID lookup table, then each
+     * requested ID is resolved in order and handed to the sink, so no response list is held
+     * @param knownVersions when not null, found users at the known version are omitted and the rest carry their version
+     */
+    @Override
+    public BatchLookupSummary streamUsersBatch(List<String> userIds, Set<String> fields, Map<String, String> knownVersions,
+                                               Consumer<UserBatchResponseDTO> sink) {
+        if (hotPathLogger.sample("streamUsersBatch")) {
+            logger.info("Starting streaming batch user lookup - Requested IDs count: {}, Fields: {}, Known versions: {}", 
+                userIds.size(), fields, knownVersions != null ? knownVersions.size() : 0);
+        }
+        
+        Set<String> projection = new LinkedHashSet<>(fields != null ? fields : List.of("id", "email", "roles"));
+        if (knownVersions != null) {
+            projection.addAll(VERSION_FIELDS);
+        }
+        
+        BatchLookupEvent event = new BatchLookupEvent();
+        event.begin();
+        
+        // The lookup table is filled straight from the cursor; no intermediate result list
+        Map<String, User> userMap = new HashMap<>();
+        userRepository.forEachByIdWithFields(userIds, projection, user -> userMap.put(user.getId(), user));
+        
+        BatchLookupSummary summary = resolveBatch(userIds, userMap, knownVersions, sink);
+        commitBatchEvent(event, summary, true);
+        return summary;
+    }
+    
+    /**
+     * Build batch response entries in the order of the requested IDs
+     * @param knownVersions when not null, found users at the known version are omitted and the rest carry their version
+     */
+    private List<UserBatchResponseDTO> buildBatchResponse(List<String> userIds, Iterable<User> foundUsers, 
+                                                          Map<String, String> knownVersions, BatchLookupEvent event) {
         // Create a map for quick lookup of found users by ID
         Map<String, User> userMap = new HashMap<>();
-        int foundCount = 0;
         for (User user : foundUsers) {
             userMap.put(user.getId(), user);
-            foundCount++;
         }
         
-        logger.debug("Found {} users out of {} requested IDs", foundCount, userIds.size());
-        
         // Build response list maintaining the order of requested IDs
-        List<UserBatchResponseDTO> response = new ArrayList<>();
+        List<UserBatchResponseDTO> response = new ArrayList<>(userIds.size());
+        commitBatchEvent(event, resolveBatch(userIds, userMap, knownVersions, response::add), false);
+        return response;
+    }
+    
+    private static void commitBatchEvent(BatchLookupEvent event, BatchLookupSummary summary, boolean streamed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.requested = summary.requested();
+            event.found = summary.found();
+            event.notFound = summary.notFound();
+            event.unchanged = summary.unchanged();
+            event.streamed = streamed;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Resolve requested IDs in order against the lookup table, emitting one entry per ID
+     */
+    private BatchLookupSummary resolveBatch(List<String> userIds, Map<String, User> userMap, 
+                                            Map<String, String> knownVersions, Consumer<UserBatchResponseDTO> sink) {
+        logger.debug("Found {} users out of {} requested IDs", userMap.size(), userIds.size());
+        
+        int found = 0;
+        int notFound = 0;
+        int unchanged = 0;
         for (String userId : userIds) {
             User user = userMap.get(userId);
             if (user != null) {
+                String version = null;
+                if (knownVersions != null) {
+                    version = ETagUtils.versionOf(user);
+                    if (version != null && version.equals(knownVersions.get(userId))) {
+                        logger.debug("Omitting unchanged user from batch response - ID: {}, Version: {}", userId, version);
+                        unchanged++;
+                        continue;
+                    }
+                }
                 // User found - create response with user data
                 UserBatchResponseDTO userResponse = new UserBatchResponseDTO(
                     user.getId(),
                     user.getEmail(),
                     user.getRoles()
                 );
-                response.add(userResponse);
+                userResponse.setFound(true);
+                userResponse.setVersion(version);
+                sink.accept(userResponse);
+                found++;
                 logger.debug("Added user to batch response - ID: {}, Email: {}, Roles: {}", 
                     user.getId(), user.getEmail(), user.getRoles());
             } else {
                 // User not found - create response with null values
-                UserBatchResponseDTO userResponse = new UserBatchResponseDTO(userId, null, null);
-                response.add(userResponse);
+                sink.accept(new UserBatchResponseDTO(userId, null, null));
+                notFound++;
                 logger.debug("Added not-found entry to batch response - ID: {}", userId);
             }
         }
         
-        long executionTime = System.currentTimeMillis() - startTime;
-        logger.info("Batch user lookup completed - Requested: {}, Found: {}, Not Found: {}, Execution time: {}ms", 
-            userIds.size(), foundCount, (userIds.size() - foundCount), executionTime);
+        logger.debug("Batch user lookup completed - Requested: {}, Found: {}, Not Found: {}", 
+            userIds.size(), found, notFound);
         
-        return response;
+        return new BatchLookupSummary(userIds.size(), found, notFound, unchanged);
     }
 }
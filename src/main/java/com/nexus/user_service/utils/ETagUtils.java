@@ -0,0 +1,78 @@
+package com.nexus.user_service.utils;
+
+import com.nexus.user_service.model.User;
+
+import java.util.Set;
+
+/**
+ * Document versions and weak ETags for conditional requests.
+ *
+ * The tags are weak because one version is served as JSON, CBOR and Smile, optionally gzip-compressed, and the
+ * bodies carry a per-response timestamp: the representations are equivalent but not byte-identical.
+ */
+public class ETagUtils {
+
+    /**
+     * Get the version of a user document (the counter incremented by every write)
+     * @param user User entity (needs at least version populated)
+     * @return version string or null if there is no user
+     */
+    public static String versionOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        return Long.toString(user.getVersion());
+    }
+
+    /**
+     * Build a weak ETag for a user representation
+     * @param version document version
+     * @param fields sparse fieldset or null for the full representation
+     * @return weak ETag value (W/"...")
+     */
+    public static String toETag(String version, Set<String> fields) {
+        if (fields == null) {
+            return "W/\"" + version + "\"";
+        }
+        return "W/\"" + version + "-" + Integer.toHexString(String.join(",", fields).hashCode()) + "\"";
+    }
+
+    /**
+     * Mark an ETag as weak, e.g. before a content coding is applied to the body it describes
+     * @param etag quoted ETag value or null
+     * @return weak ETag value, or null if there is none
+     */
+    public static String weaken(String etag) {
+        if (etag == null || etag.startsWith("W/")) {
+            return etag;
+        }
+        return "W/" + etag;
+    }
+
+    /**
+     * Check an If-None-Match header against the current ETag (weak comparison, as required for If-None-Match)
+     * @param ifNoneMatch If-None-Match header value
+     * @param etag current ETag, weak or strong
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (opaqueTag(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -146,6 +146,29 @@ public class ExceptionUtils {
         }
     }
     
+    /**
+     * Custom exception for updates that lost a race with a concurrent write to the same user
+     */
+    public static class UpdateConflictException extends RuntimeException {
+        
+        private final String userId;
+        private final long currentVersion;
+        
+        public UpdateConflictException(String userId, long currentVersion) {
+            super(String.format("User %s was modified concurrently (now at version %d); reload and retry", userId, currentVersion));
+            this.userId = userId;
+            this.currentVersion = currentVersion;
+        }
+        
+        public String getUserId() {
+            return userId;
+        }
+        
+        public long getCurrentVersion() {
+            return currentVersion;
+        }
+    }
+    
     // Factory methods for creating exceptions
     
     /**
@@ -182,4 +205,11 @@ public class ExceptionUtils {
     public static WalletOperationException walletOperationFailed(String operation, BigDecimal amount) {
         return new WalletOperationException(operation, amount);
     }
+    
+    /**
+     * Create UpdateConflictException
+     */
+    public static UpdateConflictException updateConflict(String userId, long currentVersion) {
+        return new UpdateConflictException(userId, currentVersion);
+    }
 }
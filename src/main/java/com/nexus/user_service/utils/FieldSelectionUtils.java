@@ -0,0 +1,67 @@
+package com.nexus.user_service.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parsing and validation of sparse fieldsets ({@code fields=} query parameter).
+ *
+ * Selected fields are always returned in allow-list order, and {@code id} is always included.
+ */
+public class FieldSelectionUtils {
+
+    /** Fields selectable on GET /api/v1/users/{id} */
+    public static final Set<String> USER_DETAIL_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+        "id", "name", "email", "roles", "walletBalance", "createdAt", "updatedAt"
+    )));
+
+    /** Fields selectable on POST /api/v1/users/batch */
+    public static final Set<String> USER_BATCH_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+        "id", "email", "roles"
+    )));
+
+    /**
+     * Get validation error message for a fields parameter
+     * @param fields comma separated field names
+     * @param allowed allow-list of selectable fields
+     * @return error message or null if valid
+     */
+    public static String getFieldsValidationError(String fields, Set<String> allowed) {
+        if (ValidationUtils.isNullOrEmpty(fields)) {
+            return "Fields parameter cannot be empty";
+        }
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                return "Fields parameter contains an empty field name";
+            }
+            if (!allowed.contains(trimmed)) {
+                return "Invalid field: " + trimmed + ". Valid fields are: " + String.join(", ", allowed);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a validated fields parameter into an ordered selection
+     * @param fields comma separated field names (validated)
+     * @param allowed allow-list of selectable fields
+     * @return selected fields in allow-list order, always including id
+     */
+    public static Set<String> parseFields(String fields, Set<String> allowed) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            requested.add(field.trim());
+        }
+
+        Set<String> selection = new LinkedHashSet<>();
+        for (String field : allowed) {
+            if ("id".equals(field) || requested.contains(field)) {
+                selection.add(field);
+            }
+        }
+        return Collections.unmodifiableSet(selection);
+    }
+}
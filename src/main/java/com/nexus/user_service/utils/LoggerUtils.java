@@ -14,6 +14,17 @@ public class LoggerUtils {
         return LoggerFactory.getLogger(clazz);
     }
     
+    /**
+     * Get a sampling/budgeting facade for hot-path INFO logging on top of a logger
+     * @param logger the logger instance
+     * @param sampleRate write detail lines for 1 in sampleRate successful calls per call site
+     * @param budgetPerSecond maximum sampled detail calls per second for this logger
+     * @return SampledLogger instance
+     */
+    public static SampledLogger getSampledLogger(Logger logger, int sampleRate, int budgetPerSecond) {
+        return new SampledLogger(logger, sampleRate, budgetPerSecond);
+    }
+    
     /**
      * Log info message with formatted parameters
      * @param logger the logger instance
@@ -2,23 +2,41 @@ package com.nexus.user_service.utils;
 
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestLinkResponseDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
+import com.nexus.user_service.dto.response.UserBatchResponseDTO;
 import com.nexus.user_service.dto.response.UserListResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.model.FundingRequestLink;
 import com.nexus.user_service.model.User;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MapperUtils {
     
     /**
-     * Convert UserCreateRequestDTO to User entity
+     * Convert UserCreateRequestDTO to User entity, stamped with the current time
      * @param dto UserCreateRequestDTO
      * @return User entity
      */
     public static User toUser(UserCreateRequestDTO dto) {
+        return toUser(dto, LocalDateTime.now());
+    }
+    
+    /**
+     * Convert UserCreateRequestDTO to User entity
+     * @param dto UserCreateRequestDTO
+     * @param now creation time, used for both createdAt and updatedAt
+     * @return User entity
+     */
+    public static User toUser(UserCreateRequestDTO dto, LocalDateTime now) {
         if (dto == null) {
             return null;
         }
@@ -29,8 +47,8 @@ public class MapperUtils {
         user.setRoles(dto.getRoles());
         // Set wallet balance from DTO or default to 0
         user.setWalletBalance(dto.getWalletBalance() != null ? dto.getWalletBalance() : BigDecimal.ZERO);
-        user.setCreatedAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
         // Note: Password will be hashed in service layer
         
         return user;
@@ -52,7 +70,6 @@ public class MapperUtils {
         dto.setEmail(user.getEmail());
         dto.setRoles(user.getRoles());
         dto.setWalletBalance(user.getWalletBalance());
-        dto.setFundingRequestIds(user.getFundingRequestIds());
         dto.setCreatedAt(user.getCreatedAt());
         dto.setUpdatedAt(user.getUpdatedAt());
         // Note: passwordHash is NOT included for security
@@ -95,11 +112,22 @@ public class MapperUtils {
     }
     
     /**
-     * Update User entity with UserUpdateRequestDTO data
+     * Update User entity with UserUpdateRequestDTO data, stamped with the current time
      * @param user existing User entity
      * @param dto UserUpdateRequestDTO with update data
      */
     public static void updateUserFromDTO(User user, UserUpdateRequestDTO dto) {
+        updateUserFromDTO(user, dto, LocalDateTime.now());
+    }
+    
+    /**
+     * Update User entity with UserUpdateRequestDTO data (funding request IDs are linked separately, see
+     * FundingRequestLinkRepository)
+     * @param user existing User entity
+     * @param dto UserUpdateRequestDTO with update data
+     * @param now update time, set as updatedAt
+     */
+    public static void updateUserFromDTO(User user, UserUpdateRequestDTO dto, LocalDateTime now) {
         if (user == null || dto == null) {
             return;
         }
@@ -132,18 +160,7 @@ public class MapperUtils {
             user.setWalletBalance(newBalance);
         }
         
-        if (dto.getFundingRequestIds() != null) {
-            List<String> existingIds = user.getFundingRequestIds();
-            
-            // Append each new ID if it doesn't already exist (avoid duplicates)
-            for (String newId : dto.getFundingRequestIds()) {
-                if (!existingIds.contains(newId)) {
-                    existingIds.add(newId);
-                }
-            }
-        }
-        
-        user.setUpdatedAt(LocalDateTime.now());
+        user.setUpdatedAt(now);
     }
     
     /**
@@ -181,11 +198,82 @@ public class MapperUtils {
         dto.setEmail(user.getEmail());
         dto.setRoles(user.getRoles());
         dto.setWalletBalance(user.getWalletBalance());
-        dto.setFundingRequestIds(user.getFundingRequestIds());
         dto.setCreatedAt(user.getCreatedAt());
         dto.setUpdatedAt(user.getUpdatedAt());
         // Note: Now includes all fields in GET by ID response
         
         return dto;
     }
+    
+    /**
+     * Create a sparse User response containing only the selected fields (for fields= requests)
+     * @param user User entity (possibly fetched with a projection)
+     * @param fields selected fields in output order
+     * @return ordered map of field name to value
+     */
+    public static Map<String, Object> toUserFieldMap(User user, Set<String> fields) {
+        if (user == null) {
+            return null;
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> result.put(field, user.getId());
+                case "name" -> result.put(field, user.getName());
+                case "email" -> result.put(field, user.getEmail());
+                case "roles" -> result.put(field, user.getRoles());
+                case "walletBalance" -> result.put(field, user.getWalletBalance());
+                case "createdAt" -> result.put(field, user.getCreatedAt());
+                case "updatedAt" -> result.put(field, user.getUpdatedAt());
+                default -> throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Convert a page of funding request links to FundingRequestPageResponseDTO
+     * @param links links on the page
+     * @param page zero-based page number
+     * @param size page size
+     * @param total total number of links of the user
+     * @return FundingRequestPageResponseDTO
+     */
+    public static FundingRequestPageResponseDTO toFundingRequestPageResponseDTO(List<FundingRequestLink> links,
+                                                                                int page, int size, long total) {
+        List<FundingRequestLinkResponseDTO> fundingRequests = new ArrayList<>(links.size());
+        for (FundingRequestLink link : links) {
+            fundingRequests.add(new FundingRequestLinkResponseDTO(link.getFundingRequestId(), link.getCreatedAt()));
+        }
+        return new FundingRequestPageResponseDTO(fundingRequests, page, size, total, (int) ((total + size - 1) / size));
+    }
+    
+    /**
+     * Create a sparse batch entry containing only the selected fields (for fields= requests), plus the found
+     * marker and, when present, the version
+     * @param dto batch entry
+     * @param fields selected fields in output order
+     * @return ordered map of field name to value
+     */
+    public static Map<String, Object> toBatchFieldMap(UserBatchResponseDTO dto, Set<String> fields) {
+        if (dto == null) {
+            return null;
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> result.put(field, dto.getId());
+                case "email" -> result.put(field, dto.getEmail());
+                case "roles" -> result.put(field, dto.getRoles());
+                default -> throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+        result.put("found", dto.isFound());
+        if (dto.getVersion() != null) {
+            result.put("version", dto.getVersion());
+        }
+        return result;
+    }
 }
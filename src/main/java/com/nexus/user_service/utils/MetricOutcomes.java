@@ -0,0 +1,71 @@
+package com.nexus.user_service.utils;
+
+import java.util.Optional;
+
+/**
+ * Outcome tag values shared by the endpoint and service timers
+ */
+public class MetricOutcomes {
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_FOUND = "not_found";
+    public static final String CONFLICT = "conflict";
+    public static final String ERROR = "error";
+
+    /**
+     * Classify an HTTP response status
+     * @param status response status code
+     * @return success for 1xx-3xx, not_found for 404, conflict for 409, error otherwise
+     */
+    public static String forStatus(int status) {
+        if (status < 400) {
+            return SUCCESS;
+        }
+        if (status == 404) {
+            return NOT_FOUND;
+        }
+        if (status == 409) {
+            return CONFLICT;
+        }
+        return ERROR;
+    }
+
+    /**
+     * Classify a service method result
+     * @param result returned value
+     * @return not_found for an empty Optional, success otherwise
+     */
+    public static String forResult(Object result) {
+        if (result instanceof Optional<?> optional && optional.isEmpty()) {
+            return NOT_FOUND;
+        }
+        return SUCCESS;
+    }
+
+    /**
+     * Classify a service exception: the typed exceptions of ExceptionUtils by type, the plain RuntimeExceptions
+     * the service still throws by message
+     * @param throwable thrown exception
+     * @return not_found, conflict or error
+     */
+    public static String forException(Throwable throwable) {
+        if (throwable instanceof ExceptionUtils.UpdateConflictException
+                || throwable instanceof ExceptionUtils.DuplicateEmailException) {
+            return CONFLICT;
+        }
+        if (throwable instanceof ExceptionUtils.UserNotFoundException) {
+            return NOT_FOUND;
+        }
+        String message = throwable.getMessage();
+        if (message == null) {
+            return ERROR;
+        }
+        if (message.contains("not found")) {
+            return NOT_FOUND;
+        }
+        if (message.contains("already exists") || message.contains("already taken")) {
+            return CONFLICT;
+        }
+        return ERROR;
+    }
+}
@@ -17,12 +17,15 @@ public class PasswordUtils {
      * @return hashed password
      */
     public static String hashPassword(String password) {
+        long phaseStart = RequestPhases.start();
         try {
             MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
             byte[] hash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
             return bytesToHex(hash);
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Error hashing password", e);
+        } finally {
+            RequestPhases.stop(RequestPhases.HASH, phaseStart);
         }
     }
     
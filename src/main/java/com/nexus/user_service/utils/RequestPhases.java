@@ -0,0 +1,109 @@
+package com.nexus.user_service.utils;
+
+/**
+ * Per-request phase recorder behind the Server-Timing header.
+ *
+ * Call sites bracket a phase with {@link #start()} and {@link #stop(int, long)}. Outside a recorded
+ * request start() is a single ThreadLocal read returning 0 and stop() returns immediately, so the
+ * instrumentation costs nothing measurable when Server-Timing is disabled. Recording is begun and
+ * ended by {@link com.nexus.user_service.filter.ServerTimingFilter} on the request thread.
+ */
+public class RequestPhases {
+
+    public static final int DB = 0;
+    public static final int HASH = 1;
+    public static final int PAYMENT = 2;
+    public static final int MAP = 3;
+    public static final int SERIALIZE = 4;
+
+    /** Phase names, indexed by the phase constants (also the Server-Timing metric names) */
+    public static final String[] NAMES = {"db", "hash", "payment", "map", "serialize"};
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Phase durations of one request
+     */
+    public static class Recording {
+        private final long[] nanos = new long[NAMES.length];
+        private long serializeStart;
+
+        /**
+         * @param phase phase constant
+         * @return accumulated nanoseconds of the phase
+         */
+        public long getNanos(int phase) {
+            return nanos[phase];
+        }
+    }
+
+    /**
+     * Start recording phases for the current thread
+     * @return the new recording
+     */
+    public static Recording begin() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * Stop recording phases for the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Mark the start of a phase
+     * @return start timestamp, or 0 when the current request is not recorded
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Add the time since {@link #start()} to a phase
+     * @param phase phase constant
+     * @param start value returned by start()
+     */
+    public static void stop(int phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        add(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Add an externally measured duration to a phase (e.g. from the Mongo command listener)
+     * @param phase phase constant
+     * @param nanos duration in nanoseconds
+     */
+    public static void add(int phase, long nanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.nanos[phase] += nanos;
+        }
+    }
+
+    /**
+     * Mark the point where the response body starts being written
+     */
+    public static void serializeStarted() {
+        Recording recording = CURRENT.get();
+        if (recording != null && recording.serializeStart == 0L) {
+            recording.serializeStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Close an open serialize phase (called when the response is about to be committed)
+     * @param recording recording of the request
+     */
+    public static void serializeFinished(Recording recording) {
+        if (recording.serializeStart != 0L) {
+            recording.nanos[SERIALIZE] += System.nanoTime() - recording.serializeStart;
+            recording.serializeStart = 0L;
+        }
+    }
+}
@@ -1,14 +1,14 @@
 package com.nexus.user_service.utils;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Map-based response builders. Controllers use the typed
+ * {@link com.nexus.user_service.dto.response.ResponseEnvelope}, which produces the same JSON.
+ */
 public class ResponseUtils {
     
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
-    
     /**
      * Create successful response with data
      * @param message success message
@@ -189,6 +189,6 @@ public class ResponseUtils {
      * @return formatted timestamp string
      */
     private static String getCurrentTimestamp() {
-        return LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        return TimestampUtils.currentTimestamp();
     }
 }
@@ -0,0 +1,145 @@
+package com.nexus.user_service.utils;
+
+import com.nexus.user_service.logging.RequestDebugTurboFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sampling and budgeting for hot-path INFO logging.
+ *
+ * Each call site asks {@link #sample(String)} once per call and writes its detail lines only when it
+ * returns true: the first and then every Nth call, as long as the logger's per-second budget is not
+ * used up. Calls made while a trusted debug request is processed ({@link RequestDebugTurboFilter}) are
+ * always logged and do not use the budget. Failures are never sampled; callers record them with {@link #failure(String)} and keep
+ * logging them. Every call is counted, and a summary line per call site is written at INFO once per
+ * interval, so totals survive even when detail lines are skipped. Summaries go to their own logger
+ * ({@value #SUMMARY_LOGGER_NAME}), so they are still written when the sampled logger is above INFO.
+ *
+ * Obtain instances through {@link LoggerUtils#getSampledLogger(Logger, int, int)}.
+ */
+public class SampledLogger {
+
+    /** Logger that receives the per-interval call summaries */
+    public static final String SUMMARY_LOGGER_NAME = "com.nexus.user_service.call-summary";
+
+    private static final long DEFAULT_SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final Logger summaryLogger;
+    private final int sampleRate;
+    private final int budgetPerSecond;
+    private final long summaryIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<String, CallSite> callSites = new ConcurrentHashMap<>();
+    private final AtomicLong budgetWindow = new AtomicLong();
+    private final AtomicLong budgetUsed = new AtomicLong();
+    private final AtomicLong nextSummary;
+
+    SampledLogger(Logger logger, Logger summaryLogger, int sampleRate, int budgetPerSecond, long summaryIntervalNanos,
+                  LongSupplier nanoClock) {
+        this.logger = logger;
+        this.summaryLogger = summaryLogger;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.budgetPerSecond = budgetPerSecond;
+        this.summaryIntervalNanos = summaryIntervalNanos;
+        this.nanoClock = nanoClock;
+        this.nextSummary = new AtomicLong(nanoClock.getAsLong() + summaryIntervalNanos);
+    }
+
+    SampledLogger(Logger logger, int sampleRate, int budgetPerSecond) {
+        this(logger, LoggerFactory.getLogger(SUMMARY_LOGGER_NAME), sampleRate, budgetPerSecond,
+            DEFAULT_SUMMARY_INTERVAL_NANOS, System::nanoTime);
+    }
+
+    /**
+     * Count a call and decide whether its detail lines should be written
+     * @param callSite call site name (e.g. the method name)
+     * @return true for debug requests, otherwise if INFO is enabled, the call is sampled and the per-second
+     *         budget allows it
+     */
+    public boolean sample(String callSite) {
+        CallSite site = callSite(callSite);
+        long count = site.calls.incrementAndGet();
+        long now = nanoClock.getAsLong();
+        maybeWriteSummary(now);
+
+        if (!RequestDebugTurboFilter.isEnabled()
+                && (!logger.isInfoEnabled() || (count - 1) % sampleRate != 0 || !takeBudget(now))) {
+            return false;
+        }
+        site.logged.increment();
+        return true;
+    }
+
+    /**
+     * Count a failed call; failures are always logged by the caller
+     * @param callSite call site name
+     */
+    public void failure(String callSite) {
+        callSite(callSite).failures.increment();
+        maybeWriteSummary(nanoClock.getAsLong());
+    }
+
+    /**
+     * Build the summary line of all call sites since the last summary and reset the interval counters
+     * @return summary text, or null when nothing was counted
+     */
+    public synchronized String drainSummary() {
+        StringJoiner joiner = new StringJoiner(" | ");
+        for (Map.Entry<String, CallSite> entry : new TreeMap<>(callSites).entrySet()) {
+            CallSite site = entry.getValue();
+            long calls = site.calls.get() - site.reportedCalls;
+            site.reportedCalls += calls;
+            long logged = site.logged.sumThenReset();
+            long failures = site.failures.sumThenReset();
+            if (calls > 0 || failures > 0) {
+                joiner.add(entry.getKey() + ": " + calls + " calls (" + logged + " logged), " + failures + " failed");
+            }
+        }
+        return joiner.length() > 0 ? joiner.toString() : null;
+    }
+
+    private CallSite callSite(String name) {
+        CallSite site = callSites.get(name);
+        return site != null ? site : callSites.computeIfAbsent(name, key -> new CallSite());
+    }
+
+    private boolean takeBudget(long now) {
+        long window = now / ONE_SECOND_NANOS;
+        long current = budgetWindow.get();
+        if (window != current && budgetWindow.compareAndSet(current, window)) {
+            budgetUsed.set(0);
+        }
+        return budgetUsed.incrementAndGet() <= budgetPerSecond;
+    }
+
+    private void maybeWriteSummary(long now) {
+        long due = nextSummary.get();
+        if (now - due < 0 || !nextSummary.compareAndSet(due, now + summaryIntervalNanos)) {
+            return;
+        }
+        String summary = drainSummary();
+        if (summary != null && summaryLogger.isInfoEnabled()) {
+            summaryLogger.info("Call summary for {} (last {}s) - {}", logger.getName(),
+                TimeUnit.NANOSECONDS.toSeconds(summaryIntervalNanos), summary);
+        }
+    }
+
+    private static class CallSite {
+        final AtomicLong calls = new AtomicLong();
+        final LongAdder logged = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        long reportedCalls;
+    }
+}
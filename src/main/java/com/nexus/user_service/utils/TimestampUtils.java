@@ -0,0 +1,50 @@
+package com.nexus.user_service.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Coarse, cached clock for response timestamps.
+ *
+ * Response envelopes only carry millisecond precision, so the formatted string is
+ * recomputed at most once per millisecond and shared by every request served in it.
+ */
+public class TimestampUtils {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private static volatile CachedTimestamp cached = new CachedTimestamp(Long.MIN_VALUE, null);
+
+    /**
+     * Get current timestamp as formatted string (yyyy-MM-dd'T'HH:mm:ss.SSS, system zone)
+     * @return formatted timestamp string
+     */
+    public static String currentTimestamp() {
+        long now = System.currentTimeMillis();
+        CachedTimestamp snapshot = cached;
+        if (snapshot.millis == now) {
+            return snapshot.formatted;
+        }
+        String formatted = format(now);
+        cached = new CachedTimestamp(now, formatted);
+        return formatted;
+    }
+
+    /**
+     * Format epoch milliseconds using the response timestamp pattern
+     * @param epochMillis epoch milliseconds
+     * @return formatted timestamp string
+     */
+    public static String format(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Immutable pair so the millisecond and its string are always published together
+     */
+    private record CachedTimestamp(long millis, String formatted) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.nexus.user_service.utils;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Name normalisation and trigram tokens for the name search index
+ */
+public class TrigramUtils {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Shortest normalised query that has a trigram */
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    /**
+     * Normalise a name or query: lower case, accents removed, every run of characters other than letters and
+     * digits collapsed to one space, trimmed
+     * @param text name or query
+     * @return normalised text, empty for null
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String unaccented = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Get the distinct trigrams (three-character windows, spaces included) of normalised text
+     * @param normalized text returned by {@link #normalize(String)}
+     * @return trigrams in order of first occurrence, empty when the text is shorter than three characters
+     */
+    public static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + MIN_QUERY_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -1,15 +1,31 @@
 package com.nexus.user_service.controller;
 
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
+import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestLinkResponseDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
+import com.nexus.user_service.dto.response.UserListResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.dto.response.UserSearchResponseDTO;
 import com.nexus.user_service.model.User;
+import com.nexus.user_service.health.MongoPingHealthIndicator;
+import com.nexus.user_service.health.PaymentCircuitHealthIndicator;
+import com.nexus.user_service.service.UserResponseCache;
 import com.nexus.user_service.service.UserService;
+import com.nexus.user_service.utils.ETagUtils;
+import com.nexus.user_service.utils.ExceptionUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.nexus.user_service.dto.request.UserBatchRequestDTO;
+import com.nexus.user_service.dto.response.UserBatchResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -21,8 +37,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +65,15 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserResponseCache userResponseCache;
+
+    @MockBean
+    private MongoPingHealthIndicator mongoPingHealthIndicator;
+
+    @MockBean
+    private PaymentCircuitHealthIndicator paymentCircuitHealthIndicator;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -133,9 +169,302 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    @Test
+    @DisplayName("Update User - Concurrent Write Returns Conflict")
+    void updateUser_Conflict() throws Exception {
+        // Given
+        when(userService.updateUser(eq(sampleUser.getId()), any(UserUpdateRequestDTO.class)))
+                .thenThrow(ExceptionUtils.updateConflict(sampleUser.getId(), 3));
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/users/{id}", sampleUser.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"John Smith\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value(containsString("version 3")));
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - Success")
+    void getFundingRequests_Success() throws Exception {
+        // Given
+        FundingRequestPageResponseDTO page = new FundingRequestPageResponseDTO(
+            List.of(new FundingRequestLinkResponseDTO("req1", LocalDateTime.of(2025, 1, 15, 10, 30))), 0, 20, 1, 1);
+        when(userService.getFundingRequests(sampleUser.getId(), 0, 20)).thenReturn(Optional.of(page));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}/funding-requests", sampleUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Funding requests retrieved successfully"))
+                .andExpect(jsonPath("$.data.fundingRequests[0].fundingRequestId").value("req1"))
+                .andExpect(jsonPath("$.data.total").value(1));
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - Oversized Page Rejected")
+    void getFundingRequests_InvalidSize() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}/funding-requests", sampleUser.getId()).param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(userService, never()).getFundingRequests(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - User Not Found")
+    void getFundingRequests_NotFound() throws Exception {
+        // Given
+        when(userService.getFundingRequests(sampleUser.getId(), 1, 5)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}/funding-requests", sampleUser.getId()).param("page", "1").param("size", "5"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("Search Users - Success")
+    void searchUsers_Success() throws Exception {
+        // Given
+        UserSearchResponseDTO result = new UserSearchResponseDTO(
+            List.of(new UserListResponseDTO(sampleUser.getId(), "John Doe", List.of("USER"), BigDecimal.TEN)), "next");
+        when(userService.searchUsers("joh", 1, null)).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/search").param("q", "joh").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.users[0].id").value(sampleUser.getId()))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("Search Users - Short Query And Oversized Limit Rejected")
+    void searchUsers_InvalidParameters() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/search").param("q", " J. "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(get("/api/v1/users/search").param("q", "john").param("limit", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(userService, never()).searchUsers(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Search Users - Malformed Cursor")
+    void searchUsers_MalformedCursor() throws Exception {
+        // Given
+        when(userService.searchUsers("john", 20, "bad"))
+            .thenThrow(new ExceptionUtils.InvalidUserDataException("Invalid search cursor", "cursor", "bad"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/search").param("q", "john").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid search cursor"));
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Defaults To JSON")
+    void getUserById_DefaultsToJson() throws Exception {
+        // Given
+        when(userService.getUserById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Get User by ID - CBOR Accept Header")
+    void getUserById_Cbor() throws Exception {
+        // Given
+        when(userService.getUserById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode response = new CBORMapper().readTree(body);
+        assertThat(response.get("success").asBoolean()).isTrue();
+        assertThat(response.get("data").get("email").asText()).isEqualTo(sampleUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("Batch Lookup - Smile Accept Header")
+    void getUsersBatch_Smile() throws Exception {
+        // Given
+        UserBatchRequestDTO request = new UserBatchRequestDTO(Arrays.asList(sampleUser.getId()));
+        when(userService.getUsersBatch(request.getUserIds())).thenReturn(
+                Arrays.asList(new UserBatchResponseDTO(sampleUser.getId(), sampleUser.getEmail(), sampleUser.getRoles())));
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/v1/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept("application/x-jackson-smile")
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode response = new SmileMapper().readTree(body);
+        assertThat(response.get("data").get(0).get("email").asText()).isEqualTo(sampleUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("Batch Lookup - Id Only Fields Keep The Found Marker")
+    void getUsersBatch_IdOnlyFields() throws Exception {
+        // Given
+        String missingId = "507f1f77bcf86cd799439999";
+        UserBatchRequestDTO request = new UserBatchRequestDTO(Arrays.asList(sampleUser.getId(), missingId));
+        UserBatchResponseDTO found = new UserBatchResponseDTO(sampleUser.getId(), null, null);
+        found.setFound(true);
+        when(userService.getUsersBatch(eq(request.getUserIds()), eq(Set.of("id")), isNull()))
+                .thenReturn(Arrays.asList(found, new UserBatchResponseDTO(missingId, null, null)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/batch")
+                        .param("fields", "id")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(sampleUser.getId()))
+                .andExpect(jsonPath("$.data[0].found").value(true))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist())
+                .andExpect(jsonPath("$.data[1].found").value(false));
+    }
+
+    @Test
+    @DisplayName("Batch Lookup - Streaming Mode")
+    @SuppressWarnings("unchecked")
+    void getUsersBatch_Streaming() throws Exception {
+        // Given
+        String missingId = "507f1f77bcf86cd799439999";
+        UserBatchRequestDTO request = new UserBatchRequestDTO(Arrays.asList(sampleUser.getId(), missingId));
+        when(userService.streamUsersBatch(eq(request.getUserIds()), isNull(), isNull(), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<UserBatchResponseDTO> sink = invocation.getArgument(3);
+            sink.accept(new UserBatchResponseDTO(sampleUser.getId(), sampleUser.getEmail(), sampleUser.getRoles()));
+            sink.accept(new UserBatchResponseDTO(missingId, null, null));
+            return new UserService.BatchLookupSummary(2, 1, 1, 0);
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/batch")
+                        .param("stream", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Batch user lookup completed"))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.data[0].email").value(sampleUser.getEmail()))
+                .andExpect(jsonPath("$.data[1].id").value(missingId))
+                .andExpect(jsonPath("$.data[1].email").isEmpty())
+                .andExpect(content().string(startsWith("{\"success\":true,\"message\":\"Batch user lookup completed\",\"timestamp\":")));
+        verify(userService, never()).getUsersBatch(any());
+    }
+
+    @Test
+    @DisplayName("Batch Lookup - Streaming Failure Before First Byte")
+    @SuppressWarnings("unchecked")
+    void getUsersBatch_StreamingFailure() throws Exception {
+        // Given
+        UserBatchRequestDTO request = new UserBatchRequestDTO(Arrays.asList(sampleUser.getId()));
+        when(userService.streamUsersBatch(any(), any(), any(), any(Consumer.class)))
+                .thenThrow(new RuntimeException("Database unavailable"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/users/batch")
+                        .param("stream", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value("Database unavailable"));
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Sparse Fieldset")
+    void getUserById_SparseFields() throws Exception {
+        // Given
+        when(userService.getUserById(any(String.class), any(Set.class))).thenReturn(Optional.of(sampleUser));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()).param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(sampleUser.getId()))
+                .andExpect(jsonPath("$.data.email").value(sampleUser.getEmail()))
+                .andExpect(jsonPath("$.data.name").doesNotExist())
+                .andExpect(jsonPath("$.data.fundingRequestIds").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Invalid Fieldset")
+    void getUserById_InvalidFields() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()).param("fields", "passwordHash"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Returns ETag")
+    void getUserById_ReturnsETag() throws Exception {
+        // Given
+        when(userService.getUserById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"" + ETagUtils.versionOf(sampleUser) + "\""));
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Not Modified")
+    void getUserById_NotModified() throws Exception {
+        // Given
+        String version = ETagUtils.versionOf(sampleUser);
+        when(userService.getUserVersion(sampleUser.getId())).thenReturn(Optional.of(version));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()).header("If-None-Match", "\"" + version + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(userService, never()).getUserById(sampleUser.getId());
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Stale ETag Returns Body")
+    void getUserById_StaleETag() throws Exception {
+        // Given
+        sampleUser.setVersion(1);
+        when(userService.getUserVersion(sampleUser.getId())).thenReturn(Optional.of("1"));
+        when(userService.getUserById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/{id}", sampleUser.getId()).header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value(sampleUser.getEmail()));
+    }
+
     @Test
     @DisplayName("Health Check - Success")
     void healthCheck_Success() throws Exception {
+        // Given
+        when(mongoPingHealthIndicator.health()).thenReturn(Health.up().build());
+        when(paymentCircuitHealthIndicator.health()).thenReturn(Health.up().build());
+
         // When & Then
         mockMvc.perform(get("/api/v1/health"))
                 .andExpect(status().isOk())
@@ -143,4 +472,19 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.message").value("Service is healthy"))
                 .andExpect(jsonPath("$.data.status").value("UP"));
     }
+
+    @Test
+    @DisplayName("Health Check - MongoDB down returns 503")
+    void healthCheck_MongoDown() throws Exception {
+        // Given
+        when(mongoPingHealthIndicator.health()).thenReturn(Health.down().withDetail("error", "timeout").build());
+        when(paymentCircuitHealthIndicator.health()).thenReturn(Health.up().build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/health"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"))
+                .andExpect(jsonPath("$.error").value("Service is not ready - MongoDB: DOWN, Payment circuit: UP"));
+    }
 }
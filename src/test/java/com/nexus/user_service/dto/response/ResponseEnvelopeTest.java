@@ -0,0 +1,79 @@
+package com.nexus.user_service.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.user_service.utils.ResponseUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("ResponseEnvelope Unit Tests")
+class ResponseEnvelopeTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("Success With Data - Same JSON As ResponseUtils")
+    void success_WithData_SameJsonAsResponseUtils() throws Exception {
+        // Given
+        List<String> data = Arrays.asList("item1", "item2");
+
+        // When
+        String envelope = objectMapper.writeValueAsString(ResponseEnvelope.success("Done", data));
+        String map = objectMapper.writeValueAsString(ResponseUtils.success("Done", data));
+
+        // Then
+        assertThat(withoutTimestamp(envelope)).isEqualTo(withoutTimestamp(map));
+    }
+
+    @Test
+    @DisplayName("Success With Null Data - Keeps Data Key")
+    void success_WithNullData_KeepsDataKey() throws Exception {
+        // When
+        String envelope = objectMapper.writeValueAsString(ResponseEnvelope.success("Done", null));
+        String map = objectMapper.writeValueAsString(ResponseUtils.success("Done", null));
+
+        // Then
+        assertThat(envelope).contains("\"data\":null");
+        assertThat(withoutTimestamp(envelope)).isEqualTo(withoutTimestamp(map));
+    }
+
+    @Test
+    @DisplayName("Error Variants - Same JSON As ResponseUtils")
+    void errorVariants_SameJsonAsResponseUtils() throws Exception {
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.error("Boom"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.error("Boom"))));
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.notFound("User"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.notFound("User"))));
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.unauthorized("Invalid credentials"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.unauthorized("Invalid credentials"))));
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.conflict("Taken"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.conflict("Taken"))));
+    }
+
+    @Test
+    @DisplayName("Message Variants - Same JSON As ResponseUtils")
+    void messageVariants_SameJsonAsResponseUtils() throws Exception {
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.success("Done"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.success("Done"))));
+        assertThat(withoutTimestamp(objectMapper.writeValueAsString(ResponseEnvelope.deleted("User"))))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(ResponseUtils.deleted("User"))));
+    }
+
+    @Test
+    @DisplayName("Timestamp - Millisecond Format")
+    void timestamp_MillisecondFormat() {
+        assertThat(ResponseEnvelope.error("x").timestamp())
+                .matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}");
+    }
+
+    private static String withoutTimestamp(String json) {
+        return json.replaceAll("\"timestamp\":\"[^\"]*\"", "\"timestamp\":\"\"");
+    }
+}
@@ -0,0 +1,64 @@
+package com.nexus.user_service.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("AllocationAccountingFilter Unit Tests")
+class AllocationAccountingFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private AllocationAccountingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new AllocationAccountingFilter(registry);
+    }
+
+    @Test
+    @DisplayName("Allocating Request - Bytes Recorded per Endpoint")
+    void allocatingRequest_Recorded() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/507f1f77bcf86cd799439011");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{id}");
+        byte[][] sink = new byte[1][];
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> sink[0] = new byte[1024 * 1024]);
+
+        // Then
+        DistributionSummary summary = registry.get("http.server.allocation")
+            .tag("method", "GET").tag("uri", "/api/v1/users/{id}").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.max()).isGreaterThanOrEqualTo(1024 * 1024);
+        assertThat(sink[0]).hasSize(1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("Endpoints - Separate Distributions")
+    void endpoints_SeparateDistributions() throws Exception {
+        // Given
+        MockHttpServletRequest list = new MockHttpServletRequest("GET", "/api/v1/users");
+        list.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users");
+        MockHttpServletRequest unmatched = new MockHttpServletRequest("GET", "/api/v1/unknown");
+
+        // When
+        filter.doFilter(list, new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(list, new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(unmatched, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Then
+        assertThat(registry.get("http.server.allocation").tag("uri", "/api/v1/users").summary().count()).isEqualTo(2);
+        assertThat(registry.get("http.server.allocation").tag("uri", "UNKNOWN").summary().count()).isEqualTo(1);
+    }
+}
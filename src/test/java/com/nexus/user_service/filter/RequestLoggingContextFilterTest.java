@@ -0,0 +1,143 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.logging.RequestDebugTurboFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("RequestLoggingContextFilter Unit Tests")
+class RequestLoggingContextFilterTest {
+
+    private static final String USER_ID = "507f1f77bcf86cd799439011";
+
+    private RequestLoggingContextFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private Map<String, Object> seen;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestLoggingContextFilter("s3cret");
+        request = new MockHttpServletRequest("GET", "/api/v1/users/" + USER_ID);
+        response = new MockHttpServletResponse();
+        seen = new HashMap<>();
+    }
+
+    @Test
+    @DisplayName("Request ID Passed Through - Set in MDC, Echoed and Cleared")
+    void requestIdPassedThrough() throws Exception {
+        // Given
+        request.addHeader("X-Request-Id", "abc-123");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("requestId")).isEqualTo("abc-123");
+        assertThat(seen.get("userId")).isEqualTo(USER_ID);
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("abc-123");
+        assertThat(MDC.get("requestId")).isNull();
+        assertThat(MDC.get("userId")).isNull();
+    }
+
+    @Test
+    @DisplayName("Invalid Request ID - Replaced by Generated ID")
+    void invalidRequestId_Generated() throws Exception {
+        // Given
+        request.addHeader("X-Request-Id", "bad id\nwith newline");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat((String) seen.get("requestId")).hasSize(36).isNotEqualTo("bad id\nwith newline");
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo(seen.get("requestId"));
+    }
+
+    @Test
+    @DisplayName("User ID Header - Takes Precedence Over Path")
+    void userIdHeader_Precedence() throws Exception {
+        // Given
+        request = new MockHttpServletRequest("POST", "/api/v1/users/batch");
+        request.addHeader("X-User-Id", "507f191e810c19729de860ea");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("userId")).isEqualTo("507f191e810c19729de860ea");
+    }
+
+    @Test
+    @DisplayName("No User ID - Not Put in MDC")
+    void noUserId() throws Exception {
+        // Given
+        request = new MockHttpServletRequest("GET", "/api/v1/users");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("userId")).isNull();
+    }
+
+    @Test
+    @DisplayName("Trusted Debug Token - Debug Enabled for Request Only")
+    void trustedDebugToken() throws Exception {
+        // Given
+        request.addHeader("X-Debug-Log", "s3cret");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("debug")).isEqualTo(true);
+        assertThat(RequestDebugTurboFilter.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Wrong Debug Token - Debug Not Enabled")
+    void wrongDebugToken() throws Exception {
+        // Given
+        request.addHeader("X-Debug-Log", "guess");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("debug")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("No Token Configured - Debug Header Ignored")
+    void noTokenConfigured() throws Exception {
+        // Given
+        filter = new RequestLoggingContextFilter("");
+        request.addHeader("X-Debug-Log", "");
+
+        // When
+        filter.doFilter(request, response, capturing());
+
+        // Then
+        assertThat(seen.get("debug")).isEqualTo(false);
+    }
+
+    private FilterChain capturing() {
+        return (req, res) -> {
+            seen.put("requestId", MDC.get("requestId"));
+            seen.put("userId", MDC.get("userId"));
+            seen.put("debug", RequestDebugTurboFilter.isEnabled());
+        };
+    }
+}
@@ -0,0 +1,242 @@
+package com.nexus.user_service.filter;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("ResponseCompressionFilter Unit Tests")
+class ResponseCompressionFilterTest {
+
+    private static final String LARGE_BODY = "{\"data\":[" + "{\"id\":\"507f1f77bcf86cd799439011\",\"email\":\"john.doe@example.com\"},".repeat(100) + "{}]}";
+
+    private ResponseCompressionFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCompressionFilter(1024, true, 6, 1024 * 1024, Set.of("/api/v1/users/batch"));
+        request = new MockHttpServletRequest("GET", "/api/v1/users");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Large Response - Gzip Compressed")
+    void largeResponse_GzipCompressed() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+
+        // When
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).contains("Accept-Encoding");
+        assertThat(response.getContentAsByteArray().length).isLessThan(LARGE_BODY.length());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("Large Response - Strong ETag Made Weak When Compressed")
+    void largeResponse_ETagWeakened() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            ((jakarta.servlet.http.HttpServletResponse) res).setHeader("ETag", "\"42\"");
+            res.getOutputStream().write(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("ETag")).isEqualTo("W/\"42\"");
+    }
+
+    @Test
+    @DisplayName("Small Response - Strong ETag Kept When Uncompressed")
+    void smallResponse_ETagKept() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            ((jakarta.servlet.http.HttpServletResponse) res).setHeader("ETag", "\"42\"");
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"42\"");
+    }
+
+    @Test
+    @DisplayName("Large Response - Deflate When Gzip Not Accepted")
+    void largeResponse_Deflate() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "deflate, gzip;q=0");
+
+        // When
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("Writer Response - Flushed And Gzip Compressed")
+    void writerResponse_GzipCompressed() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            res.setCharacterEncoding("UTF-8");
+            res.getWriter().write(LARGE_BODY.substring(0, 100));
+            res.getWriter().flush();
+            res.flushBuffer();
+            res.getWriter().write(LARGE_BODY.substring(100));
+        });
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("Writer Response - Small Body Sent Uncompressed")
+    void writerResponse_SmallUncompressed() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            res.setCharacterEncoding("UTF-8");
+            res.getWriter().write("{\"success\":true}");
+        });
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"success\":true}");
+    }
+
+    @Test
+    @DisplayName("Small Response - Sent Uncompressed")
+    void smallResponse_Uncompressed() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+
+        // When
+        filter.doFilter(request, response, writing("{\"success\":true}"));
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"success\":true}");
+        assertThat(response.getContentLength()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Pre-Encoded Response - Passed Through")
+    void preEncodedResponse_PassedThrough() throws Exception {
+        // Given
+        request.addHeader("Accept-Encoding", "gzip");
+        byte[] payload = new byte[2048];
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            ((jakarta.servlet.http.HttpServletResponse) res).setHeader("Content-Encoding", "gzip");
+            res.setContentLength(payload.length);
+            res.getOutputStream().write(payload);
+        });
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentAsByteArray()).isEqualTo(payload);
+        assertThat(response.getContentLength()).isEqualTo(payload.length);
+    }
+
+    @Test
+    @DisplayName("Gzip Request Body - Inflated For The Handler")
+    void gzipRequestBody_Inflated() throws Exception {
+        // Given
+        String body = "{\"userIds\":[\"507f1f77bcf86cd799439011\"]}";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        request.setMethod("POST");
+        request.setRequestURI("/api/v1/users/batch");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(compressed.toByteArray());
+        AtomicReference<String> received = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            received.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            assertThat(((jakarta.servlet.http.HttpServletRequest) req).getHeader("Content-Encoding")).isNull();
+        });
+
+        // Then
+        assertThat(received.get()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Gzip Request Body - Rejected Outside The Batch Endpoints")
+    void gzipRequestBody_RejectedElsewhere() throws Exception {
+        // Given
+        request.setMethod("POST");
+        request.setRequestURI("/api/v1/user");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(new byte[] {31, -117, 8, 0});
+        AtomicBoolean handled = new AtomicBoolean();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> handled.set(true));
+
+        // Then
+        assertThat(handled).isFalse();
+        assertThat(response.getStatus()).isEqualTo(415);
+        assertThat(response.getHeader("Accept-Encoding")).isEqualTo("identity");
+    }
+
+    @Test
+    @DisplayName("Negotiate Coding - Gzip Preferred, Refusals Honoured")
+    void negotiateCoding() {
+        assertThat(ResponseCompressionFilter.negotiateCoding("deflate, gzip", true)).isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiateCoding("deflate", false)).isNull();
+        assertThat(ResponseCompressionFilter.negotiateCoding("gzip;q=0", true)).isNull();
+        assertThat(ResponseCompressionFilter.negotiateCoding(null, true)).isNull();
+    }
+
+    private static FilterChain writing(String body) {
+        return (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.nexus.user_service.filter;
+
+import com.nexus.user_service.utils.PasswordUtils;
+import com.nexus.user_service.utils.RequestPhases;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("ServerTimingFilter Unit Tests")
+class ServerTimingFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private ServerTimingFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ServerTimingFilter(registry);
+        request = new MockHttpServletRequest("POST", "/api/v1/auth/user/validate");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/auth/user/validate");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Recorded Phases - Server-Timing Header and Phase Metrics")
+    void recordedPhases_HeaderAndMetrics() throws Exception {
+        // Given
+        FilterChain chain = (req, res) -> {
+            RequestPhases.add(RequestPhases.DB, TimeUnit.MILLISECONDS.toNanos(12));
+            PasswordUtils.hashPassword("password123");
+            res.getOutputStream().write("{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        String header = response.getHeader("Server-Timing");
+        assertThat(header).startsWith("db;dur=12.0, hash;dur=").contains("total;dur=").doesNotContain("payment");
+        assertThat(registry.get("http.server.phases").tag("phase", "db").tag("uri", "/api/v1/auth/user/validate")
+            .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12.0);
+        assertThat(registry.get("http.server.phases").tag("phase", "hash").timer().count()).isEqualTo(1);
+        assertThat(RequestPhases.start()).isZero();
+    }
+
+    @Test
+    @DisplayName("Large Body - Header Added Before Response Is Committed")
+    void largeBody_HeaderBeforeCommit() throws Exception {
+        // Given
+        response.setBufferSize(64);
+        AtomicReference<String> headerAtCommit = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            RequestPhases.serializeStarted();
+            res.getOutputStream().write(new byte[256]);
+            headerAtCommit.set(((MockHttpServletResponse) response).getHeader("Server-Timing"));
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(headerAtCommit.get()).contains("serialize;dur=", "total;dur=");
+        assertThat(response.getContentAsByteArray()).hasSize(256);
+    }
+
+    @Test
+    @DisplayName("Writer Output - Flushed and Timed")
+    void writerOutput_Flushed() throws Exception {
+        // When
+        filter.doFilter(request, response, (req, res) -> res.getWriter().write("{\"success\":true}"));
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("{\"success\":true}");
+        assertThat(response.getHeader("Server-Timing")).startsWith("total;dur=");
+    }
+
+    @Test
+    @DisplayName("Outside Recorded Request - Probes Are No-Ops")
+    void outsideRequest_NoOp() {
+        // When
+        long start = RequestPhases.start();
+        RequestPhases.stop(RequestPhases.HASH, start);
+        RequestPhases.add(RequestPhases.DB, 1000);
+
+        // Then
+        assertThat(start).isZero();
+    }
+}
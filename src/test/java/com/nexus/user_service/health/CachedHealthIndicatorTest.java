@@ -0,0 +1,112 @@
+package com.nexus.user_service.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("CachedHealthIndicator Unit Tests")
+class CachedHealthIndicatorTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final AtomicInteger checks = new AtomicInteger();
+
+    private CachedHealthIndicator indicator(Supplier<Health> check) {
+        return new CachedHealthIndicator(1_000, clock::get) {
+            @Override
+            protected Health check() {
+                checks.incrementAndGet();
+                return check.get();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Result Expires After The Time-To-Live")
+    void health_ExpiresAfterTimeToLive() {
+        // Given
+        CachedHealthIndicator indicator = indicator(() -> Health.up().build());
+
+        // When
+        Health first = indicator.health();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        Health beforeExpiry = indicator.health();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Health atExpiry = indicator.health();
+
+        // Then
+        assertThat(beforeExpiry).isSameAs(first);
+        assertThat(atExpiry).isNotSameAs(first);
+        assertThat(checks).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Down Is Cached Like Up, Then Rechecked")
+    void health_DownCachedThenRechecked() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CachedHealthIndicator indicator = indicator(() -> calls.incrementAndGet() == 1
+            ? Health.down().withDetail("error", "unreachable").build()
+            : Health.up().build());
+
+        // When
+        Health down = indicator.health();
+        Health cachedDown = indicator.health();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Health recovered = indicator.health();
+
+        // Then
+        assertThat(down.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(cachedDown).isSameAs(down);
+        assertThat(recovered.getStatus()).isEqualTo(Status.UP);
+        assertThat(checks).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Concurrent Callers Share One Refresh")
+    void health_ConcurrentCallersShareOneRefresh() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CachedHealthIndicator indicator = indicator(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Health.up().build();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Health>> probes = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            probes.add(executor.submit(indicator::health));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        List<Health> results = new ArrayList<>();
+        for (Future<Health> probe : probes) {
+            results.add(probe.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(checks).hasValue(1);
+        assertThat(results).allSatisfy(health -> assertThat(health).isSameAs(results.get(0)));
+    }
+}
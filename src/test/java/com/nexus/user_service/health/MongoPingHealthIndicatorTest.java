@@ -0,0 +1,89 @@
+package com.nexus.user_service.health;
+
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@DisplayName("MongoPingHealthIndicator Unit Tests")
+class MongoPingHealthIndicatorTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoDatabase database = mock(MongoDatabase.class);
+    private final MongoDatabase boundedDatabase = mock(MongoDatabase.class);
+    private final MongoPingHealthIndicator indicator = new MongoPingHealthIndicator(mongoTemplate, 200, 2_000, clock::get);
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getDb()).thenReturn(database);
+        when(database.withTimeout(200, TimeUnit.MILLISECONDS)).thenReturn(boundedDatabase);
+    }
+
+    @Test
+    @DisplayName("Ping Result Is Cached For The Time-To-Live")
+    void ping_CachedForTimeToLive() {
+        // Given
+        when(boundedDatabase.runCommand(any(Bson.class))).thenReturn(new Document("ok", 1));
+
+        // When
+        Health first = indicator.health();
+        Health second = indicator.health();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        Health third = indicator.health();
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(Status.UP);
+        assertThat(second).isSameAs(first);
+        assertThat(third.getStatus()).isEqualTo(Status.UP);
+        verify(boundedDatabase, times(2)).runCommand(any(Bson.class));
+    }
+
+    @Test
+    @DisplayName("Ping Failure Reports Down")
+    void ping_FailureReportsDown() {
+        // Given
+        when(boundedDatabase.runCommand(any(Bson.class))).thenThrow(new RuntimeException("Connection refused"));
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "Connection refused");
+    }
+
+    @Test
+    @DisplayName("Ping Exceeding The Operation Timeout Reports Down")
+    void ping_TimeoutReportsDown() {
+        // Given
+        when(boundedDatabase.runCommand(any(Bson.class)))
+            .thenThrow(new MongoOperationTimeoutException("Timeout while waiting for a server"));
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("error", "ping timed out after 200ms");
+        verify(database).withTimeout(200, TimeUnit.MILLISECONDS);
+    }
+}
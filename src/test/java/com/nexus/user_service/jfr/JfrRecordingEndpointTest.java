@@ -0,0 +1,104 @@
+package com.nexus.user_service.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("JfrRecordingEndpoint Unit Tests")
+class JfrRecordingEndpointTest {
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint();
+        ReflectionTestUtils.setField(endpoint, "defaultDurationSeconds", 1);
+        ReflectionTestUtils.setField(endpoint, "maxDurationSeconds", 2);
+        ReflectionTestUtils.setField(endpoint, "settings", "default");
+    }
+
+    @Test
+    @DisplayName("Bounded Recording - Contains Service Events and Is Deleted After Download")
+    void boundedRecording_ContainsServiceEvents() throws Exception {
+        // Given - lookups keep happening while the recording runs
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> lookups = CompletableFuture.runAsync(() -> {
+            while (!done.get()) {
+                UserLookupEvent event = new UserLookupEvent();
+                event.begin();
+                event.userId = "507f1f77bcf86cd799439011";
+                event.cacheHit = true;
+                event.found = true;
+                event.commit();
+                sleep(20);
+            }
+        });
+
+        // When
+        WebEndpointResponse<Resource> response = endpoint.record(null);
+        done.set(true);
+        lookups.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        Path file = response.getBody().getFile().toPath();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.nexus.user_service.UserLookup");
+            assertThat(event.getBoolean("cacheHit")).isTrue();
+        });
+
+        try (InputStream in = response.getBody().getInputStream()) {
+            assertThat(in.readAllBytes()).isNotEmpty();
+        }
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Concurrent Recording - Rejected With 429")
+    void concurrentRecording_Rejected() throws Exception {
+        // Given
+        CompletableFuture<WebEndpointResponse<Resource>> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return endpoint.record(2);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sleep(500);
+
+        // When
+        WebEndpointResponse<Resource> second = endpoint.record(1);
+
+        // Then
+        assertThat(second.getStatus()).isEqualTo(429);
+        WebEndpointResponse<Resource> firstResponse = first.get(10, TimeUnit.SECONDS);
+        assertThat(firstResponse.getStatus()).isEqualTo(200);
+        Files.deleteIfExists(firstResponse.getBody().getFile().toPath());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
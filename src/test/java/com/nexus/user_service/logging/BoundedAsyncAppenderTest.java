@@ -0,0 +1,111 @@
+package com.nexus.user_service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("BoundedAsyncAppender Unit Tests")
+class BoundedAsyncAppenderTest {
+
+    private LoggerContext context;
+    private BoundedAsyncAppender appender;
+    private BlockingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        sink = new BlockingSink();
+        sink.setContext(context);
+        sink.start();
+
+        appender = new BoundedAsyncAppender();
+        appender.setContext(context);
+        appender.setName("TEST");
+        appender.setQueueSize(10);
+        appender.setDiscardThresholdPercent(50);
+        appender.addAppender(sink);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Slow Sink - INFO Dropped First, WARN Kept Until Full")
+    void slowSink_InfoDroppedFirst() throws Exception {
+        // Given - the worker is stuck in the sink on the first event
+        appender.doAppend(event(Level.INFO, "first"));
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - INFO is accepted until only the threshold (5 slots) is left, WARN fills the queue completely
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.INFO, "info-" + i));
+        }
+        for (int i = 0; i < 7; i++) {
+            appender.doAppend(event(Level.WARN, "warn-" + i));
+        }
+
+        // Then
+        assertThat(appender.getQueueDepth()).isEqualTo(10);
+        assertThat(appender.getDroppedDiscardable()).isEqualTo(2);
+        assertThat(appender.getDroppedImportant()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Stop - Flushes Queued Events")
+    void stop_FlushesQueuedEvents() {
+        // Given
+        sink.release.countDown();
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.ERROR, "error-" + i));
+        }
+
+        // When
+        appender.stop();
+
+        // Then
+        assertThat(sink.received).hasSize(5);
+        assertThat(appender.getDroppedImportant()).isZero();
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(BoundedAsyncAppenderTest.class.getName(), context.getLogger("test"), level, message, null, null);
+    }
+
+    /** Sink that blocks until released, simulating an unreachable log destination */
+    private static class BlockingSink extends AppenderBase<ILoggingEvent> {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ILoggingEvent> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event);
+        }
+    }
+}
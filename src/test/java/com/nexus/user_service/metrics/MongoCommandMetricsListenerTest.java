@@ -0,0 +1,174 @@
+package com.nexus.user_service.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.MongoCommandException;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("MongoCommandMetricsListener Unit Tests")
+class MongoCommandMetricsListenerTest {
+
+    private static final ConnectionDescription CONNECTION =
+        new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SimpleMeterRegistry registry;
+    private MongoCommandMetricsListener listener;
+    private ListAppender<ILoggingEvent> logs;
+    private Logger listenerLogger;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        listener = new MongoCommandMetricsListener(registry, 50, 2);
+        listenerLogger = (Logger) LoggerFactory.getLogger(MongoCommandMetricsListener.class);
+        logs = new ListAppender<>();
+        logs.start();
+        listenerLogger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerLogger.detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("Filter Shape - Values Redacted, Lists Replaced by Length")
+    void filterShape_ValuesRedacted() {
+        // Given
+        String ids = IntStream.range(0, 500).mapToObj(i -> "{\"$oid\": \"507f1f77bcf86cd7994390" + String.format("%02x", i % 256) + "\"}")
+            .collect(Collectors.joining(","));
+        BsonDocument command = BsonDocument.parse("{find: 'users', filter: {_id: {$in: [" + ids + "]}, "
+            + "name: {$regex: 'john', $options: 'i'}}, sort: {createdAt: -1}, $db: 'nexus_users'}");
+
+        // When
+        String shape = MongoCommandMetricsListener.filterShape(command);
+
+        // Then
+        assertThat(shape).isEqualTo("{filter: {_id: {$in: [? x 500]}, name: /?/}, sort: {createdAt: ?}}");
+    }
+
+    @Test
+    @DisplayName("Collection - Taken From Command Name or getMore Collection")
+    void collectionOf() {
+        assertThat(MongoCommandMetricsListener.collectionOf("find", BsonDocument.parse("{find: 'users'}"))).isEqualTo("users");
+        assertThat(MongoCommandMetricsListener.collectionOf("getMore",
+            BsonDocument.parse("{getMore: {$numberLong: '42'}, collection: 'users'}"))).isEqualTo("users");
+        assertThat(MongoCommandMetricsListener.collectionOf("ping", BsonDocument.parse("{ping: 1}"))).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("Succeeded Command - Latency, Documents and Reply Bytes Recorded")
+    void succeededCommand_Recorded() {
+        // Given
+        RawBsonDocument reply = RawBsonDocument.parse("{cursor: {firstBatch: [{name: 'a'}, {name: 'b'}], id: 0}, ok: 1}");
+
+        // When
+        listener.commandStarted(started(1, "find", "{find: 'users', filter: {role: 'USER'}}"));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, 1, CONNECTION, "nexus_users", "find", reply,
+            TimeUnit.MILLISECONDS.toNanos(3)));
+
+        // Then
+        assertThat(registry.get("mongodb.commands").tag("command", "find").tag("collection", "users")
+            .tag("status", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("mongodb.commands.documents").tag("collection", "users").summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get("mongodb.commands.reply.bytes").tag("collection", "users").summary().totalAmount())
+            .isEqualTo(reply.getByteBuffer().remaining());
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Failed Command - Recorded With Failed Status")
+    void failedCommand_Recorded() {
+        // When
+        listener.commandStarted(started(2, "count", "{count: 'users', query: {role: 'ADMIN'}}"));
+        listener.commandFailed(new CommandFailedEvent(null, 2, 2, CONNECTION, "nexus_users", "count",
+            TimeUnit.MILLISECONDS.toNanos(1), new RuntimeException("boom")));
+
+        // Then
+        assertThat(registry.get("mongodb.commands").tag("command", "count").tag("status", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Slow Commands - Logged With Shape and Rate Limited")
+    void slowCommands_LoggedAndRateLimited() {
+        // When - 5 slow commands, 2 log lines allowed per minute
+        for (int i = 0; i < 5; i++) {
+            listener.commandStarted(started(10 + i, "find", "{find: 'users', filter: {email: 'john.doe@example.com'}}"));
+            listener.commandSucceeded(new CommandSucceededEvent(null, 10 + i, 10 + i, CONNECTION, "nexus_users", "find",
+                BsonDocument.parse("{cursor: {firstBatch: [], id: 0}, ok: 1}"), TimeUnit.MILLISECONDS.toNanos(80)));
+        }
+
+        // Then
+        assertThat(logs.list).hasSize(2);
+        assertThat(logs.list.get(0).getFormattedMessage())
+            .contains("Collection: users", "Filter: {filter: {email: ?}}")
+            .doesNotContain("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Slow Commands - Shape Built From Filter Copied At Start")
+    void slowCommands_ShapeFromCopiedFilter() {
+        // Given
+        BsonDocument command = BsonDocument.parse("{find: 'users', filter: {role: 'USER', name: {$regex: 'jo'}}}");
+        listener.commandStarted(new CommandStartedEvent(null, 20, 20, CONNECTION, "nexus_users", "find", command));
+
+        // When - the driver reuses the command buffer once the started callback returns
+        command.getDocument("filter").clear();
+        command.clear();
+        listener.commandSucceeded(new CommandSucceededEvent(null, 20, 20, CONNECTION, "nexus_users", "find",
+            BsonDocument.parse("{cursor: {firstBatch: [], id: 0}, ok: 1}"), TimeUnit.MILLISECONDS.toNanos(80)));
+
+        // Then
+        assertThat(logs.list).hasSize(1);
+        assertThat(logs.list.get(0).getFormattedMessage()).contains("Filter: {filter: {role: ?, name: {$regex: ?}}}");
+    }
+
+    @Test
+    @DisplayName("Slow Commands - Failure Logged Without Its Message")
+    void slowCommands_FailureMessageRedacted() {
+        // Given
+        MongoCommandException duplicateKey = new MongoCommandException(BsonDocument.parse("{ok: 0, code: 11000, "
+            + "errmsg: 'E11000 duplicate key error collection: nexus_users.users index: email_1 dup key: { email: \"john.doe@example.com\" }'}"),
+            new ServerAddress());
+
+        // When
+        listener.commandStarted(started(30, "insert", "{insert: 'users'}"));
+        listener.commandFailed(new CommandFailedEvent(null, 30, 30, CONNECTION, "nexus_users", "insert",
+            TimeUnit.MILLISECONDS.toNanos(80), duplicateKey));
+
+        // Then
+        assertThat(logs.list).hasSize(1);
+        assertThat(logs.list.get(0).getFormattedMessage())
+            .contains("Failed: MongoCommandException (code 11000)")
+            .doesNotContain("john.doe@example.com");
+        assertThat(MongoCommandMetricsListener.failureOf(new RuntimeException("boom"))).isEqualTo("RuntimeException");
+        assertThat(MongoCommandMetricsListener.failureOf(null)).isEqualTo("no");
+    }
+
+    private static CommandStartedEvent started(int requestId, String commandName, String json) {
+        return new CommandStartedEvent(null, requestId, requestId, CONNECTION, "nexus_users", commandName, BsonDocument.parse(json));
+    }
+}
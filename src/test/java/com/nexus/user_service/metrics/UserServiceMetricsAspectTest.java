@@ -0,0 +1,95 @@
+package com.nexus.user_service.metrics;
+
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.service.UserService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@DisplayName("UserServiceMetricsAspect Unit Tests")
+class UserServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private UserService target;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        target = mock(UserService.class);
+        UserServiceMetricsAspect aspect = new UserServiceMetricsAspect();
+        ReflectionTestUtils.setField(aspect, "meterRegistry", registry);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        userService = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Found User - Success Outcome")
+    void foundUser_Success() {
+        // Given
+        when(target.getUserById("1")).thenReturn(Optional.of(new User()));
+
+        // When
+        userService.getUserById("1");
+
+        // Then
+        assertThat(timer("getUserById", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Missing User - Not Found Outcome")
+    void missingUser_NotFound() {
+        // Given
+        when(target.getUserById("2")).thenReturn(Optional.empty());
+
+        // When
+        userService.getUserById("2");
+        userService.getUserById("2");
+
+        // Then
+        assertThat(timer("getUserById", "not_found").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Duplicate Email - Conflict Outcome and Exception Rethrown")
+    void duplicateEmail_Conflict() {
+        // Given
+        when(target.createUser(any())).thenThrow(new RuntimeException("User with email a@b.c already exists"));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(null)).hasMessageContaining("already exists");
+        assertThat(timer("createUser", "conflict").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Unexpected Exception - Error Outcome")
+    void unexpectedException_Error() {
+        // Given
+        when(target.getUserByEmail(anyString())).thenThrow(new RuntimeException("Database connection failed"));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.getUserByEmail("a@b.c")).isInstanceOf(RuntimeException.class);
+        assertThat(timer("getUserByEmail", "error").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return registry.get(UserServiceMetricsAspect.METRIC_NAME).tag("method", method).tag("outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,152 @@
+package com.nexus.user_service.migration;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.nexus.user_service.model.User;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@DisplayName("WalletBalanceMigration Unit Tests")
+@SuppressWarnings("unchecked")
+class WalletBalanceMigrationTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoCollection<Document> users = mock(MongoCollection.class);
+    private final MongoCollection<Document> checkpoints = mock(MongoCollection.class);
+    private final FindIterable<Document> usersFind = mock(FindIterable.class);
+    private final FindIterable<Document> checkpointFind = mock(FindIterable.class);
+    private final Deque<List<Document>> batches = new ArrayDeque<>();
+
+    private WalletBalanceMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+        when(mongoTemplate.getCollection("users")).thenReturn(users);
+        when(mongoTemplate.getCollection(WalletBalanceMigration.CHECKPOINT_COLLECTION)).thenReturn(checkpoints);
+        when(checkpoints.find(any(Bson.class))).thenReturn(checkpointFind);
+        when(users.find(any(Bson.class))).thenReturn(usersFind);
+        when(usersFind.projection(any())).thenReturn(usersFind);
+        when(usersFind.sort(any())).thenReturn(usersFind);
+        when(usersFind.limit(anyInt())).thenReturn(usersFind);
+        when(usersFind.into(any())).thenAnswer(invocation -> {
+            Collection<Document> target = invocation.getArgument(0);
+            target.addAll(batches.isEmpty() ? List.of() : batches.poll());
+            return target;
+        });
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getModifiedCount()).thenReturn(2);
+        when(users.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(result);
+        migration = new WalletBalanceMigration(mongoTemplate, 2, 0, Clock.systemUTC());
+    }
+
+    private static Document stored(ObjectId id, String balance) {
+        return new Document("_id", id).append("walletBalance", balance);
+    }
+
+    private static BsonDocument bson(Bson filter) {
+        return filter.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Test
+    @DisplayName("Run - Rewrites String Balances Conditionally And Checkpoints Each Batch")
+    void run_RewritesBalancesInBatches() {
+        // Given
+        ObjectId first = new ObjectId();
+        ObjectId second = new ObjectId();
+        ObjectId third = new ObjectId();
+        batches.add(List.of(stored(first, "100.50"), stored(second, "0")));
+        batches.add(List.of(stored(third, "not-a-number")));
+
+        // When
+        WalletBalanceMigration.Status status = migration.run(false);
+
+        // Then
+        assertThat(status.state()).isEqualTo(WalletBalanceMigration.State.COMPLETED);
+        assertThat(status.migrated()).isEqualTo(2);
+        assertThat(status.failed()).isEqualTo(1);
+        assertThat(status.lastId()).isEqualTo(third.toHexString());
+
+        ArgumentCaptor<List<WriteModel<Document>>> updates = ArgumentCaptor.forClass(List.class);
+        verify(users, times(1)).bulkWrite(updates.capture(), any(BulkWriteOptions.class));
+        UpdateOneModel<Document> update = (UpdateOneModel<Document>) updates.getValue().get(0);
+        assertThat(bson(update.getFilter()).toJson()).contains(first.toHexString()).contains("\"walletBalance\": \"100.50\"");
+        assertThat(bson(update.getUpdate()).getDocument("$set").get("walletBalance").asDecimal128().getValue())
+            .isEqualTo(new Decimal128(new BigDecimal("100.50")));
+
+        ArgumentCaptor<Document> checkpoint = ArgumentCaptor.forClass(Document.class);
+        verify(checkpoints, times(3)).replaceOne(any(Bson.class), checkpoint.capture(), any(ReplaceOptions.class));
+        assertThat(checkpoint.getAllValues().get(0).get("lastId")).isEqualTo(second);
+        assertThat(checkpoint.getValue().getBoolean("completed")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Run - Resumes After Checkpoint, Then Sweeps From The Start Once")
+    void run_ResumesFromCheckpoint() {
+        // Given
+        ObjectId checkpointId = new ObjectId();
+        when(checkpointFind.first()).thenReturn(new Document("_id", WalletBalanceMigration.MIGRATION_ID)
+            .append("lastId", checkpointId).append("migrated", 5L).append("failed", 0L).append("completed", false));
+
+        // When
+        WalletBalanceMigration.Status status = migration.run(false);
+
+        // Then
+        assertThat(status.state()).isEqualTo(WalletBalanceMigration.State.COMPLETED);
+        assertThat(status.migrated()).isEqualTo(5);
+        ArgumentCaptor<Bson> filters = ArgumentCaptor.forClass(Bson.class);
+        verify(users, times(2)).find(filters.capture());
+        assertThat(bson(filters.getAllValues().get(0)).toJson()).contains("$gt").contains(checkpointId.toHexString());
+        assertThat(bson(filters.getAllValues().get(1)).toJson()).doesNotContain("$gt");
+        verify(users, never()).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    @Test
+    @DisplayName("Run - Completed Checkpoint Does Nothing Unless Restarted")
+    void run_CompletedCheckpoint() {
+        // Given
+        when(checkpointFind.first()).thenReturn(new Document("_id", WalletBalanceMigration.MIGRATION_ID)
+            .append("lastId", new ObjectId()).append("migrated", 7L).append("failed", 0L).append("completed", true));
+
+        // When
+        WalletBalanceMigration.Status status = migration.run(false);
+
+        // Then
+        assertThat(status.state()).isEqualTo(WalletBalanceMigration.State.COMPLETED);
+        assertThat(status.migrated()).isEqualTo(7);
+        verify(users, never()).find(any(Bson.class));
+    }
+}
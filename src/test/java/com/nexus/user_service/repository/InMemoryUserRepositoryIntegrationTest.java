@@ -0,0 +1,134 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.dto.request.UserCreateRequestDTO;
+import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestLinkResponseDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
+import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.service.UserService;
+import com.nexus.user_service.utils.ExceptionUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles({"test", "in-memory"})
+@DisplayName("UserService With In-Memory Repository Integration Tests")
+class InMemoryUserRepositoryIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Profile Selects The In-Memory Repository")
+    void profileSelectsInMemoryRepository() {
+        // Then
+        assertThat(userRepository).isInstanceOf(InMemoryUserRepository.class);
+    }
+
+    @Test
+    @DisplayName("Create, Authenticate, Update And Batch Lookup Without MongoDB")
+    void userLifecycle() {
+        // Given
+        User created = userService.createUser(new UserCreateRequestDTO("John Doe", "John.Lifecycle@Example.com",
+                "SecurePassword123", List.of("FUNDER"), new BigDecimal("100.00")));
+
+        // When
+        User authenticated = userService.authenticateUser("john.lifecycle@example.com", "SecurePassword123");
+        UserUpdateRequestDTO update = new UserUpdateRequestDTO();
+        update.setWalletAdjustment(new BigDecimal("-40.00"));
+        User updated = userService.updateUser(created.getId(), update);
+        List<UserBatchResponseDTO> batch = userService.getUsersBatch(List.of(created.getId(), "507f1f77bcf86cd799439099"), Set.of("id", "email"));
+
+        // Then
+        assertThat(authenticated.getId()).isEqualTo(created.getId());
+        assertThat(updated.getWalletBalance()).isEqualByComparingTo("60.00");
+        assertThat(userService.getUserById(created.getId())).map(User::getWalletBalance).hasValueSatisfying(
+                balance -> assertThat(balance).isEqualByComparingTo("60.00"));
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0).getEmail()).isEqualTo("john.lifecycle@example.com");
+        assertThatThrownBy(() -> userService.createUser(new UserCreateRequestDTO("John Again", "john.lifecycle@example.com",
+                "SecurePassword123", List.of("FUNDER"))))
+                .hasMessageContaining("already exists");
+    }
+
+    @Test
+    @DisplayName("Funding Requests - Embedded IDs Move To Links And Page In Order")
+    void fundingRequestsMoveToLinks() {
+        // Given
+        User created = userService.createUser(new UserCreateRequestDTO("Jane Doe", "jane.funding@example.com",
+                "SecurePassword123", List.of("SUPPLIER")));
+        User legacy = userRepository.findById(created.getId()).orElseThrow();
+        legacy.setFundingRequestIds(new ArrayList<>(List.of("req1", "req2")));
+        userRepository.save(legacy);
+
+        // When
+        FundingRequestPageResponseDTO first = userService.getFundingRequests(created.getId(), 0, 2).orElseThrow();
+        UserUpdateRequestDTO update = new UserUpdateRequestDTO();
+        update.setFundingRequestIds(List.of("req2", "req3"));
+        userService.updateUser(created.getId(), update);
+        FundingRequestPageResponseDTO second = userService.getFundingRequests(created.getId(), 1, 2).orElseThrow();
+
+        // Then
+        assertThat(first.getFundingRequests()).extracting(FundingRequestLinkResponseDTO::getFundingRequestId)
+                .containsExactly("req1", "req2");
+        assertThat(userRepository.findById(created.getId()).orElseThrow().getFundingRequestIds()).isEmpty();
+        assertThat(second.getFundingRequests()).extracting(FundingRequestLinkResponseDTO::getFundingRequestId)
+                .containsExactly("req3");
+        assertThat(second.getTotal()).isEqualTo(3);
+        assertThat(userService.getFundingRequests("507f1f77bcf86cd799439099", 0, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Concurrent Adjustments - No Update Is Lost")
+    void concurrentAdjustmentsNotLost() throws Exception {
+        // Given
+        User created = userService.createUser(new UserCreateRequestDTO("Race Doe", "race@example.com",
+                "SecurePassword123", List.of("FUNDER"), new BigDecimal("0.00")));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            results.add(executor.submit(() -> {
+                UserUpdateRequestDTO update = new UserUpdateRequestDTO();
+                update.setWalletAdjustment(BigDecimal.ONE);
+                try {
+                    userService.updateUser(created.getId(), update);
+                    return true;
+                } catch (ExceptionUtils.UpdateConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        int applied = 0;
+        for (Future<Boolean> result : results) {
+            applied += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        User reloaded = userRepository.findById(created.getId()).orElseThrow();
+        assertThat(applied).isPositive();
+        assertThat(reloaded.getWalletBalance()).isEqualByComparingTo(BigDecimal.valueOf(applied));
+        assertThat(reloaded.getVersion()).isEqualTo(applied);
+    }
+}
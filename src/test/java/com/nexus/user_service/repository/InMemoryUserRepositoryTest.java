@@ -0,0 +1,266 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.model.User;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@DisplayName("InMemoryUserRepository Unit Tests")
+class InMemoryUserRepositoryTest {
+
+    private final InMemoryUserRepository repository = new InMemoryUserRepository();
+
+    private static User newUser(String name, String email, String... roles) {
+        return new User(name, email, "hash", new ArrayList<>(List.of(roles)));
+    }
+
+    @Test
+    @DisplayName("Save - Generates ObjectId And Returns Copies")
+    void save_GeneratesObjectIdAndReturnsCopies() {
+        // Given
+        User user = repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+
+        // When
+        User loaded = repository.findById(user.getId()).orElseThrow();
+        loaded.setName("Changed Without Save");
+        loaded.getRoles().add("ADMIN");
+
+        // Then
+        assertThat(ObjectId.isValid(user.getId())).isTrue();
+        User reloaded = repository.findById(user.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("John Doe");
+        assertThat(reloaded.getRoles()).containsExactly("FUNDER");
+        assertThat(repository.findByRole("ADMIN")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Replace If Version - Only The Reader Of The Current Version Wins")
+    void replaceIfVersion_OnlyCurrentVersionWins() {
+        // Given
+        User stored = repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+        User first = repository.findById(stored.getId()).orElseThrow();
+        User second = repository.findById(stored.getId()).orElseThrow();
+        first.setName("First Writer");
+        second.setName("Second Writer");
+
+        // When
+        boolean firstReplaced = repository.replaceIfVersion(first, 0);
+        boolean secondReplaced = repository.replaceIfVersion(second, 0);
+
+        // Then
+        assertThat(firstReplaced).isTrue();
+        assertThat(secondReplaced).isFalse();
+        assertThat(first.getVersion()).isEqualTo(1);
+        assertThat(second.getVersion()).isZero();
+        User reloaded = repository.findById(stored.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("First Writer");
+        assertThat(reloaded.getVersion()).isEqualTo(1);
+        assertThat(repository.findByIdWithFields(stored.getId(), Set.of("version")).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Save - Duplicate Email Is Rejected")
+    void save_DuplicateEmailRejected() {
+        // Given
+        repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.save(newUser("Other John", "john@example.com", "SUPPLIER")))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Update - Email And Role Indexes Follow The Entity")
+    void update_IndexesFollowEntity() {
+        // Given
+        User user = repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+
+        // When
+        user.setEmail("john.new@example.com");
+        user.setRoles(new ArrayList<>(List.of("INVESTOR")));
+        repository.save(user);
+
+        // Then
+        assertThat(repository.existsByEmail("john@example.com")).isFalse();
+        assertThat(repository.findByEmail("john.new@example.com")).map(User::getId).contains(user.getId());
+        assertThat(repository.findByRole("FUNDER")).isEmpty();
+        assertThat(repository.findByRole("INVESTOR")).extracting(User::getId).containsExactly(user.getId());
+        assertThat(repository.save(newUser("Jane Doe", "john@example.com", "FUNDER")).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Delete - Removes User From All Indexes")
+    void delete_RemovesFromIndexes() {
+        // Given
+        User user = repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+
+        // When
+        repository.deleteById(user.getId());
+
+        // Then
+        assertThat(repository.existsById(user.getId())).isFalse();
+        assertThat(repository.existsByEmail("john@example.com")).isFalse();
+        assertThat(repository.findByRole("FUNDER")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Projection - Only Requested Fields Are Populated")
+    void projection_OnlyRequestedFields() {
+        // Given
+        User user = repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+        User other = repository.save(newUser("Jane Doe", "jane@example.com", "SUPPLIER"));
+
+        // When
+        User projected = repository.findByIdWithFields(user.getId(), Set.of("email")).orElseThrow();
+        List<User> batch = repository.findAllByIdWithFields(List.of(other.getId(), "missing", user.getId()), Set.of("roles"));
+
+        // Then
+        assertThat(projected.getId()).isEqualTo(user.getId());
+        assertThat(projected.getEmail()).isEqualTo("john@example.com");
+        assertThat(projected.getName()).isNull();
+        assertThat(projected.getPasswordHash()).isNull();
+        assertThat(batch).extracting(User::getId).containsExactly(other.getId(), user.getId());
+        assertThat(batch).extracting(User::getEmail).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Concurrent Saves - Unique Email Holds Under Contention")
+    void concurrentSaves_UniqueEmailHolds() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 64; i++) {
+            String email = "user" + (i % 8) + "@example.com";
+            attempts.add(executor.submit(() -> {
+                try {
+                    repository.save(newUser("Load User", email, "FUNDER"));
+                    return true;
+                } catch (DuplicateKeyException e) {
+                    return false;
+                }
+            }));
+        }
+        int saved = 0;
+        for (Future<Boolean> attempt : attempts) {
+            saved += attempt.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(saved).isEqualTo(8);
+        assertThat(repository.findAll()).hasSize(8);
+        assertThat(repository.findByRole("FUNDER")).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("Find All Sorted - Orders By Properties With Nulls Lowest")
+    void findAllSorted_OrdersByProperties() {
+        // Given
+        repository.save(newUser("bob", "bob@example.com", "FUNDER"));
+        repository.save(newUser("Alice", "alice@example.com", "ADMIN"));
+        repository.save(newUser(null, "anon@example.com", "FUNDER"));
+
+        // When
+        List<User> ascending = repository.findAll(Sort.by(Sort.Order.asc("name").ignoreCase()));
+        List<User> descending = repository.findAll(Sort.by(Sort.Direction.DESC, "name"));
+        Page<User> page = repository.findAll(PageRequest.of(1, 1, Sort.by("email")));
+
+        // Then
+        assertThat(ascending).extracting(User::getName).containsExactly(null, "Alice", "bob");
+        assertThat(descending).extracting(User::getName).containsExactly("bob", "Alice", null);
+        assertThat(page.getContent()).extracting(User::getEmail).containsExactly("anon@example.com");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThatThrownBy(() -> repository.findAll(Sort.by("roles"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Query By Example - Matches Probe Fields With String Matcher")
+    void queryByExample_MatchesProbeFields() {
+        // Given
+        repository.save(newUser("John Doe", "john@example.com", "FUNDER"));
+        repository.save(newUser("Johnny Cash", "johnny@example.com", "FUNDER"));
+        repository.save(newUser("Jane Roe", "jane@example.com", "ADMIN"));
+        ExampleMatcher defaultsIgnored = ExampleMatcher.matching()
+            .withIgnorePaths("walletBalance", "fundingRequestIds", "version");
+        User probe = new User();
+        probe.setName("JOHN");
+
+        // When
+        Example<User> containing = Example.of(probe, defaultsIgnored
+            .withMatcher("name", ExampleMatcher.GenericPropertyMatchers.contains().ignoreCase()));
+        Example<User> exact = Example.of(probe, defaultsIgnored);
+
+        // Then
+        assertThat(repository.findAll(containing, Sort.by("name"))).extracting(User::getName)
+            .containsExactly("John Doe", "Johnny Cash");
+        assertThat(repository.count(containing)).isEqualTo(2);
+        assertThat(repository.exists(exact)).isFalse();
+        assertThat(repository.findAll(Example.of(probe))).isEmpty();
+        assertThatThrownBy(() -> repository.findOne(containing))
+            .isInstanceOf(IncorrectResultSizeDataAccessException.class);
+        User first = repository.findBy(containing, query -> query.sortBy(Sort.by("email")).project("email").firstValue());
+        assertThat(first.getEmail()).isEqualTo("john@example.com");
+        assertThat(first.getName()).isNull();
+        probe.setName("jane roe");
+        assertThat(repository.findOne(Example.of(probe, defaultsIgnored.withIgnoreCase())))
+            .map(User::getEmail).isEqualTo(Optional.of("jane@example.com"));
+    }
+
+    @Test
+    @DisplayName("Concurrent Inserts - Only One Insert Of An Id Succeeds")
+    void concurrentInserts_OnlyOneWins() throws Exception {
+        // Given
+        String id = new ObjectId().toHexString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 64; i++) {
+            String email = "insert" + i + "@example.com";
+            attempts.add(executor.submit(() -> {
+                User user = newUser("Insert User", email, "FUNDER");
+                user.setId(id);
+                try {
+                    repository.insert(user);
+                    return true;
+                } catch (DuplicateKeyException e) {
+                    return false;
+                }
+            }));
+        }
+        int inserted = 0;
+        for (Future<Boolean> attempt : attempts) {
+            inserted += attempt.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(repository.findAll()).hasSize(1);
+        assertThat(repository.findByRole("FUNDER")).hasSize(1);
+    }
+}
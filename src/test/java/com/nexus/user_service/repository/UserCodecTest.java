@@ -0,0 +1,153 @@
+package com.nexus.user_service.repository;
+
+import com.nexus.user_service.config.MongoConversionsConfig;
+import com.nexus.user_service.model.User;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("UserCodec Unit Tests")
+class UserCodecTest {
+
+    private final UserCodec codec = new UserCodec();
+
+    private static User fullUser() {
+        User user = new User("John Doe", "john@example.com", "hash", new ArrayList<>(List.of("FUNDER", "SUPPLIER")));
+        user.setId(new ObjectId().toHexString());
+        user.setWalletBalance(new BigDecimal("1250.75"));
+        user.setFundingRequestIds(new ArrayList<>(List.of("fr-1", "fr-2")));
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_000_000));
+        user.setUpdatedAt(LocalDateTime.of(2025, 1, 16, 8, 0));
+        user.setVersion(7);
+        return user;
+    }
+
+    private static MappingMongoConverter mappingConverter() {
+        MongoCustomConversions conversions = new MongoConversionsConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private User decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    @Test
+    @DisplayName("Decode - Reads Documents Written By The Mapping Converter")
+    void decode_ReadsConverterLayout() {
+        // Given
+        User user = fullUser();
+        Document stored = new Document();
+        mappingConverter().write(user, stored);
+
+        // When
+        User decoded = decode(stored.toBsonDocument());
+
+        // Then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Decode - Converter Stores Balance As Decimal128 And Still Reads String Balances")
+    void converter_Decimal128BalanceAndLegacyString() {
+        // Given
+        User user = fullUser();
+        Document stored = new Document();
+        mappingConverter().write(user, stored);
+        Document legacy = new Document(stored).append("walletBalance", "1250.75");
+
+        // When
+        User read = mappingConverter().read(User.class, legacy);
+
+        // Then
+        assertThat(stored.get("walletBalance")).isInstanceOf(Decimal128.class);
+        assertThat(read.getWalletBalance()).isEqualTo(new BigDecimal("1250.75"));
+    }
+
+    @Test
+    @DisplayName("Encode - Writes The Layout The Mapping Converter Reads")
+    void encode_RoundTripsThroughConverter() {
+        // Given
+        User user = fullUser();
+        BsonDocument encoded = new BsonDocument();
+
+        // When
+        codec.encode(new BsonDocumentWriter(encoded), user, EncoderContext.builder().build());
+
+        // Then
+        assertThat(encoded.get("_id").isObjectId()).isTrue();
+        assertThat(encoded.get("walletBalance").isDecimal128()).isTrue();
+        assertThat(encoded.getString("_class").getValue()).isEqualTo(User.class.getName());
+        User read = mappingConverter().read(User.class, Document.parse(encoded.toJson()));
+        assertThat(read).usingRecursiveComparison().isEqualTo(user);
+        assertThat(decode(encoded)).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Decode - Projection Leaves Missing Fields At Entity Defaults, Reads String Balance")
+    void decode_ProjectionDefaults() {
+        // Given
+        BsonDocument projected = new Document("_id", new ObjectId("674c8b3d1234567890abcdef"))
+            .append("email", "john@example.com")
+            .append("roles", List.of("FUNDER"))
+            .append("walletBalance", "12.50")
+            .append("legacyField", new Document("nested", 1))
+            .toBsonDocument();
+
+        // When
+        User decoded = decode(projected);
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo("674c8b3d1234567890abcdef");
+        assertThat(decoded.getEmail()).isEqualTo("john@example.com");
+        assertThat(decoded.getRoles()).containsExactly("FUNDER");
+        assertThat(decoded.getName()).isNull();
+        assertThat(decoded.getWalletBalance()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(decoded.getFundingRequestIds()).isEmpty();
+        assertThat(decoded.getVersion()).isZero();
+        assertThat(decoded.getCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Decode - Reads Decimal128 And String Ids")
+    void decode_Decimal128AndStringId() {
+        // Given
+        BsonDocument stored = new Document("_id", "legacy-id")
+            .append("walletBalance", new Decimal128(new BigDecimal("99.10")))
+            .append("name", null)
+            .toBsonDocument();
+
+        // When
+        User decoded = decode(stored);
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo("legacy-id");
+        assertThat(decoded.getWalletBalance()).isEqualTo(new BigDecimal("99.10"));
+        assertThat(decoded.getName()).isNull();
+    }
+}
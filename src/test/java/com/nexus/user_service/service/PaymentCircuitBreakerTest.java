@@ -0,0 +1,97 @@
+package com.nexus.user_service.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("PaymentCircuitBreaker Unit Tests")
+class PaymentCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(3, 10_000, clock::get);
+
+    @Test
+    @DisplayName("Opens After Consecutive Failures And Fails Fast")
+    void opensAfterConsecutiveFailures() {
+        // Given
+        RuntimeException failure = new RuntimeException("Connection refused");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.recordResult(failure);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.getRetryInMillis()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Half-Open Trial Success Closes The Circuit")
+    void halfOpenTrial_SuccessCloses() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.recordResult(new RuntimeException("timeout"));
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // When
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        circuitBreaker.recordResult(null);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getConsecutiveFailures()).isZero();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Half-Open Trial Failure Reopens The Circuit")
+    void halfOpenTrial_FailureReopens() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.recordResult(new RuntimeException("timeout"));
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // When
+        circuitBreaker.tryAcquire();
+        circuitBreaker.recordResult(new RuntimeException("timeout"));
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Client Errors Do Not Count As Failures")
+    void clientErrors_DoNotCount() {
+        // Given
+        WebClientResponseException badRequest = WebClientResponseException.create(
+            HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.recordResult(badRequest);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getConsecutiveFailures()).isZero();
+    }
+}
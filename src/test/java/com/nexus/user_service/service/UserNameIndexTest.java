@@ -0,0 +1,161 @@
+package com.nexus.user_service.service;
+
+import com.nexus.user_service.model.User;
+import com.nexus.user_service.repository.InMemoryUserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@DisplayName("UserNameIndex Unit Tests")
+class UserNameIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private final InMemoryUserRepository repository = new InMemoryUserRepository();
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserNameIndex index = new UserNameIndex(repository,
+        Clock.fixed(Instant.parse("2025-01-15T10:30:00Z"), ZoneOffset.UTC), 1000, 0, nanos::get);
+
+    private User store(String name, LocalDateTime updatedAt) {
+        User user = new User(name, name.replace(' ', '.') + "@example.com", "hash", List.of("USER"));
+        user.setUpdatedAt(updatedAt);
+        return repository.save(user);
+    }
+
+    private static List<String> names(List<UserNameIndex.Key> keys) {
+        return keys.stream().map(UserNameIndex.Key::name).toList();
+    }
+
+    @Test
+    @DisplayName("Search - Built On First Search And Ranked By Match Quality")
+    void search_RankedByMatchQuality() {
+        // Given
+        store("Maria Anna", NOW);
+        store("Johanna", NOW);
+        store("Ann", NOW);
+        store("Annabel Lee", NOW);
+        store("Bob", NOW);
+
+        // When
+        List<UserNameIndex.Key> matches = index.search("ann", 10, null);
+
+        // Then
+        assertThat(names(matches)).containsExactly("ann", "annabel lee", "maria anna", "johanna");
+        assertThat(matches).extracting(UserNameIndex.Key::score).containsExactly(
+            UserNameIndex.EXACT, UserNameIndex.PREFIX, UserNameIndex.WORD_PREFIX, UserNameIndex.SUBSTRING);
+    }
+
+    @Test
+    @DisplayName("Search - Candidates Must Contain The Whole Query")
+    void search_VerifiesWholeQuery() {
+        // Given: "ohn" and "nny" both appear in "johnny", "john" lacks "nny"
+        store("Johnny", NOW);
+        store("John", NOW);
+
+        // When & Then
+        assertThat(names(index.search("ohnny", 10, null))).containsExactly("johnny");
+        assertThat(index.search("xyz", 10, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search - Cursor Pages Through Results Without Repeats")
+    void search_CursorPagination() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            store("Smith " + i, NOW);
+        }
+
+        // When
+        List<UserNameIndex.Key> first = index.search("smith", 3, null);
+        String cursor = first.get(2).encode();
+        List<UserNameIndex.Key> second = index.search("smith", 3, UserNameIndex.Key.decode(cursor));
+        List<UserNameIndex.Key> third = index.search("smith", 3, second.get(2));
+
+        // Then
+        assertThat(names(first)).containsExactly("smith 0", "smith 1", "smith 2");
+        assertThat(names(second)).containsExactly("smith 3", "smith 4", "smith 5");
+        assertThat(names(third)).containsExactly("smith 6");
+        assertThat(UserNameIndex.Key.decode(cursor)).isEqualTo(first.get(2));
+        assertThatThrownBy(() -> UserNameIndex.Key.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Update And Remove - Local Writes Apply Immediately, Older Versions Are Ignored")
+    void updateAndRemove_ApplyImmediately() {
+        // Given
+        User user = store("Alice Smith", NOW);
+        assertThat(index.search("alice", 10, null)).hasSize(1);
+
+        // When
+        index.update(user.getId(), "Alicia Jones", 2);
+        index.update(user.getId(), "Alice Smith", 1);
+
+        // Then
+        assertThat(index.search("alice", 10, null)).isEmpty();
+        assertThat(names(index.search("jones", 10, null))).containsExactly("alicia jones");
+
+        // When
+        index.remove(user.getId());
+
+        // Then
+        assertThat(index.search("jones", 10, null)).isEmpty();
+        index.update(user.getId(), "Alicia Jones", 3);
+        assertThat(index.search("jones", 10, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Refresh - Loads Users Updated Elsewhere Once The Interval Has Passed")
+    void refresh_LoadsRecentChanges() {
+        // Given
+        store("Carol", NOW.minusHours(1));
+        assertThat(index.search("carol", 10, null)).hasSize(1);
+        store("Caroline", NOW);
+
+        // When & Then: within the interval the index is not refreshed
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(index.search("carol", 10, null)).hasSize(1);
+
+        // When & Then: after it, users updated since the last refresh are loaded
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(names(index.search("carol", 10, null))).containsExactly("carol", "caroline");
+    }
+
+    @Test
+    @DisplayName("Compact - Changes Are Merged Into The Segment Without Changing Results")
+    void compact_MergesChanges() {
+        // Given
+        User alice = store("Alice Smith", NOW);
+        User bob = store("Bob Smith", NOW);
+        store("Carl Smith", NOW);
+        index.search("smith", 10, null);
+        index.update(alice.getId(), "Alice Jones", 1);
+        index.remove(bob.getId());
+        index.update("507f1f77bcf86cd799439099", "Dana Smith", 0);
+
+        // When
+        index.compact();
+
+        // Then
+        assertThat(names(index.search("smith", 10, null))).containsExactly("carl smith", "dana smith");
+        assertThat(names(index.search("jones", 10, null))).containsExactly("alice jones");
+
+        // When: writes after the merge land in the new delta
+        index.update(alice.getId(), "Alice Smith", 2);
+
+        // Then
+        assertThat(names(index.search("smith", 10, null))).containsExactly("carl smith", "dana smith", "alice smith");
+        assertThat(index.search("jones", 10, null)).isEmpty();
+    }
+}
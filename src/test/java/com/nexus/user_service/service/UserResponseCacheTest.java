@@ -0,0 +1,226 @@
+package com.nexus.user_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nexus.user_service.dto.response.ResponseEnvelope;
+import com.nexus.user_service.dto.response.UserResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("UserResponseCache Unit Tests")
+class UserResponseCacheTest {
+
+    private static final String USER_ID = "507f1f77bcf86cd799439011";
+
+    private UserResponseCache cache;
+    private ObjectMapper objectMapper;
+    private ResponseEnvelope.Success<UserResponseDTO> envelope;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new UserResponseCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "objectMapper", objectMapper);
+
+        UserResponseDTO user = new UserResponseDTO();
+        user.setId(USER_ID);
+        user.setEmail("john.doe@example.com");
+        user.setRoles(List.of("SUPPLIER"));
+        user.setWalletBalance(BigDecimal.valueOf(100.0));
+        envelope = ResponseEnvelope.success("User retrieved successfully", user);
+    }
+
+    @Test
+    @DisplayName("Write - Cached JSON Matches Serialised Envelope Apart From Timestamp")
+    void write_JsonMatchesEnvelope() throws Exception {
+        // Given
+        UserResponseCache.Entry entry = cache.put(USER_ID, cache.stamp(), 1L, "\"1\"", envelope);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        cache.write(entry, null, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"1\"");
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(withoutTimestamp(response.getContentAsString()))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(envelope)));
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("timestamp").asText()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Invalidate - No Tombstones Or Stamp Changes While Disabled")
+    void invalidate_DisabledIsNoOp() {
+        // Given
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        long stamp = cache.stamp();
+
+        // When
+        cache.invalidate(USER_ID, 3L);
+        cache.invalidate(USER_ID);
+
+        // Then
+        assertThat(cache.stamp()).isEqualTo(stamp);
+        assertThat(cache.get(USER_ID)).isNull();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "entries")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Write - Gzip Variant Decodes To The Same JSON")
+    void write_GzipVariantDecodes() throws Exception {
+        // Given
+        UserResponseCache.Entry entry = cache.put(USER_ID, cache.stamp(), 1L, "\"1\"", envelope);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        cache.write(entry, "br, gzip;q=0.8", response);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("ETag")).isEqualTo("W/\"1\"");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        byte[] decoded;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            decoded = in.readAllBytes();
+        }
+        assertThat(withoutTimestamp(new String(decoded, StandardCharsets.UTF_8)))
+                .isEqualTo(withoutTimestamp(objectMapper.writeValueAsString(envelope)));
+    }
+
+    @Test
+    @DisplayName("Invalidate - Removes Entry And Rejects Racing Put Of An Older Version")
+    void invalidate_RemovesEntryAndRejectsRacingPut() {
+        // Given
+        long stamp = cache.stamp();
+        cache.put(USER_ID, stamp, 1L, "\"1\"", envelope);
+
+        // When
+        cache.invalidate(USER_ID, 2L);
+        cache.put(USER_ID, stamp, 1L, "\"1\"", envelope);
+
+        // Then
+        assertThat(cache.get(USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Invalidate - Reader Of The Written Version Keeps Or Gets Its Entry")
+    void invalidate_WrittenVersionStaysCacheable() {
+        // Given
+        long stamp = cache.stamp();
+        cache.put(USER_ID, stamp, 2L, "\"2\"", envelope);
+
+        // When
+        cache.invalidate(USER_ID, 2L);
+
+        // Then
+        assertThat(cache.get(USER_ID).etag()).isEqualTo("\"2\"");
+        cache.invalidate(USER_ID, 3L);
+        cache.put(USER_ID, stamp, 3L, "\"3\"", envelope);
+        assertThat(cache.get(USER_ID).etag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    @DisplayName("Put - Older Version Never Replaces A Newer Entry")
+    void put_OlderVersionDoesNotReplaceNewer() {
+        // Given
+        cache.put(USER_ID, cache.stamp(), 5L, "\"5\"", envelope);
+
+        // When
+        cache.put(USER_ID, cache.stamp(), 4L, "\"4\"", envelope);
+
+        // Then
+        assertThat(cache.get(USER_ID).etag()).isEqualTo("\"5\"");
+    }
+
+    @Test
+    @DisplayName("Invalidate - Deleted User Is Not Cached Again")
+    void invalidate_DeletedUserNotCachedAgain() {
+        // Given
+        long stamp = cache.stamp();
+        cache.invalidate(USER_ID);
+
+        // When
+        cache.put(USER_ID, cache.stamp(), 9L, "\"9\"", envelope);
+
+        // Then
+        assertThat(cache.get(USER_ID)).isNull();
+        assertThat(stamp).isNotEqualTo(cache.stamp());
+    }
+
+    @Test
+    @DisplayName("Invalidate - Drops The User List")
+    void invalidate_DropsUserList() {
+        // Given
+        cache.putUserList(cache.stamp(), envelope);
+        assertThat(cache.getUserList()).isNotNull();
+
+        // When
+        cache.invalidate(USER_ID);
+
+        // Then
+        assertThat(cache.getUserList()).isNull();
+    }
+
+    @Test
+    @DisplayName("Write - Small Entries Stay Uncompressed")
+    void write_SmallEntriesUncompressed() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(cache, "minCompressedSize", 1_000_000);
+        UserResponseCache.Entry entry = cache.put(USER_ID, cache.stamp(), 1L, "\"1\"", envelope);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        cache.write(entry, "gzip", response);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("success").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Put - Bounded By Max Entries")
+    void put_BoundedByMaxEntries() {
+        // When
+        cache.put("a", cache.stamp(), 1L, "\"1\"", envelope);
+        cache.put("b", cache.stamp(), 1L, "\"1\"", envelope);
+        cache.put("c", cache.stamp(), 1L, "\"1\"", envelope);
+
+        // Then
+        assertThat(cache.get("c")).isNotNull();
+        assertThat((cache.get("a") == null ? 0 : 1) + (cache.get("b") == null ? 0 : 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cacheable - JSON Only")
+    void isCacheable_JsonOnly() {
+        assertThat(cache.isCacheable(null)).isTrue();
+        assertThat(cache.isCacheable("*/*")).isTrue();
+        assertThat(cache.isCacheable("application/json")).isTrue();
+        assertThat(cache.isCacheable("application/cbor")).isFalse();
+        assertThat(cache.isCacheable("application/x-jackson-smile, application/json;q=0.5")).isFalse();
+        assertThat(UserResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(UserResponseCache.acceptsGzip("deflate")).isFalse();
+    }
+
+    private static String withoutTimestamp(String json) {
+        return json.replaceAll("\"timestamp\":\"[^\"]*\"", "\"timestamp\":\"\"");
+    }
+}
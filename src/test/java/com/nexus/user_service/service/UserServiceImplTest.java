@@ -3,25 +3,39 @@ package com.nexus.user_service.service;
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
 import com.nexus.user_service.dto.request.UserValidationRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.dto.response.UserSearchResponseDTO;
 import com.nexus.user_service.dto.response.UserBatchResponseDTO;
+import com.nexus.user_service.model.FundingRequestLink;
 import com.nexus.user_service.model.User;
+import com.nexus.user_service.repository.FundingRequestLinkRepository;
 import com.nexus.user_service.repository.UserRepository;
+import com.nexus.user_service.utils.ETagUtils;
+import com.nexus.user_service.utils.ExceptionUtils;
 import com.nexus.user_service.utils.PasswordUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,6 +49,18 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserResponseCache userResponseCache;
+
+    @Mock
+    private FundingRequestLinkRepository fundingRequestLinkRepository;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2025-01-15T10:30:00Z"), ZoneOffset.UTC);
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -69,6 +95,8 @@ class UserServiceImplTest {
         updateRequestDTO.setEmail("john.updated@example.com");
         updateRequestDTO.setName("John Updated");
 
+        ReflectionTestUtils.setField(userService, "maxUpdateAttempts", 3);
+
         validationRequestDTO = new UserValidationRequestDTO();
         validationRequestDTO.setEmail("john.doe@example.com");
         validationRequestDTO.setPassword("password123");
@@ -93,7 +121,13 @@ class UserServiceImplTest {
             assertThat(result.getId()).isEqualTo(sampleUser.getId());
             assertThat(result.getEmail()).isEqualTo(sampleUser.getEmail());
             verify(userRepository).existsByEmail(createRequestDTO.getEmail());
-            verify(userRepository).save(any(User.class));
+            ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+            verify(userRepository).save(saved.capture());
+            verify(userResponseCache).invalidate(sampleUser.getId(), 0L);
+            verify(userNameIndex).update(sampleUser.getId(), sampleUser.getName(), 0L);
+            assertThat(saved.getValue().getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 30));
+            assertThat(saved.getValue().getUpdatedAt()).isEqualTo(saved.getValue().getCreatedAt());
+            verify(clock, times(1)).instant();
             passwordUtilsMock.verify(() -> PasswordUtils.hashPassword(createRequestDTO.getPassword()));
         }
     }
@@ -266,16 +300,141 @@ class UserServiceImplTest {
         // Given
         when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
         when(userRepository.existsByEmail(updateRequestDTO.getEmail())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(sampleUser);
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(true);
+
+        LocalDateTime createdAt = sampleUser.getCreatedAt();
 
         // When
         User result = userService.updateUser(sampleUser.getId(), updateRequestDTO);
 
         // Then
         assertThat(result).isNotNull();
+        assertThat(sampleUser.getUpdatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 30));
+        assertThat(sampleUser.getCreatedAt()).isEqualTo(createdAt);
+        verify(clock, times(1)).instant();
         verify(userRepository).findById(sampleUser.getId());
         verify(userRepository).existsByEmail(updateRequestDTO.getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).replaceIfVersion(sampleUser, 0L);
+        verify(userResponseCache).invalidate(sampleUser.getId(), 0L);
+        verify(userNameIndex).update(sampleUser.getId(), sampleUser.getName(), 0L);
+    }
+
+    @Test
+    @DisplayName("Update User - Funding Requests Linked With Embedded IDs Moved Out")
+    void updateUser_FundingRequests_LinkedInOwnCollection() {
+        // Given
+        sampleUser.setFundingRequestIds(new ArrayList<>(List.of("req1", "req2")));
+        updateRequestDTO.setEmail(null);
+        updateRequestDTO.setFundingRequestIds(List.of("req2", "req3"));
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(true);
+        when(fundingRequestLinkRepository.addAll(eq(sampleUser.getId()), anyCollection(), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.clearFundingRequestIds(sampleUser.getId(), List.of("req1", "req2"))).thenReturn(true);
+
+        // When
+        User result = userService.updateUser(sampleUser.getId(), updateRequestDTO);
+
+        // Then
+        InOrder inOrder = inOrder(userRepository, fundingRequestLinkRepository);
+        inOrder.verify(userRepository).replaceIfVersion(sampleUser, 0L);
+        inOrder.verify(fundingRequestLinkRepository).addAll(sampleUser.getId(),
+            new LinkedHashSet<>(List.of("req1", "req2", "req3")), LocalDateTime.of(2025, 1, 15, 10, 30));
+        inOrder.verify(userRepository).clearFundingRequestIds(sampleUser.getId(), List.of("req1", "req2"));
+        assertThat(result.getFundingRequestIds()).isEmpty();
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(userResponseCache).invalidate(sampleUser.getId(), 1L);
+    }
+
+    @Test
+    @DisplayName("Update User - Lost Race Links No Funding Requests")
+    void updateUser_VersionConflict_NoFundingLinks() {
+        // Given
+        UserUpdateRequestDTO linkOnly = new UserUpdateRequestDTO();
+        linkOnly.setFundingRequestIds(List.of("req1"));
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(sampleUser.getId(), linkOnly))
+            .isInstanceOf(ExceptionUtils.UpdateConflictException.class);
+        verify(userRepository, times(3)).replaceIfVersion(any(User.class), anyLong());
+        verifyNoInteractions(fundingRequestLinkRepository);
+        verify(userRepository, never()).clearFundingRequestIds(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Update User - No Funding Requests Leaves Links Alone")
+    void updateUser_NoFundingRequests_NoLinkWrites() {
+        // Given
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+        when(userRepository.existsByEmail(updateRequestDTO.getEmail())).thenReturn(false);
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(true);
+
+        // When
+        userService.updateUser(sampleUser.getId(), updateRequestDTO);
+
+        // Then
+        verifyNoInteractions(fundingRequestLinkRepository);
+    }
+
+    @Test
+    @DisplayName("Update User - Lost Race With Commuting Change Is Retried On Fresh Document")
+    void updateUser_VersionConflict_AdjustmentRetried() {
+        // Given
+        User concurrent = createSecondUser();
+        concurrent.setId(sampleUser.getId());
+        concurrent.setWalletBalance(BigDecimal.valueOf(150.0));
+        concurrent.setVersion(4);
+        UserUpdateRequestDTO adjustment = new UserUpdateRequestDTO();
+        adjustment.setWalletAdjustment(BigDecimal.valueOf(-20.0));
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser), Optional.of(concurrent));
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(false, true);
+
+        // When
+        User result = userService.updateUser(sampleUser.getId(), adjustment);
+
+        // Then
+        assertThat(result).isSameAs(concurrent);
+        assertThat(result.getWalletBalance()).isEqualByComparingTo("130.0");
+        verify(userRepository).replaceIfVersion(sampleUser, 0L);
+        verify(userRepository).replaceIfVersion(concurrent, 4L);
+        verify(clock, times(1)).instant();
+    }
+
+    @Test
+    @DisplayName("Update User - Concurrent Change To A Requested Field Is A Conflict")
+    void updateUser_VersionConflict_ChangedFieldRejected() {
+        // Given
+        User concurrent = createSecondUser();
+        concurrent.setId(sampleUser.getId());
+        concurrent.setEmail(sampleUser.getEmail());
+        concurrent.setName("Renamed Concurrently");
+        concurrent.setVersion(1);
+        updateRequestDTO.setEmail(null);
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser), Optional.of(concurrent));
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(sampleUser.getId(), updateRequestDTO))
+                .isInstanceOf(ExceptionUtils.UpdateConflictException.class)
+                .hasMessageContaining("version 1");
+        verify(userRepository, times(1)).replaceIfVersion(any(User.class), anyLong());
+        verify(userResponseCache, never()).invalidate(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Update User - Gives Up After Max Attempts")
+    void updateUser_VersionConflict_BoundedRetries() {
+        // Given
+        UserUpdateRequestDTO adjustment = new UserUpdateRequestDTO();
+        adjustment.setWalletAdjustment(BigDecimal.ONE);
+        when(userRepository.findById(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+        when(userRepository.replaceIfVersion(any(User.class), anyLong())).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(sampleUser.getId(), adjustment))
+                .isInstanceOf(ExceptionUtils.UpdateConflictException.class);
+        verify(userRepository, times(3)).replaceIfVersion(any(User.class), anyLong());
     }
 
     @Test
@@ -291,7 +450,8 @@ class UserServiceImplTest {
                 .hasMessage("User with ID " + nonExistentId + " not found");
 
         verify(userRepository).findById(nonExistentId);
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).replaceIfVersion(any(User.class), anyLong());
+        verify(userResponseCache, never()).invalidate(anyString(), anyLong());
     }
 
     @Test
@@ -308,7 +468,7 @@ class UserServiceImplTest {
 
         verify(userRepository).findById(sampleUser.getId());
         verify(userRepository).existsByEmail(updateRequestDTO.getEmail());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).replaceIfVersion(any(User.class), anyLong());
     }
 
     @Test
@@ -325,6 +485,121 @@ class UserServiceImplTest {
         assertThat(result).isTrue();
         verify(userRepository).existsById(sampleUser.getId());
         verify(userRepository).deleteById(sampleUser.getId());
+        verify(fundingRequestLinkRepository).deleteByUserId(sampleUser.getId());
+        verify(userResponseCache).invalidate(sampleUser.getId());
+        verify(userNameIndex).remove(sampleUser.getId());
+    }
+
+    @Test
+    @DisplayName("Search Users - Page In Index Order With Next Cursor, Stale Matches Skipped")
+    void searchUsers_IndexOrderAndStaleMatches() {
+        // Given
+        User renamed = new User();
+        renamed.setId("507f1f77bcf86cd799439012");
+        renamed.setName("Someone Else");
+        renamed.setVersion(4);
+        UserNameIndex.Key johnDoe = new UserNameIndex.Key(UserNameIndex.PREFIX, "john doe", sampleUser.getId());
+        UserNameIndex.Key johnny = new UserNameIndex.Key(UserNameIndex.PREFIX, "johnny", renamed.getId());
+        UserNameIndex.Key deleted = new UserNameIndex.Key(UserNameIndex.SUBSTRING, "big john", "507f1f77bcf86cd799439013");
+        UserNameIndex.Key beyondPage = new UserNameIndex.Key(UserNameIndex.SUBSTRING, "elton john", "507f1f77bcf86cd799439014");
+        when(userNameIndex.search("john", 4, null)).thenReturn(List.of(johnDoe, johnny, deleted, beyondPage));
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(2);
+            action.accept(renamed);
+            action.accept(sampleUser);
+            return null;
+        }).when(userRepository).forEachByIdWithFields(eq(List.of(johnDoe.id(), johnny.id(), deleted.id())), anyCollection(), any());
+
+        // When
+        UserSearchResponseDTO result = userService.searchUsers("  JOHN ", 3, null);
+
+        // Then
+        assertThat(result.getUsers()).extracting("id").containsExactly(sampleUser.getId());
+        assertThat(result.getNextCursor()).isEqualTo(deleted.encode());
+        verify(userNameIndex).remove(deleted.id());
+        verify(userNameIndex).update(renamed.getId(), "Someone Else", 4);
+    }
+
+    @Test
+    @DisplayName("Search Users - Cursor Is Decoded, Malformed Cursor Rejected")
+    void searchUsers_Cursor() {
+        // Given
+        UserNameIndex.Key after = new UserNameIndex.Key(UserNameIndex.EXACT, "john", sampleUser.getId());
+        when(userNameIndex.search("john", 21, after)).thenReturn(List.of());
+
+        // When
+        UserSearchResponseDTO result = userService.searchUsers("john", 20, after.encode());
+
+        // Then
+        assertThat(result.getUsers()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        assertThatThrownBy(() -> userService.searchUsers("john", 20, "%%%"))
+                .isInstanceOf(ExceptionUtils.InvalidUserDataException.class)
+                .hasMessage("Invalid search cursor");
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - Embedded IDs Moved Before Paging")
+    void getFundingRequests_MovesEmbeddedIds() {
+        // Given
+        User projected = new User();
+        projected.setId(sampleUser.getId());
+        projected.setName(sampleUser.getName());
+        projected.setFundingRequestIds(new ArrayList<>(List.of("req1", "req2")));
+        projected.setVersion(2);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        when(userRepository.findByIdWithFields(sampleUser.getId(), Set.of("name", "fundingRequestIds", "version")))
+            .thenReturn(Optional.of(projected));
+        when(userRepository.clearFundingRequestIds(sampleUser.getId(), List.of("req1", "req2"))).thenReturn(true);
+        when(fundingRequestLinkRepository.findByUserId(sampleUser.getId(), 0, 1))
+            .thenReturn(List.of(new FundingRequestLink(sampleUser.getId(), "req1", now)));
+        when(fundingRequestLinkRepository.countByUserId(sampleUser.getId())).thenReturn(2L);
+
+        // When
+        Optional<FundingRequestPageResponseDTO> result = userService.getFundingRequests(sampleUser.getId(), 0, 1);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getFundingRequests()).hasSize(1);
+        assertThat(result.get().getFundingRequests().get(0).getFundingRequestId()).isEqualTo("req1");
+        assertThat(result.get().getTotal()).isEqualTo(2);
+        assertThat(result.get().getTotalPages()).isEqualTo(2);
+        verify(fundingRequestLinkRepository).addAll(sampleUser.getId(), List.of("req1", "req2"), now);
+        verify(userRepository).clearFundingRequestIds(sampleUser.getId(), List.of("req1", "req2"));
+        verify(userResponseCache).invalidate(sampleUser.getId(), 3L);
+        verify(userNameIndex).update(sampleUser.getId(), sampleUser.getName(), 3L);
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - Embedded IDs Already Moved By Another Request Leave Cache Alone")
+    void getFundingRequests_ClearLost_NoInvalidation() {
+        // Given
+        User projected = new User();
+        projected.setId(sampleUser.getId());
+        projected.setFundingRequestIds(new ArrayList<>(List.of("req1")));
+        when(userRepository.findByIdWithFields(eq(sampleUser.getId()), anyCollection())).thenReturn(Optional.of(projected));
+        when(userRepository.clearFundingRequestIds(sampleUser.getId(), List.of("req1"))).thenReturn(false);
+
+        // When
+        userService.getFundingRequests(sampleUser.getId(), 0, 10);
+
+        // Then
+        verifyNoInteractions(userResponseCache, userNameIndex);
+    }
+
+    @Test
+    @DisplayName("Get Funding Requests - User Not Found")
+    void getFundingRequests_UserNotFound() {
+        // Given
+        String nonExistentId = "507f1f77bcf86cd799439999";
+        when(userRepository.findByIdWithFields(eq(nonExistentId), anyCollection())).thenReturn(Optional.empty());
+
+        // When
+        Optional<FundingRequestPageResponseDTO> result = userService.getFundingRequests(nonExistentId, 0, 20);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(fundingRequestLinkRepository);
     }
 
     @Test
@@ -467,7 +742,9 @@ class UserServiceImplTest {
         assertThat(result.get(0).getId()).isEqualTo(sampleUser.getId());
         assertThat(result.get(0).getEmail()).isEqualTo(sampleUser.getEmail());
         assertThat(result.get(1).getId()).isEqualTo("507f1f77bcf86cd799439999");
+        assertThat(result.get(0).isFound()).isTrue();
         assertThat(result.get(1).getEmail()).isNull(); // Not found user
+        assertThat(result.get(1).isFound()).isFalse();
         verify(userRepository).findAllById(userIds);
     }
 
@@ -498,6 +775,120 @@ class UserServiceImplTest {
         verify(userRepository, never()).findAllById(anyList());
     }
 
+    @Test
+    @DisplayName("Get Users Batch - Projected Fields")
+    void getUsersBatch_ProjectedFields() {
+        // Given
+        List<String> userIds = Arrays.asList(sampleUser.getId(), "507f1f77bcf86cd799439999");
+        Set<String> fields = new LinkedHashSet<>(Arrays.asList("id", "email"));
+        when(userRepository.findAllByIdWithFields(userIds, fields)).thenReturn(Arrays.asList(sampleUser));
+
+        // When
+        List<UserBatchResponseDTO> result = userService.getUsersBatch(userIds, fields);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getEmail()).isEqualTo(sampleUser.getEmail());
+        assertThat(result.get(1).getEmail()).isNull();
+        verify(userRepository).findAllByIdWithFields(userIds, fields);
+        verify(userRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Get Users Batch - Id Only Selection Still Marks Found Users")
+    void getUsersBatch_IdOnlyFields_FoundMarker() {
+        // Given
+        List<String> userIds = Arrays.asList(sampleUser.getId(), "507f1f77bcf86cd799439999");
+        Set<String> fields = new LinkedHashSet<>(List.of("id"));
+        User projected = new User();
+        projected.setId(sampleUser.getId());
+        when(userRepository.findAllByIdWithFields(userIds, fields)).thenReturn(List.of(projected));
+
+        // When
+        List<UserBatchResponseDTO> result = userService.getUsersBatch(userIds, fields, null);
+
+        // Then
+        assertThat(result).extracting(UserBatchResponseDTO::isFound).containsExactly(true, false);
+        assertThat(result).extracting(UserBatchResponseDTO::getEmail).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Get User by ID - Projected Fields")
+    void getUserById_ProjectedFields() {
+        // Given
+        Set<String> fields = new LinkedHashSet<>(Arrays.asList("id", "email"));
+        when(userRepository.findByIdWithFields(sampleUser.getId(), fields)).thenReturn(Optional.of(sampleUser));
+
+        // When
+        Optional<User> result = userService.getUserById(sampleUser.getId(), fields);
+
+        // Then
+        assertThat(result).isPresent();
+        verify(userRepository).findByIdWithFields(sampleUser.getId(), fields);
+        verify(userRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Get Users Batch - Known Versions Omit Unchanged Users")
+    void getUsersBatch_KnownVersionsOmitUnchanged() {
+        // Given
+        User secondUser = createSecondUser();
+        secondUser.setVersion(3);
+        List<String> userIds = Arrays.asList(sampleUser.getId(), secondUser.getId());
+        Map<String, String> knownVersions = new HashMap<>();
+        knownVersions.put(sampleUser.getId(), ETagUtils.versionOf(sampleUser));
+        knownVersions.put(secondUser.getId(), "0");
+        when(userRepository.findAllByIdWithFields(eq(userIds), anyCollection())).thenReturn(Arrays.asList(sampleUser, secondUser));
+
+        // When
+        List<UserBatchResponseDTO> result = userService.getUsersBatch(userIds, null, knownVersions);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(secondUser.getId());
+        assertThat(result.get(0).getVersion()).isEqualTo(ETagUtils.versionOf(secondUser));
+    }
+
+    @Test
+    @DisplayName("Get User Version - Version Projection Only")
+    void getUserVersion_VersionProjectionOnly() {
+        // Given
+        when(userRepository.findByIdWithFields(sampleUser.getId(), Set.of("version"))).thenReturn(Optional.of(sampleUser));
+
+        // When
+        Optional<String> result = userService.getUserVersion(sampleUser.getId());
+
+        // Then
+        assertThat(result).contains(ETagUtils.versionOf(sampleUser));
+        verify(userRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Stream Users Batch - Entries In Request Order With Counts")
+    @SuppressWarnings("unchecked")
+    void streamUsersBatch_RequestOrderWithCounts() {
+        // Given
+        User secondUser = createSecondUser();
+        String missingId = "507f1f77bcf86cd799439999";
+        List<String> userIds = Arrays.asList(secondUser.getId(), missingId, sampleUser.getId());
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(2);
+            action.accept(sampleUser);
+            action.accept(secondUser);
+            return null;
+        }).when(userRepository).forEachByIdWithFields(eq(userIds), anyCollection(), any(Consumer.class));
+        List<UserBatchResponseDTO> written = new ArrayList<>();
+
+        // When
+        UserService.BatchLookupSummary summary = userService.streamUsersBatch(userIds, null, null, written::add);
+
+        // Then
+        assertThat(written).extracting(UserBatchResponseDTO::getId).containsExactly(secondUser.getId(), missingId, sampleUser.getId());
+        assertThat(written.get(1).getEmail()).isNull();
+        assertThat(summary).isEqualTo(new UserService.BatchLookupSummary(3, 2, 1, 0));
+        verify(userRepository, never()).findAllById(any());
+    }
+
     // Helper method to create a second user for testing
     private User createSecondUser() {
         User secondUser = new User();
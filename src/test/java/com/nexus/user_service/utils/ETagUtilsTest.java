@@ -0,0 +1,57 @@
+package com.nexus.user_service.utils;
+
+import com.nexus.user_service.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("ETagUtils Unit Tests")
+class ETagUtilsTest {
+
+    @Test
+    @DisplayName("Version - Document Version Counter")
+    void versionOf_DocumentVersion() {
+        // Given
+        User user = new User();
+        user.setUpdatedAt(LocalDateTime.of(2025, 11, 21, 17, 48, 18, 179_000_000));
+        user.setVersion(7);
+
+        // When & Then
+        assertThat(ETagUtils.versionOf(user)).isEqualTo("7");
+        assertThat(ETagUtils.versionOf(new User())).isEqualTo("0");
+        assertThat(ETagUtils.versionOf(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("ETag - Weak, Sparse Representation Differs From Full")
+    void toETag_SparseRepresentationDiffers() {
+        assertThat(ETagUtils.toETag("42", null)).isEqualTo("W/\"42\"");
+        assertThat(ETagUtils.toETag("42", Set.of("id"))).startsWith("W/\"42-").isNotEqualTo("W/\"42\"");
+    }
+
+    @Test
+    @DisplayName("Weaken - Adds W/ Once")
+    void weaken_AddsPrefixOnce() {
+        assertThat(ETagUtils.weaken("\"42\"")).isEqualTo("W/\"42\"");
+        assertThat(ETagUtils.weaken("W/\"42\"")).isEqualTo("W/\"42\"");
+        assertThat(ETagUtils.weaken(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match - Lists, Weak Tags And Wildcard")
+    void matches_ListsWeakTagsAndWildcard() {
+        assertThat(ETagUtils.matches("\"41\", \"42\"", "\"42\"")).isTrue();
+        assertThat(ETagUtils.matches("W/\"42\"", "\"42\"")).isTrue();
+        assertThat(ETagUtils.matches("*", "\"42\"")).isTrue();
+        assertThat(ETagUtils.matches("\"41\"", "\"42\"")).isFalse();
+        assertThat(ETagUtils.matches(null, "\"42\"")).isFalse();
+        assertThat(ETagUtils.matches("\"42\"", "W/\"42\"")).isTrue();
+        assertThat(ETagUtils.matches("W/\"42\"", "W/\"42\"")).isTrue();
+    }
+}
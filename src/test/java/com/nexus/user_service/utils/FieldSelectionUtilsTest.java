@@ -0,0 +1,51 @@
+package com.nexus.user_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("FieldSelectionUtils Unit Tests")
+class FieldSelectionUtilsTest {
+
+    @Test
+    @DisplayName("Validation - Allowed Fields")
+    void getFieldsValidationError_AllowedFields_ReturnsNull() {
+        assertThat(FieldSelectionUtils.getFieldsValidationError("email, roles", FieldSelectionUtils.USER_DETAIL_FIELDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Validation - Unknown Field")
+    void getFieldsValidationError_UnknownField_ReturnsError() {
+        assertThat(FieldSelectionUtils.getFieldsValidationError("email,passwordHash", FieldSelectionUtils.USER_DETAIL_FIELDS))
+                .startsWith("Invalid field: passwordHash");
+    }
+
+    @Test
+    @DisplayName("Validation - Field Not Allowed For Batch")
+    void getFieldsValidationError_FieldNotInBatchAllowList_ReturnsError() {
+        assertThat(FieldSelectionUtils.getFieldsValidationError("name", FieldSelectionUtils.USER_BATCH_FIELDS))
+                .startsWith("Invalid field: name");
+    }
+
+    @Test
+    @DisplayName("Validation - Empty Entries")
+    void getFieldsValidationError_EmptyEntries_ReturnsError() {
+        assertThat(FieldSelectionUtils.getFieldsValidationError("", FieldSelectionUtils.USER_DETAIL_FIELDS)).isNotNull();
+        assertThat(FieldSelectionUtils.getFieldsValidationError("email,,roles", FieldSelectionUtils.USER_DETAIL_FIELDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Parse - Allow-List Order With Id")
+    void parseFields_ReturnsAllowListOrderWithId() {
+        // When
+        Set<String> selection = FieldSelectionUtils.parseFields("walletBalance,email,email", FieldSelectionUtils.USER_DETAIL_FIELDS);
+
+        // Then
+        assertThat(selection).containsExactly("id", "email", "walletBalance");
+    }
+}
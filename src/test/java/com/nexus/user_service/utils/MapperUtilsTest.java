@@ -2,8 +2,11 @@ package com.nexus.user_service.utils;
 
 import com.nexus.user_service.dto.request.UserCreateRequestDTO;
 import com.nexus.user_service.dto.request.UserUpdateRequestDTO;
+import com.nexus.user_service.dto.response.FundingRequestLinkResponseDTO;
+import com.nexus.user_service.dto.response.FundingRequestPageResponseDTO;
 import com.nexus.user_service.dto.response.UserListResponseDTO;
 import com.nexus.user_service.dto.response.UserResponseDTO;
+import com.nexus.user_service.model.FundingRequestLink;
 import com.nexus.user_service.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -74,6 +77,23 @@ class MapperUtilsTest {
         assertThat(user.getPasswordHash()).isNull(); // Not set in mapper
     }
 
+    @Test
+    @DisplayName("ToUser - Given Time Stamps Both Timestamps And Setters Leave Them Alone")
+    void toUser_GivenTime_StampsOnce() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+        // When
+        User user = MapperUtils.toUser(createRequestDTO, now);
+        user.setName("Renamed");
+        user.setWalletBalance(BigDecimal.ONE);
+        user.setRoles(List.of("ADMIN"));
+
+        // Then
+        assertThat(user.getCreatedAt()).isEqualTo(now);
+        assertThat(user.getUpdatedAt()).isEqualTo(now);
+    }
+
     @Test
     @DisplayName("ToUser - Null DTO Returns Null")
     void toUser_NullDTO_ReturnsNull() {
@@ -123,7 +143,6 @@ class MapperUtilsTest {
         assertThat(dto.getEmail()).isEqualTo(sampleUser.getEmail());
         assertThat(dto.getRoles()).isEqualTo(sampleUser.getRoles());
         assertThat(dto.getWalletBalance()).isEqualByComparingTo(sampleUser.getWalletBalance());
-        assertThat(dto.getFundingRequestIds()).isEqualTo(sampleUser.getFundingRequestIds());
         assertThat(dto.getCreatedAt()).isEqualTo(sampleUser.getCreatedAt());
         assertThat(dto.getUpdatedAt()).isEqualTo(sampleUser.getUpdatedAt());
     }
@@ -322,20 +341,41 @@ class MapperUtilsTest {
     }
 
     @Test
-    @DisplayName("UpdateUserFromDTO - Funding Request IDs Added Without Duplicates")
-    void updateUserFromDTO_FundingRequestIds_AddedWithoutDuplicates() {
+    @DisplayName("UpdateUserFromDTO - Funding Request IDs Left To The Service")
+    void updateUserFromDTO_FundingRequestIds_NotApplied() {
         // Given
         List<String> originalIds = new ArrayList<>(Arrays.asList("req1", "req2"));
         sampleUser.setFundingRequestIds(originalIds);
         
-        updateRequestDTO.setFundingRequestIds(Arrays.asList("req2", "req3", "req4")); // req2 is duplicate
+        updateRequestDTO.setFundingRequestIds(Arrays.asList("req2", "req3", "req4"));
 
         // When
         MapperUtils.updateUserFromDTO(sampleUser, updateRequestDTO);
 
         // Then
-        List<String> expectedIds = Arrays.asList("req1", "req2", "req3", "req4");
-        assertThat(sampleUser.getFundingRequestIds()).containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(sampleUser.getFundingRequestIds()).containsExactly("req1", "req2");
+    }
+
+    @Test
+    @DisplayName("ToFundingRequestPageResponseDTO - Maps Links And Page Counts")
+    void toFundingRequestPageResponseDTO_MapsLinks() {
+        // Given
+        LocalDateTime linkedAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        List<FundingRequestLink> links = List.of(
+            new FundingRequestLink("user123", "req1", linkedAt),
+            new FundingRequestLink("user123", "req2", linkedAt));
+
+        // When
+        FundingRequestPageResponseDTO dto = MapperUtils.toFundingRequestPageResponseDTO(links, 1, 2, 5);
+
+        // Then
+        assertThat(dto.getFundingRequests()).extracting(FundingRequestLinkResponseDTO::getFundingRequestId)
+            .containsExactly("req1", "req2");
+        assertThat(dto.getFundingRequests().get(0).getCreatedAt()).isEqualTo(linkedAt);
+        assertThat(dto.getPage()).isEqualTo(1);
+        assertThat(dto.getSize()).isEqualTo(2);
+        assertThat(dto.getTotal()).isEqualTo(5);
+        assertThat(dto.getTotalPages()).isEqualTo(3);
     }
 
     @Test
@@ -375,7 +415,6 @@ class MapperUtilsTest {
         assertThat(dto.getEmail()).isEqualTo(sampleUser.getEmail());
         assertThat(dto.getRoles()).isEqualTo(sampleUser.getRoles());
         assertThat(dto.getWalletBalance()).isEqualByComparingTo(sampleUser.getWalletBalance());
-        assertThat(dto.getFundingRequestIds()).isEqualTo(sampleUser.getFundingRequestIds());
         assertThat(dto.getCreatedAt()).isEqualTo(sampleUser.getCreatedAt());
         assertThat(dto.getUpdatedAt()).isEqualTo(sampleUser.getUpdatedAt());
     }
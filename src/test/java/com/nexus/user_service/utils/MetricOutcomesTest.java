@@ -0,0 +1,51 @@
+package com.nexus.user_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("MetricOutcomes Unit Tests")
+class MetricOutcomesTest {
+
+    @Test
+    @DisplayName("Status - Mapped to Outcome")
+    void forStatus() {
+        assertThat(MetricOutcomes.forStatus(200)).isEqualTo("success");
+        assertThat(MetricOutcomes.forStatus(304)).isEqualTo("success");
+        assertThat(MetricOutcomes.forStatus(404)).isEqualTo("not_found");
+        assertThat(MetricOutcomes.forStatus(409)).isEqualTo("conflict");
+        assertThat(MetricOutcomes.forStatus(400)).isEqualTo("error");
+        assertThat(MetricOutcomes.forStatus(500)).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("Result - Empty Optional Is Not Found")
+    void forResult() {
+        assertThat(MetricOutcomes.forResult(Optional.empty())).isEqualTo("not_found");
+        assertThat(MetricOutcomes.forResult(Optional.of("user"))).isEqualTo("success");
+        assertThat(MetricOutcomes.forResult(null)).isEqualTo("success");
+    }
+
+    @Test
+    @DisplayName("Exception - Classified by Message")
+    void forException() {
+        assertThat(MetricOutcomes.forException(new RuntimeException("User with ID 1 not found"))).isEqualTo("not_found");
+        assertThat(MetricOutcomes.forException(new RuntimeException("User with email a@b.c already exists"))).isEqualTo("conflict");
+        assertThat(MetricOutcomes.forException(new RuntimeException("Email a@b.c is already taken"))).isEqualTo("conflict");
+        assertThat(MetricOutcomes.forException(new RuntimeException("Database error"))).isEqualTo("error");
+        assertThat(MetricOutcomes.forException(new NullPointerException())).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("Exception - Typed Exceptions Classified by Type")
+    void forException_ByType() {
+        assertThat(MetricOutcomes.forException(ExceptionUtils.updateConflict("507f1f77bcf86cd799439011", 8))).isEqualTo("conflict");
+        assertThat(MetricOutcomes.forException(ExceptionUtils.duplicateEmail("a@b.c"))).isEqualTo("conflict");
+        assertThat(MetricOutcomes.forException(ExceptionUtils.userNotFound("507f1f77bcf86cd799439011"))).isEqualTo("not_found");
+    }
+}
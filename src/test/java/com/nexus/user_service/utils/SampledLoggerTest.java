@@ -0,0 +1,141 @@
+package com.nexus.user_service.utils;
+
+import com.nexus.user_service.logging.RequestDebugTurboFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@DisplayName("SampledLogger Unit Tests")
+class SampledLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final Logger logger = mock(Logger.class);
+    private final Logger summaryLogger = mock(Logger.class);
+
+    @Test
+    @DisplayName("Sample - First And Every Nth Call")
+    void sample_FirstAndEveryNthCall() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(true);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 10, 1_000, TimeUnit.SECONDS.toNanos(60), clock::get);
+
+        // When
+        int logged = 0;
+        for (int i = 0; i < 25; i++) {
+            if (sampled.sample("getUserById")) {
+                logged++;
+            }
+        }
+
+        // Then
+        assertThat(logged).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sample - Per-Second Budget Per Logger")
+    void sample_PerSecondBudget() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(true);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 1, 2, TimeUnit.SECONDS.toNanos(60), clock::get);
+
+        // When & Then
+        assertThat(sampled.sample("a")).isTrue();
+        assertThat(sampled.sample("b")).isTrue();
+        assertThat(sampled.sample("a")).isFalse();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sampled.sample("a")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sample - Nothing Sampled When INFO Disabled")
+    void sample_InfoDisabled() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(false);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 1, 100, TimeUnit.SECONDS.toNanos(60), clock::get);
+
+        // When & Then
+        assertThat(sampled.sample("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sample - Debug Requests Always Sampled Without Using The Budget")
+    void sample_DebugRequestBypassesSampling() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(false);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 10, 1, TimeUnit.SECONDS.toNanos(60), clock::get);
+
+        // When
+        int logged = 0;
+        RequestDebugTurboFilter.enable();
+        try {
+            for (int i = 0; i < 5; i++) {
+                if (sampled.sample("getUserById")) {
+                    logged++;
+                }
+            }
+        } finally {
+            RequestDebugTurboFilter.disable();
+        }
+
+        // Then
+        assertThat(logged).isEqualTo(5);
+        assertThat(sampled.sample("getUserById")).isFalse();
+        assertThat(sampled.drainSummary()).isEqualTo("getUserById: 6 calls (5 logged), 0 failed");
+    }
+
+    @Test
+    @DisplayName("Summary - Counts Every Call And Failure Once Per Interval")
+    void summary_CountsEveryCall() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(true);
+        when(logger.getName()).thenReturn("UserServiceImpl");
+        when(summaryLogger.isInfoEnabled()).thenReturn(true);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 100, 100, TimeUnit.SECONDS.toNanos(60), clock::get);
+        for (int i = 0; i < 250; i++) {
+            sampled.sample("getUserById");
+        }
+        sampled.failure("getUserById");
+        verify(summaryLogger, never()).info(anyString(), any(), any(), any());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        sampled.sample("updateUser");
+
+        // Then
+        verify(summaryLogger).info(anyString(), eq("UserServiceImpl"), eq(60L), contains("getUserById: 250 calls (3 logged), 1 failed"));
+        assertThat(sampled.drainSummary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Summary - Written When The Sampled Logger Is Above INFO")
+    void summary_WrittenWhenSampledLoggerAboveInfo() {
+        // Given
+        when(logger.isInfoEnabled()).thenReturn(false);
+        when(summaryLogger.isInfoEnabled()).thenReturn(true);
+        SampledLogger sampled = new SampledLogger(logger, summaryLogger, 1, 100, TimeUnit.SECONDS.toNanos(60), clock::get);
+        sampled.sample("getUserById");
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        sampled.sample("getUserById");
+
+        // Then
+        verify(summaryLogger).info(anyString(), any(), eq(60L), contains("getUserById: 2 calls (0 logged), 0 failed"));
+        verify(logger, never()).info(anyString(), any(), any(), any());
+    }
+}
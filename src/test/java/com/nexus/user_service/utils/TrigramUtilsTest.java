@@ -0,0 +1,29 @@
+package com.nexus.user_service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DisplayName("TrigramUtils Unit Tests")
+class TrigramUtilsTest {
+
+    @Test
+    @DisplayName("Normalize - Lower Case, No Accents, Single Spaces")
+    void normalize_FoldsCaseAccentsAndSeparators() {
+        assertThat(TrigramUtils.normalize("  José  O'Brien-Núñez ")).isEqualTo("jose o brien nunez");
+        assertThat(TrigramUtils.normalize("ANNA_MARIA 2")).isEqualTo("anna maria 2");
+        assertThat(TrigramUtils.normalize("--")).isEmpty();
+        assertThat(TrigramUtils.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Trigrams - Distinct Windows Across Word Boundaries")
+    void trigrams_DistinctWindows() {
+        assertThat(TrigramUtils.trigrams("ann ann")).containsExactly("ann", "nn ", "n a", " an");
+        assertThat(TrigramUtils.trigrams("abc")).containsExactly("abc");
+        assertThat(TrigramUtils.trigrams("ab")).isEmpty();
+    }
+}